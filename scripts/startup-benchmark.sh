@@ -0,0 +1,78 @@
+#!/usr/bin/env bash
+# Mede o tempo até a primeira resposta HTTP e o RSS logo após a inicialização em cada modo de execução.
+#
+# Uso: scripts/startup-benchmark.sh [modo ...]   (padrão: jvm fast aot cds)
+#   jvm     jar padrão
+#   fast    jar padrão com o perfil fast-startup
+#   aot     jar gerado com -P aot, executado com -Dspring.aot.enabled=true (perfil fast-startup)
+#   cds     jar extraído + arquivo AppCDS gerados com -P aot,cds (perfil fast-startup)
+#   native  executável gerado com -P native native:compile (perfil fast-startup)
+#
+# Gere os artefatos antes (mvn -P aot,cds package -DskipTests). Os modos com fast-startup não exigem banco
+# disponível para subir; o modo jvm precisa do PostgreSQL do docker-compose. Variáveis: PORT, RUNS, URL_PATH.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-8080}
+RUNS=${RUNS:-5}
+URL_PATH=${URL_PATH:-/actuator/health}
+JAR=target/clienteapi-0.0.1-SNAPSHOT.jar
+CDS_DIR=target/cds
+FAST="--spring.profiles.active=fast-startup"
+
+command_for() {
+    case "$1" in
+        jvm)    echo "java -jar $JAR --server.port=$PORT" ;;
+        fast)   echo "java -jar $JAR --server.port=$PORT $FAST" ;;
+        aot)    echo "java -Dspring.aot.enabled=true -jar $JAR --server.port=$PORT $FAST" ;;
+        cds)    echo "java -Dspring.aot.enabled=true -XX:SharedArchiveFile=$CDS_DIR/application.jsa -Xlog:cds=off -jar $CDS_DIR/clienteapi-0.0.1-SNAPSHOT.jar --server.port=$PORT $FAST" ;;
+        native) echo "target/clienteapi --server.port=$PORT $FAST" ;;
+        *)      echo "Modo desconhecido: $1" >&2; exit 1 ;;
+    esac
+}
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+rss_mb() {
+    awk '/VmRSS/ { printf "%.1f", $2 / 1024 }' "/proc/$1/status"
+}
+
+measure() {
+    local cmd=$1 start pid elapsed rss
+    start=$(now_ms)
+    $cmd > /dev/null 2>&1 &
+    pid=$!
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT$URL_PATH")" != "000" ]; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "O processo terminou antes de responder: $cmd" >&2
+            return 1
+        fi
+        sleep 0.02
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss=$(rss_mb "$pid")
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed $rss"
+}
+
+modes=("$@")
+[ ${#modes[@]} -eq 0 ] && modes=(jvm fast aot cds)
+
+printf "%-8s %28s %20s\n" "modo" "1a resposta (ms, mediana)" "RSS (MB, mediana)"
+for mode in "${modes[@]}"; do
+    cmd=$(command_for "$mode")
+    times=()
+    rsss=()
+    for _ in $(seq "$RUNS"); do
+        read -r t r < <(measure "$cmd")
+        times+=("$t")
+        rsss+=("$r")
+    done
+    median_t=$(printf "%s\n" "${times[@]}" | sort -n | awk '{ a[NR] = $1 } END { print a[int((NR + 1) / 2)] }')
+    median_r=$(printf "%s\n" "${rsss[@]}" | sort -n | awk '{ a[NR] = $1 } END { print a[int((NR + 1) / 2)] }')
+    printf "%-8s %28s %20s\n" "$mode" "$median_t" "$median_r"
+done
@@ -1,9 +1,12 @@
 package com.example.clienteapi;
 
+import com.example.clienteapi.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class ClienteapiApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,34 @@
+package com.example.clienteapi.adapter.in.messagequeue;
+
+import com.example.clienteapi.domain.model.TokenRevogado;
+import com.example.clienteapi.domain.service.RevogacaoTokenService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+@Slf4j
+public class TokenRevogadoMessageListener {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RevogacaoTokenService revogacaoTokenService;
+
+    public TokenRevogadoMessageListener(RevogacaoTokenService revogacaoTokenService) {
+        this.revogacaoTokenService = revogacaoTokenService;
+    }
+
+    @RabbitListener(queues = "#{revogacaoQueue.name}")
+    public void receiveMessage(String message) {
+        try {
+            JsonNode jsonNode = objectMapper.readTree(message);
+            revogacaoTokenService.aplicar(new TokenRevogado(jsonNode.get("jti").asLong(),
+                    Instant.ofEpochSecond(jsonNode.get("expiraEm").asLong())));
+        } catch (Exception e) {
+            log.error("Erro ao processar revogação de token recebida: {}", e.getMessage(), e);
+        }
+    }
+}
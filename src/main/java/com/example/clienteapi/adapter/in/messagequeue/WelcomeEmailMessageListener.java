@@ -1,7 +1,10 @@
 package com.example.clienteapi.adapter.in.messagequeue;
 
 import com.example.clienteapi.config.RabbitMQConfig;
+import com.example.clienteapi.config.logging.CorrelationId;
+import org.slf4j.MDC;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 import lombok.extern.slf4j.Slf4j;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,23 +21,23 @@ public class WelcomeEmailMessageListener {
 
 
     @RabbitListener(queues = RabbitMQConfig.QUEUE_NAME)
-    public void receiveMessage(String message) {
+    public void receiveMessage(String message,
+                               @Header(name = CorrelationId.HEADER, required = false) String correlationId) {
+        MDC.put(CorrelationId.MDC_KEY, CorrelationId.valido(correlationId) ? correlationId : CorrelationId.gerar());
         try {
             JsonNode jsonNode = objectMapper.readTree(message);
-            String email = jsonNode.get("email").asText();
-            String nome = jsonNode.get("nome").asText();
+            JsonNode clienteId = jsonNode.get("id");
 
-            log.info("Mensagem recebida da fila RabbitMQ para processar e-mail de boas-vindas:");
-            log.info("Para: {}", email);
-            log.info("Nome: {}", nome);
-            log.info("Processando envio de e-mail (simulado, pode demorar)...");
+            log.debug("Processando e-mail de boas-vindas do cliente {} (simulado, pode demorar)...", clienteId);
             Thread.sleep(3000);
-            log.info("E-mail de boas-vindas enviado com sucesso para {}", email);
+            log.info("E-mail de boas-vindas enviado com sucesso para o cliente {}", clienteId);
 
             messageProcessedForE2E.set(true);
 
         } catch (Exception e) {
             log.error("Erro ao processar mensagem da fila: {}", e.getMessage(), e);
+        } finally {
+            MDC.remove(CorrelationId.MDC_KEY);
         }
     }
 }
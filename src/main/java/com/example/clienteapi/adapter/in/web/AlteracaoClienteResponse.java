@@ -0,0 +1,17 @@
+package com.example.clienteapi.adapter.in.web;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlteracaoClienteResponse {
+    private long sequencia;
+    private String tipo;
+    private ClienteResponse cliente;
+    private Instant ocorridoEm;
+}
@@ -1,15 +1,26 @@
 package com.example.clienteapi.adapter.in.web;
 
+ import com.example.clienteapi.domain.model.RefreshToken;
+ import com.example.clienteapi.domain.service.RefreshTokenService;
  import com.example.clienteapi.domain.service.TokenService;
  import org.springframework.beans.factory.annotation.Autowired;
+ import org.springframework.http.HttpStatus;
+ import org.springframework.http.ResponseEntity;
  import org.springframework.security.authentication.AuthenticationManager;
  import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
  import org.springframework.security.core.Authentication;
+ import org.springframework.security.core.GrantedAuthority;
+ import org.springframework.security.core.userdetails.UserDetails;
+ import org.springframework.security.core.userdetails.UserDetailsService;
+ import org.springframework.security.core.userdetails.UsernameNotFoundException;
  import org.springframework.web.bind.annotation.PostMapping;
  import org.springframework.web.bind.annotation.RequestBody;
  import org.springframework.web.bind.annotation.RequestMapping;
  import org.springframework.web.bind.annotation.RestController;
 
+ import java.util.Collection;
+ import java.util.Optional;
+
  @RestController
  @RequestMapping("/login")
  public class AuthenticationController {
@@ -20,14 +31,46 @@ package com.example.clienteapi.adapter.in.web;
      @Autowired
      private TokenService tokenService;
 
+     @Autowired
+     private RefreshTokenService refreshTokenService;
+
+     @Autowired
+     private UserDetailsService userDetailsService;
+
      @PostMapping
      public TokenResponse login(@RequestBody LoginRequest loginRequest) {
          Authentication authentication = authenticationManager.authenticate(
                  new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword())
          );
 
-         String token = tokenService.gerarToken(authentication);
+         return emitirTokens(authentication.getName(), authentication.getAuthorities(),
+                 refreshTokenService.emitir(authentication.getName()));
+     }
+
+     /**
+      * Troca um refresh token válido por um novo par de tokens; o refresh token usado deixa de valer e, se for
+      * apresentado de novo, revoga todos os refresh tokens do mesmo login.
+      */
+     @PostMapping("/refresh")
+     public ResponseEntity<TokenResponse> refresh(@RequestBody RefreshTokenRequest request) {
+         Optional<RefreshToken> consumido = refreshTokenService.consumir(request.getRefreshToken());
+         Optional<UserDetails> usuario = consumido.map(RefreshToken::getUsername).flatMap(this::carregarUsuario);
+         return usuario
+                 .map(userDetails -> ResponseEntity.ok(emitirTokens(userDetails.getUsername(), userDetails.getAuthorities(),
+                         refreshTokenService.rotacionar(consumido.get()))))
+                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.UNAUTHORIZED));
+     }
+
+     private Optional<UserDetails> carregarUsuario(String username) {
+         try {
+             return Optional.of(userDetailsService.loadUserByUsername(username));
+         } catch (UsernameNotFoundException e) {
+             return Optional.empty();
+         }
+     }
 
-         return new TokenResponse(token);
+     private TokenResponse emitirTokens(String username, Collection<? extends GrantedAuthority> authorities, String refreshToken) {
+         String token = tokenService.gerarToken(username, authorities);
+         return new TokenResponse(token, tokenService.getExpiracaoSegundos(), refreshToken);
      }
- }
\ No newline at end of file
+ }
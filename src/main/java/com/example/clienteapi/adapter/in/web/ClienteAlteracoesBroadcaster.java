@@ -0,0 +1,242 @@
+package com.example.clienteapi.adapter.in.web;
+
+import com.example.clienteapi.domain.model.AlteracaoCliente;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.port.in.ClienteAlteracoesServicePort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Entrega o feed de alterações aos assinantes SSE. Cada assinante guarda apenas o cursor (última sequência enviada)
+ * e lê do feed no próprio ritmo, em lotes: um assinante lento fica para trás sem fila própria crescendo e sem
+ * bloquear quem grava. Cada commit desta instância com alterações agenda a drenagem dos assinantes; as alterações
+ * gravadas por outras instâncias são percebidas consultando a última sequência a cada {@code poll-interval}.
+ */
+@Component
+@Slf4j
+public class ClienteAlteracoesBroadcaster {
+
+    private final ClienteAlteracoesServicePort clienteAlteracoesServicePort;
+    private final int maxAssinantes;
+    private final int maxAssinantesPorUsuario;
+    private final int loteEnvio;
+    private final long timeoutMillis;
+    private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, Integer> assinaturasPorUsuario = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private final ScheduledExecutorService heartbeat;
+    private volatile long ultimaSequenciaVista = -1;
+
+    public ClienteAlteracoesBroadcaster(ClienteAlteracoesServicePort clienteAlteracoesServicePort,
+                                        @Value("${api.changes.max-subscribers:100}") int maxAssinantes,
+                                        @Value("${api.changes.max-subscribers-per-user:5}") int maxAssinantesPorUsuario,
+                                        @Value("${api.changes.subscriber-threads:4}") int threads,
+                                        @Value("${api.changes.send-batch-size:100}") int loteEnvio,
+                                        @Value("${api.changes.timeout:30m}") Duration timeout,
+                                        @Value("${api.changes.heartbeat-interval:15s}") Duration heartbeatInterval,
+                                        @Value("${api.changes.poll-interval:1s}") Duration pollInterval) {
+        this.clienteAlteracoesServicePort = clienteAlteracoesServicePort;
+        this.maxAssinantes = maxAssinantes;
+        this.maxAssinantesPorUsuario = maxAssinantesPorUsuario;
+        this.loteEnvio = loteEnvio;
+        this.timeoutMillis = timeout.toMillis();
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "cliente-alteracoes-sse-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cliente-alteracoes-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalo = heartbeatInterval.toMillis();
+        this.heartbeat.scheduleWithFixedDelay(this::enviarHeartbeat, intervalo, intervalo, TimeUnit.MILLISECONDS);
+        long intervaloConsulta = pollInterval.toMillis();
+        this.heartbeat.scheduleWithFixedDelay(this::verificarNovasAlteracoes, intervaloConsulta, intervaloConsulta, TimeUnit.MILLISECONDS);
+        clienteAlteracoesServicePort.aoRegistrar(this::notificar);
+    }
+
+    /**
+     * Abre uma assinatura do usuário a partir da sequência informada (exclusive). Retorna null se o limite de
+     * assinantes, geral ou do usuário, foi atingido.
+     */
+    public SseEmitter assinar(long aposSequencia, String usuario) {
+        if (assinantes.size() >= maxAssinantes || !reservar(usuario)) {
+            return null;
+        }
+        Assinante assinante = new Assinante(new SseEmitter(timeoutMillis), aposSequencia, usuario);
+        assinante.emitter.onCompletion(assinante::encerrar);
+        assinante.emitter.onTimeout(assinante::encerrar);
+        assinante.emitter.onError(erro -> assinante.encerrar());
+        assinantes.add(assinante);
+        assinante.agendar();
+        return assinante.emitter;
+    }
+
+    int assinantesAtivos() {
+        return assinantes.size();
+    }
+
+    private boolean reservar(String usuario) {
+        boolean[] reservado = {false};
+        assinaturasPorUsuario.compute(usuario, (chave, atual) -> {
+            int quantidade = atual == null ? 0 : atual;
+            if (quantidade >= maxAssinantesPorUsuario) {
+                return atual;
+            }
+            reservado[0] = true;
+            return quantidade + 1;
+        });
+        return reservado[0];
+    }
+
+    private void liberar(String usuario) {
+        assinaturasPorUsuario.computeIfPresent(usuario, (chave, atual) -> atual > 1 ? atual - 1 : null);
+    }
+
+    private void verificarNovasAlteracoes() {
+        if (assinantes.isEmpty()) {
+            return;
+        }
+        try {
+            long ultima = clienteAlteracoesServicePort.ultimaSequencia();
+            if (ultima != ultimaSequenciaVista) {
+                ultimaSequenciaVista = ultima;
+                notificar();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao consultar a última sequência do feed de alterações: {}", e.getMessage());
+        }
+    }
+
+    private void notificar() {
+        for (Assinante assinante : assinantes) {
+            assinante.agendar();
+        }
+    }
+
+    private void enviarHeartbeat() {
+        for (Assinante assinante : assinantes) {
+            assinante.agendarHeartbeat();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        for (Assinante assinante : assinantes) {
+            assinante.emitter.complete();
+            assinante.encerrar();
+        }
+        executor.shutdownNow();
+    }
+
+    private final class Assinante {
+
+        private final SseEmitter emitter;
+        private final String usuario;
+        private final AtomicBoolean agendado = new AtomicBoolean();
+        private final AtomicBoolean notificado = new AtomicBoolean();
+        private volatile long cursor;
+        private volatile boolean encerrado;
+
+        private Assinante(SseEmitter emitter, long cursor, String usuario) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+            this.usuario = usuario;
+        }
+
+        void agendar() {
+            notificado.set(true);
+            if (!encerrado && agendado.compareAndSet(false, true)) {
+                executor.execute(this::drenar);
+            }
+        }
+
+        void agendarHeartbeat() {
+            if (!encerrado && agendado.compareAndSet(false, true)) {
+                executor.execute(() -> {
+                    enviar(SseEmitter.event().comment("keep-alive"));
+                    drenar();
+                });
+            }
+        }
+
+        private void drenar() {
+            notificado.set(false);
+            try {
+                List<AlteracaoCliente> lote;
+                while (!encerrado && !(lote = clienteAlteracoesServicePort.buscarAlteracoes(cursor, loteEnvio)).isEmpty()) {
+                    for (AlteracaoCliente alteracao : lote) {
+                        if (!enviar(SseEmitter.event()
+                                .id(String.valueOf(alteracao.getSequencia()))
+                                .name(alteracao.getTipo().name())
+                                .data(toResponse(alteracao), MediaType.APPLICATION_JSON))) {
+                            return;
+                        }
+                        cursor = alteracao.getSequencia();
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Falha ao ler alterações de clientes para um assinante; encerrando a assinatura: {}", e.getMessage());
+                emitter.completeWithError(e);
+                encerrar();
+            } finally {
+                agendado.set(false);
+            }
+            if (!encerrado && notificado.get()) {
+                agendar();
+            }
+        }
+
+        private boolean enviar(SseEmitter.SseEventBuilder evento) {
+            if (encerrado) {
+                return false;
+            }
+            try {
+                emitter.send(evento);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Assinante do feed de alterações desconectado: {}", e.getMessage());
+                encerrar();
+                return false;
+            }
+        }
+
+        void encerrar() {
+            encerrado = true;
+            if (assinantes.remove(this)) {
+                liberar(usuario);
+            }
+        }
+    }
+
+    private static AlteracaoClienteResponse toResponse(AlteracaoCliente alteracao) {
+        Cliente cliente = alteracao.getCliente();
+        return new AlteracaoClienteResponse(alteracao.getSequencia(), alteracao.getTipo().name(),
+                new ClienteResponse(cliente.getId(), cliente.getNome(), cliente.getEmail(), cliente.getCpf()),
+                alteracao.getOcorridoEm());
+    }
+}
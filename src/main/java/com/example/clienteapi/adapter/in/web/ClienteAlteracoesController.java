@@ -0,0 +1,60 @@
+package com.example.clienteapi.adapter.in.web;
+
+import com.example.clienteapi.domain.port.in.ClienteAlteracoesServicePort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/clientes/changes")
+public class ClienteAlteracoesController {
+
+    private final ClienteAlteracoesServicePort clienteAlteracoesServicePort;
+    private final ClienteAlteracoesBroadcaster clienteAlteracoesBroadcaster;
+
+    public ClienteAlteracoesController(ClienteAlteracoesServicePort clienteAlteracoesServicePort,
+                                       ClienteAlteracoesBroadcaster clienteAlteracoesBroadcaster) {
+        this.clienteAlteracoesServicePort = clienteAlteracoesServicePort;
+        this.clienteAlteracoesBroadcaster = clienteAlteracoesBroadcaster;
+    }
+
+    @Operation(summary = "Acompanha as alterações de clientes", description = "Abre um stream Server-Sent Events com os clientes criados, atualizados e removidos. Cada evento traz o tipo (CRIADO, ATUALIZADO ou REMOVIDO) como nome e a sequência monotônica como id. Para retomar, informe 'since' ou o cabeçalho 'Last-Event-ID' com a última sequência recebida; sem nenhum dos dois, o stream começa pelas próximas alterações. Exige autenticação.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream de alterações aberto"),
+        @ApiResponse(responseCode = "400", description = "Sequência inválida em 'since' ou 'Last-Event-ID'"),
+        @ApiResponse(responseCode = "403", description = "Token ausente ou inválido"),
+        @ApiResponse(responseCode = "503", description = "Limite de assinantes simultâneos, geral ou do usuário, atingido")
+    })
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> acompanharAlteracoes(@RequestParam(required = false) Long since,
+                                                           @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                           Principal principal) {
+        long aposSequencia;
+        try {
+            aposSequencia = since != null ? since
+                    : lastEventId != null ? Long.parseLong(lastEventId.trim())
+                    : clienteAlteracoesServicePort.ultimaSequencia();
+        } catch (NumberFormatException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        if (aposSequencia < 0) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        SseEmitter emitter = clienteAlteracoesBroadcaster.assinar(aposSequencia, principal.getName());
+        if (emitter == null) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.clienteapi.adapter.in.web;
 
+import com.example.clienteapi.config.idempotency.IdempotencyException;
+import com.example.clienteapi.config.idempotency.IdempotentRequestHandler;
 import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.ClienteCampo;
+import com.example.clienteapi.domain.model.ClienteFiltro;
 import com.example.clienteapi.domain.port.in.ClienteServicePort;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -8,10 +12,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -19,45 +27,113 @@ import java.util.stream.Collectors;
 public class ClienteController {
 
     private final ClienteServicePort clienteServicePort;
+    private final IdempotentRequestHandler idempotentRequestHandler;
 
-    public ClienteController(ClienteServicePort clienteServicePort) {
+    public ClienteController(ClienteServicePort clienteServicePort, IdempotentRequestHandler idempotentRequestHandler) {
         this.clienteServicePort = clienteServicePort;
+        this.idempotentRequestHandler = idempotentRequestHandler;
     }
 
-    @Operation(summary = "Cria um novo cliente", description = "Cadastra um novo cliente no sistema e dispara um evento para envio de e-mail de boas-vindas.")
+    @Operation(summary = "Cria um novo cliente", description = "Cadastra um novo cliente no sistema e dispara um evento para envio de e-mail de boas-vindas. Com o cabeçalho 'Idempotency-Key', repetições da mesma requisição devolvem a resposta 201 original (cabeçalho 'Idempotent-Replayed: true') sem cadastrar novamente.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Cliente criado com sucesso"),
-        @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos (ex: e-mail ou CPF em formato incorreto ou já existente)")
+        @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos (ex: e-mail ou CPF em formato incorreto ou já existente)"),
+        @ApiResponse(responseCode = "409", description = "Requisição com a mesma 'Idempotency-Key' ainda em processamento"),
+        @ApiResponse(responseCode = "422", description = "'Idempotency-Key' já utilizada com outro corpo de requisição")
     })
     @PostMapping
-    public ResponseEntity<ClienteResponse> criarCliente(@Valid @RequestBody ClienteRequest request) {
-        Cliente cliente = new Cliente(null, request.getNome(), request.getEmail(), request.getCpf());
-        Cliente novoCliente = clienteServicePort.criarCliente(cliente);
-        return new ResponseEntity<>(toResponse(novoCliente), HttpStatus.CREATED);
+    public ResponseEntity<ClienteResponse> criarCliente(@RequestHeader(value = IdempotentRequestHandler.HEADER, required = false) String idempotencyKey,
+                                                        @Valid @RequestBody ClienteRequest request) {
+        try {
+            return idempotentRequestHandler.executar(idempotencyKey, request, ClienteResponse.class, () -> {
+                Cliente cliente = new Cliente(null, request.getNome(), request.getEmail(), request.getCpf());
+                Cliente novoCliente = clienteServicePort.criarCliente(cliente);
+                return new ResponseEntity<>(toResponse(novoCliente), HttpStatus.CREATED);
+            });
+        } catch (IdempotencyException e) {
+            return new ResponseEntity<>(e.getStatus());
+        }
     }
 
     @Operation(summary = "Pesquisa o cliente por um ID", description = "Pesquisa informações do cliente utilizando um ID único.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Cliente localizado com sucesso"),
+        @ApiResponse(responseCode = "200", description = "Cliente localizado com sucesso",
+                content = @Content(schema = @Schema(implementation = ClienteResponse.class))),
         @ApiResponse(responseCode = "404", description = "Não foi possível localizar um cliente com este ID")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ClienteResponse> buscarClientePorId(@PathVariable Long id) {
+    public ResponseEntity<Cliente> buscarClientePorId(@PathVariable Long id) {
         return clienteServicePort.buscarClientePorId(id)
-                .map(cliente -> new ResponseEntity<>(toResponse(cliente), HttpStatus.OK))
+                .map(cliente -> new ResponseEntity<>(cliente, HttpStatus.OK))
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
-    @Operation(summary = "Pesquisa todos clientes", description = "Pesquisa informações de todos os clientes cadastrados.")
+    @Operation(summary = "Pesquisa vários clientes por ID", description = "Busca até " + ClienteLookupRequest.MAXIMO_IDS + " clientes em uma única requisição (ex: ids=3,1,2). Os clientes são devolvidos na ordem dos IDs informados, sem repetições, e os IDs inexistentes são listados em 'naoEncontrados'.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Clientes localizados e IDs não encontrados"),
+        @ApiResponse(responseCode = "400", description = "Nenhum ID informado, ID inválido ou mais de " + ClienteLookupRequest.MAXIMO_IDS + " IDs")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<ClienteLookupResponse> buscarClientesPorIds(@RequestParam List<Long> ids) {
+        return buscarPorIds(ids);
+    }
+
+    @Operation(summary = "Pesquisa vários clientes por ID (corpo da requisição)", description = "Equivalente a GET /clientes?ids=..., para listas de IDs que não cabem na URL.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Lista os clientes localizados ou informa '[]' caso não tenha cliente cadastrado.")
+        @ApiResponse(responseCode = "200", description = "Clientes localizados e IDs não encontrados"),
+        @ApiResponse(responseCode = "400", description = "Nenhum ID informado, ID inválido ou mais de " + ClienteLookupRequest.MAXIMO_IDS + " IDs")
+    })
+    @PostMapping("/lookup")
+    public ResponseEntity<ClienteLookupResponse> buscarClientesPorIdsNoCorpo(@RequestBody ClienteLookupRequest request) {
+        return buscarPorIds(request.getIds());
+    }
+
+    @Operation(summary = "Pesquisa todos clientes", description = "Pesquisa informações de todos os clientes cadastrados. Aceita JSON, CBOR (application/cbor) ou Smile (application/x-jackson-smile) via Accept e, opcionalmente, 'fields' (ex: fields=id,email) para retornar e consultar apenas as colunas informadas.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista os clientes localizados ou informa '[]' caso não tenha cliente cadastrado.",
+                content = @Content(array = @ArraySchema(schema = @Schema(implementation = ClienteResponse.class)))),
+        @ApiResponse(responseCode = "400", description = "Campo desconhecido informado em 'fields'")
     })
     @GetMapping
-    public ResponseEntity<List<ClienteResponse>> buscarTodosClientes() {
-        List<ClienteResponse> clientes = clienteServicePort.buscarTodosClientes().stream()
+    public ResponseEntity<List<Cliente>> buscarTodosClientes(@RequestParam(required = false) List<String> fields) {
+        List<Cliente> encontrados;
+        if (fields == null) {
+            encontrados = clienteServicePort.buscarTodosClientes();
+        } else {
+            try {
+                encontrados = clienteServicePort.buscarTodosClientes(ClienteCampo.parse(fields));
+            } catch (IllegalArgumentException e) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+        }
+        return new ResponseEntity<>(encontrados, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Pesquisa clientes por filtros", description = "Busca exata por e-mail ou CPF e busca por nome (prefixo ou trecho, sem diferenciar maiúsculas), com paginação por cursor (aposId) e limite de até " + ClienteFiltro.LIMITE_MAXIMO + " registros.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de clientes localizados e o cursor para a próxima página ('proximoCursor' nulo quando não há mais resultados).")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ClientePageResponse> pesquisarClientes(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String cpf,
+            @RequestParam(required = false) String nome,
+            @RequestParam(defaultValue = "PREFIXO") ClienteFiltro.TipoBuscaNome modo,
+            @RequestParam(defaultValue = "0") long aposId,
+            @RequestParam(required = false) Integer limite) {
+        ClienteFiltro filtro = ClienteFiltro.builder()
+                .email(email)
+                .cpf(cpf)
+                .nome(nome)
+                .tipoBuscaNome(modo)
+                .aposId(aposId)
+                .limite(ClienteFiltro.normalizarLimite(limite))
+                .build();
+        List<ClienteResponse> clientes = clienteServicePort.pesquisarClientes(filtro).stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
-        return new ResponseEntity<>(clientes, HttpStatus.OK);
+        Long proximoCursor = clientes.size() < filtro.getLimite() ? null : clientes.get(clientes.size() - 1).getId();
+        return new ResponseEntity<>(new ClientePageResponse(clientes, proximoCursor), HttpStatus.OK);
     }
 
     @Operation(summary = "Atualiza um cliente existente", description = "Atualiza os dados de um cliente com base no seu ID. Requer privilégios de ADMIN.")
@@ -96,6 +172,22 @@ public class ClienteController {
         }
     }
 
+    private ResponseEntity<ClienteLookupResponse> buscarPorIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > ClienteLookupRequest.MAXIMO_IDS || ids.contains(null)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        List<Cliente> encontrados = clienteServicePort.buscarClientesPorIds(ids);
+        Set<Long> idsEncontrados = encontrados.stream().map(Cliente::getId).collect(Collectors.toSet());
+        List<Long> naoEncontrados = ids.stream()
+                .distinct()
+                .filter(id -> !idsEncontrados.contains(id))
+                .collect(Collectors.toList());
+        List<ClienteResponse> clientes = encontrados.stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+        return new ResponseEntity<>(new ClienteLookupResponse(clientes, naoEncontrados), HttpStatus.OK);
+    }
+
     private ClienteResponse toResponse(Cliente cliente) {
         return new ClienteResponse(cliente.getId(), cliente.getNome(), cliente.getEmail(), cliente.getCpf());
     }
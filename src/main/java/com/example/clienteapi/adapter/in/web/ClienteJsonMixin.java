@@ -0,0 +1,16 @@
+package com.example.clienteapi.adapter.in.web;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Formato JSON de {@link com.example.clienteapi.domain.model.Cliente}, idêntico ao de {@link ClienteResponse}, para que
+ * as leituras serializem o modelo de domínio sem copiá-lo para um DTO. Aplicado como mix-in pelo
+ * {@link com.example.clienteapi.config.WebConfig} apenas nos conversores HTTP, sem anotações de Jackson no domínio.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"id", "nome", "email", "cpf"})
+@JsonIgnoreProperties({"criadoEm"})
+public abstract class ClienteJsonMixin {
+}
@@ -0,0 +1,13 @@
+package com.example.clienteapi.adapter.in.web;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ClienteLookupRequest {
+
+    public static final int MAXIMO_IDS = 1000;
+
+    private List<Long> ids;
+}
@@ -0,0 +1,15 @@
+package com.example.clienteapi.adapter.in.web;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteLookupResponse {
+    private List<ClienteResponse> clientes;
+    private List<Long> naoEncontrados;
+}
@@ -0,0 +1,15 @@
+package com.example.clienteapi.adapter.in.web;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientePageResponse {
+    private List<ClienteResponse> clientes;
+    private Long proximoCursor;
+}
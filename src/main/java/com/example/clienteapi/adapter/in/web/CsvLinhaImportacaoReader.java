@@ -0,0 +1,154 @@
+package com.example.clienteapi.adapter.in.web;
+
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.LinhaImportacao;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Lê um CSV (RFC 4180, UTF-8, separador vírgula) registro a registro, sem carregar o arquivo em memória.
+ * A primeira linha é o cabeçalho e deve conter as colunas nome, email e cpf, em qualquer ordem.
+ * Cada registro é validado com as mesmas regras de {@link ClienteRequest}; a numeração começa em 1 após o cabeçalho
+ * e é estável entre reenvios do mesmo arquivo, o que permite retomar uma importação.
+ */
+public class CsvLinhaImportacaoReader implements Iterator<LinhaImportacao> {
+
+    private static final int BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final Validator validator;
+    private final int colunaNome;
+    private final int colunaEmail;
+    private final int colunaCpf;
+
+    private List<String> proximo;
+    private long numero;
+
+    public CsvLinhaImportacaoReader(InputStream inputStream, Validator validator) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 64 * 1024);
+        this.validator = validator;
+        List<String> cabecalho = lerRegistro(true);
+        if (cabecalho == null) {
+            throw new IllegalArgumentException("Arquivo CSV vazio.");
+        }
+        List<String> colunas = cabecalho.stream().map(c -> c.trim().toLowerCase(Locale.ROOT)).toList();
+        this.colunaNome = indiceObrigatorio(colunas, "nome");
+        this.colunaEmail = indiceObrigatorio(colunas, "email");
+        this.colunaCpf = indiceObrigatorio(colunas, "cpf");
+        this.proximo = lerRegistro(false);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return proximo != null;
+    }
+
+    @Override
+    public LinhaImportacao next() {
+        if (proximo == null) {
+            throw new NoSuchElementException();
+        }
+        List<String> campos = proximo;
+        proximo = lerRegistro(false);
+        return converter(++numero, campos);
+    }
+
+    private LinhaImportacao converter(long numeroLinha, List<String> campos) {
+        ClienteRequest request = new ClienteRequest();
+        request.setNome(campo(campos, colunaNome));
+        request.setEmail(campo(campos, colunaEmail));
+        request.setCpf(campo(campos, colunaCpf));
+        Set<ConstraintViolation<ClienteRequest>> violacoes = validator.validate(request);
+        if (!violacoes.isEmpty()) {
+            String erro = violacoes.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted(Comparator.naturalOrder())
+                    .collect(Collectors.joining("; "));
+            return new LinhaImportacao(numeroLinha, null, erro);
+        }
+        return new LinhaImportacao(numeroLinha,
+                new Cliente(null, request.getNome(), request.getEmail(), request.getCpf()), null);
+    }
+
+    private static String campo(List<String> campos, int indice) {
+        if (indice >= campos.size()) {
+            return null;
+        }
+        String valor = campos.get(indice).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private static int indiceObrigatorio(List<String> colunas, String nome) {
+        int indice = colunas.indexOf(nome);
+        if (indice < 0) {
+            throw new IllegalArgumentException("Coluna obrigatória ausente no cabeçalho do CSV: " + nome);
+        }
+        return indice;
+    }
+
+    private List<String> lerRegistro(boolean primeiro) {
+        try {
+            int c = reader.read();
+            if (primeiro && c == BOM) {
+                c = reader.read();
+            }
+            while (c == '\r' || c == '\n') {
+                c = reader.read();
+            }
+            if (c == -1) {
+                return null;
+            }
+            List<String> campos = new ArrayList<>();
+            StringBuilder atual = new StringBuilder();
+            boolean entreAspas = false;
+            while (true) {
+                if (entreAspas) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("CSV malformado: aspas não fechadas após a linha " + numero + ".");
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        int seguinte = reader.read();
+                        if (seguinte == '"') {
+                            atual.append('"');
+                        } else {
+                            entreAspas = false;
+                            reader.reset();
+                        }
+                    } else {
+                        atual.append((char) c);
+                    }
+                } else if (c == '"' && atual.isEmpty()) {
+                    entreAspas = true;
+                } else if (c == ',') {
+                    campos.add(atual.toString());
+                    atual.setLength(0);
+                } else if (c == '\n' || c == '\r' || c == -1) {
+                    campos.add(atual.toString());
+                    return campos;
+                } else {
+                    atual.append((char) c);
+                }
+                c = reader.read();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
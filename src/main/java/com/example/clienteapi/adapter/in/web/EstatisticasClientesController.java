@@ -0,0 +1,43 @@
+package com.example.clienteapi.adapter.in.web;
+
+import com.example.clienteapi.domain.model.EstatisticasClientes;
+import com.example.clienteapi.domain.port.in.EstatisticasClientesServicePort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/clientes/stats")
+public class EstatisticasClientesController {
+
+    static final int MAXIMO_DIAS = 366;
+    static final int MAXIMO_DOMINIOS = 1000;
+
+    private final EstatisticasClientesServicePort estatisticasClientesServicePort;
+
+    public EstatisticasClientesController(EstatisticasClientesServicePort estatisticasClientesServicePort) {
+        this.estatisticasClientesServicePort = estatisticasClientesServicePort;
+    }
+
+    @Operation(summary = "Estatísticas de clientes", description = "Total de clientes, clientes por dia de cadastro nos últimos 'dias' dias (incluindo hoje) e os 'dominios' domínios de e-mail mais frequentes. Servido de contadores em memória, sem consultar o banco; 'reconciliadoEm' indica a última conferência com o banco.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Estatísticas calculadas"),
+        @ApiResponse(responseCode = "400", description = "'dias' fora de 1 a " + MAXIMO_DIAS + " ou 'dominios' fora de 1 a " + MAXIMO_DOMINIOS)
+    })
+    @GetMapping
+    public ResponseEntity<EstatisticasClientesResponse> consultar(@RequestParam(defaultValue = "30") int dias,
+                                                                  @RequestParam(defaultValue = "20") int dominios) {
+        if (dias < 1 || dias > MAXIMO_DIAS || dominios < 1 || dominios > MAXIMO_DOMINIOS) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        EstatisticasClientes estatisticas = estatisticasClientesServicePort.consultar(dias, dominios);
+        return ResponseEntity.ok(new EstatisticasClientesResponse(estatisticas.getTotal(), estatisticas.getCadastrosPorDia(),
+                estatisticas.getClientesPorDominio(), estatisticas.getReconciliadoEm()));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.clienteapi.adapter.in.web;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstatisticasClientesResponse {
+    private long total;
+    private Map<LocalDate, Long> cadastrosPorDia;
+    private Map<String, Long> clientesPorDominio;
+    private Instant reconciliadoEm;
+}
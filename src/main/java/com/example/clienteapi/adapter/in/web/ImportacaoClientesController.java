@@ -0,0 +1,80 @@
+package com.example.clienteapi.adapter.in.web;
+
+import com.example.clienteapi.domain.model.Importacao;
+import com.example.clienteapi.domain.port.in.ImportacaoClientesServicePort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Validator;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/clientes/import")
+public class ImportacaoClientesController {
+
+    private final ImportacaoClientesServicePort importacaoClientesServicePort;
+    private final Validator validator;
+
+    public ImportacaoClientesController(ImportacaoClientesServicePort importacaoClientesServicePort, Validator validator) {
+        this.importacaoClientesServicePort = importacaoClientesServicePort;
+        this.validator = validator;
+    }
+
+    @Operation(summary = "Importa clientes a partir de um CSV", description = "Recebe um CSV (text/csv, cabeçalho com nome, email e cpf) em streaming, valida cada linha com as mesmas regras do cadastro, descarta e-mails repetidos no arquivo ou já cadastrados e grava em lotes confirmados (api.import.chunk-size). Para retomar uma importação interrompida, reenvie o mesmo arquivo informando 'importacaoId': as linhas já confirmadas são ignoradas. Requer privilégios de ADMIN.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Importação concluída, com os totais de importados, duplicados e inválidos"),
+        @ApiResponse(responseCode = "400", description = "Cabeçalho do CSV ausente ou incompleto"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado. Requer papel de ADMIN."),
+        @ApiResponse(responseCode = "404", description = "Importação não encontrada com o ID fornecido"),
+        @ApiResponse(responseCode = "500", description = "Importação interrompida; o corpo traz o ID e a última linha confirmada para retomada")
+    })
+    @PostMapping(consumes = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportacaoResponse> importar(@RequestParam(required = false) Long importacaoId, InputStream corpo) {
+        CsvLinhaImportacaoReader linhas;
+        try {
+            linhas = new CsvLinhaImportacaoReader(corpo, validator);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        try {
+            Importacao importacao = importacaoClientesServicePort.importar(importacaoId, linhas);
+            HttpStatus status = importacao.getStatus() == Importacao.Status.FALHOU
+                    ? HttpStatus.INTERNAL_SERVER_ERROR
+                    : HttpStatus.OK;
+            return new ResponseEntity<>(toResponse(importacao), status);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @Operation(summary = "Consulta o progresso de uma importação", description = "Retorna o status, a última linha confirmada e os totais de uma importação. Requer privilégios de ADMIN.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Importação localizada"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado. Requer papel de ADMIN."),
+        @ApiResponse(responseCode = "404", description = "Importação não encontrada com o ID fornecido")
+    })
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportacaoResponse> buscarImportacao(@PathVariable Long id) {
+        return importacaoClientesServicePort.buscarImportacao(id)
+                .map(importacao -> new ResponseEntity<>(toResponse(importacao), HttpStatus.OK))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    private ImportacaoResponse toResponse(Importacao importacao) {
+        return new ImportacaoResponse(importacao.getId(), importacao.getStatus().name(), importacao.getLinhasConfirmadas(),
+                importacao.getImportados(), importacao.getDuplicados(), importacao.getInvalidos(),
+                importacao.getIniciadaEm(), importacao.getAtualizadaEm());
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.clienteapi.adapter.in.web;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportacaoResponse {
+    private Long id;
+    private String status;
+    private long linhasConfirmadas;
+    private long importados;
+    private long duplicados;
+    private long invalidos;
+    private Instant iniciadaEm;
+    private Instant atualizadaEm;
+}
@@ -0,0 +1,51 @@
+package com.example.clienteapi.adapter.in.web;
+
+import com.example.clienteapi.domain.service.RefreshTokenService;
+import com.example.clienteapi.domain.service.RevogacaoTokenService;
+import com.example.clienteapi.domain.service.TokenService;
+import io.jsonwebtoken.Claims;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/logout")
+public class LogoutController {
+
+    private final TokenService tokenService;
+    private final RevogacaoTokenService revogacaoTokenService;
+    private final RefreshTokenService refreshTokenService;
+
+    public LogoutController(TokenService tokenService, RevogacaoTokenService revogacaoTokenService,
+                            RefreshTokenService refreshTokenService) {
+        this.tokenService = tokenService;
+        this.revogacaoTokenService = revogacaoTokenService;
+        this.refreshTokenService = refreshTokenService;
+    }
+
+    @Operation(summary = "Encerra a sessão", description = "Revoga o access token enviado no cabeçalho Authorization em todas as instâncias até a sua expiração e, se informado no corpo, invalida também o refresh token e os demais renovados a partir do mesmo login.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Tokens revogados"),
+        @ApiResponse(responseCode = "403", description = "Token ausente, inválido ou já revogado")
+    })
+    @PostMapping
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+                                       @RequestBody(required = false) RefreshTokenRequest request) {
+        Claims claims = tokenService.getClaims(authorization.substring("Bearer ".length()));
+        if (claims != null && claims.getId() != null) {
+            revogacaoTokenService.revogar(TokenService.getJti(claims), claims.getExpiration().toInstant());
+        }
+        if (request != null) {
+            refreshTokenService.revogar(request.getRefreshToken());
+        }
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
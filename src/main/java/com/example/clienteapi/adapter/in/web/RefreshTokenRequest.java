@@ -0,0 +1,6 @@
+package com.example.clienteapi.adapter.in.web;
+import lombok.Data;
+@Data
+public class RefreshTokenRequest {
+    private String refreshToken;
+}
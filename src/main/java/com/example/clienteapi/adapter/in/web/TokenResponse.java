@@ -6,8 +6,12 @@ import lombok.Data;
 public class TokenResponse {
     private String token;
     private String type = "Bearer";
+    private long expiresIn;
+    private String refreshToken;
 
-    public TokenResponse(String token) {
+    public TokenResponse(String token, long expiresIn, String refreshToken) {
         this.token = token;
+        this.expiresIn = expiresIn;
+        this.refreshToken = refreshToken;
     }
 }
@@ -0,0 +1,46 @@
+package com.example.clienteapi.adapter.out.contexto;
+
+import com.example.clienteapi.config.datasource.ReadYourWritesContext;
+import com.example.clienteapi.domain.port.out.ContextoRequisicaoPort;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Component
+public class ContextoRequisicaoAdapter implements ContextoRequisicaoPort {
+
+    private record ContextoCapturado(Map<String, String> mdc, ReadYourWritesContext readYourWrites) implements Contexto {
+    }
+
+    @Override
+    public Contexto capturar() {
+        return new ContextoCapturado(MDC.getCopyOfContextMap(), ReadYourWritesContext.current());
+    }
+
+    @Override
+    public <T> T executarCom(List<Contexto> contextos, Supplier<T> acao) {
+        List<ContextoCapturado> capturados = contextos.stream().map(ContextoCapturado.class::cast).toList();
+        Map<String, String> mdcAnterior = MDC.getCopyOfContextMap();
+        ReadYourWritesContext anterior = ReadYourWritesContext.current();
+        Map<String, String> mdc = capturados.isEmpty() ? null : capturados.get(0).mdc();
+        if (mdc == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(mdc);
+        }
+        ReadYourWritesContext.restore(ReadYourWritesContext.combinar(capturados.stream().map(ContextoCapturado::readYourWrites).toList()));
+        try {
+            return acao.get();
+        } finally {
+            ReadYourWritesContext.restore(anterior);
+            if (mdcAnterior == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(mdcAnterior);
+            }
+        }
+    }
+}
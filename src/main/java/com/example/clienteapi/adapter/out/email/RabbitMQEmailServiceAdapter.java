@@ -1,38 +1,213 @@
 package com.example.clienteapi.adapter.out.email;
 
 import com.example.clienteapi.config.RabbitMQConfig;
+import com.example.clienteapi.config.logging.CorrelationId;
 import com.example.clienteapi.domain.model.Cliente;
 import com.example.clienteapi.domain.port.out.EmailServicePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.MDC;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import lombok.extern.slf4j.Slf4j;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publica as mensagens de boas-vindas num executor próprio, depois do commit. Envios individuais (requisições HTTP)
+ * são descartados com a fila cheia para não prender quem chamou; lotes (importações e criação em lote) esperam
+ * até {@code api.email.executor.submit-timeout} por uma vaga, freando o produtor em vez de perder o lote inteiro.
+ */
 @Component
 @Slf4j
 public class RabbitMQEmailServiceAdapter implements EmailServicePort {
 
     private final RabbitTemplate rabbitTemplate;
     private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService retryScheduler;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final long esperaVagaMillis;
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final Timer sendTimer;
 
-    public RabbitMQEmailServiceAdapter(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper) {
+    public RabbitMQEmailServiceAdapter(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                       @Value("${api.email.executor.threads:2}") int threads,
+                                       @Value("${api.email.executor.queue-capacity:1000}") int queueCapacity,
+                                       @Value("${api.email.retry.max-attempts:3}") int maxAttempts,
+                                       @Value("${api.email.retry.initial-backoff:200ms}") Duration initialBackoff,
+                                       @Value("${api.email.executor.submit-timeout:30s}") Duration submitTimeout) {
         this.rabbitTemplate = rabbitTemplate;
         this.objectMapper = objectMapper;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.esperaVagaMillis = submitTimeout.toMillis();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), namedThreads("welcome-email-"), new ThreadPoolExecutor.AbortPolicy());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(namedThreads("welcome-email-retry-"));
+
+        this.sentCounter = meterRegistry.counter("email.welcome.sent");
+        this.retriedCounter = meterRegistry.counter("email.welcome.retried");
+        this.failedCounter = meterRegistry.counter("email.welcome.failed");
+        this.rejectedCounter = meterRegistry.counter("email.welcome.rejected");
+        this.sendTimer = meterRegistry.timer("email.welcome.send");
+        meterRegistry.gauge("email.welcome.queue.size", executor, pool -> pool.getQueue().size());
+    }
+
+    @Override
+    public CompletableFuture<Void> sendWelcomeEmail(Cliente cliente) {
+        return enviarAposCommit(List.of(cliente), false);
     }
 
     @Override
-    public void sendWelcomeEmail(Cliente cliente) {
-        log.info("Enviando mensagem para a fila RabbitMQ para cliente: {}", cliente.getEmail());
+    public CompletableFuture<Void> sendWelcomeEmails(List<Cliente> clientes) {
+        if (clientes.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return enviarAposCommit(List.copyOf(clientes), true);
+    }
+
+    private CompletableFuture<Void> enviarAposCommit(List<Cliente> clientes, boolean aguardarVaga) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        String correlationId = MDC.get(CorrelationId.MDC_KEY);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        submit(clientes, 1, result, correlationId, aguardarVaga);
+                    } else {
+                        result.cancel(false);
+                    }
+                }
+            });
+        } else {
+            submit(clientes, 1, result, correlationId, aguardarVaga);
+        }
+        return result;
+    }
+
+    private void submit(List<Cliente> clientes, int attempt, CompletableFuture<Void> result, String correlationId,
+                        boolean aguardarVaga) {
+        Runnable tarefa = () -> send(clientes, attempt, result, correlationId);
+        try {
+            executor.execute(tarefa);
+        } catch (RejectedExecutionException e) {
+            if (aguardarVaga && aguardarVaga(tarefa)) {
+                return;
+            }
+            rejectedCounter.increment(clientes.size());
+            log.error("Fila de envio de boas-vindas cheia; {} mensagem(ns) descartada(s), a partir do cliente {}.",
+                    clientes.size(), clientes.get(0).getId());
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Com todas as threads ocupadas, a tarefa pode ir direto para a fila do executor assim que abrir uma vaga.
+     */
+    private boolean aguardarVaga(Runnable tarefa) {
+        try {
+            return !executor.isShutdown() && executor.getQueue().offer(tarefa, esperaVagaMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void send(List<Cliente> clientes, int attempt, CompletableFuture<Void> result, String correlationId) {
+        int enviados = 0;
+        if (correlationId != null) {
+            MDC.put(CorrelationId.MDC_KEY, correlationId);
+        }
+        try {
+            for (Cliente cliente : clientes) {
+                sendTimer.record(() -> publish(cliente, correlationId));
+                sentCounter.increment();
+                enviados++;
+                log.info("Mensagem de boas-vindas do cliente {} publicada no RabbitMQ.", cliente.getId());
+            }
+            result.complete(null);
+        } catch (Exception e) {
+            List<Cliente> pendentes = clientes.subList(enviados, clientes.size());
+            if (attempt < maxAttempts) {
+                retriedCounter.increment();
+                long backoff = initialBackoff.toMillis() << (attempt - 1);
+                log.warn("Falha ao enviar mensagem de boas-vindas (tentativa {}/{}), nova tentativa em {} ms: {}",
+                        attempt, maxAttempts, backoff, e.getMessage());
+                retryScheduler.schedule(() -> submit(pendentes, attempt + 1, result, correlationId, false), backoff, TimeUnit.MILLISECONDS);
+            } else {
+                failedCounter.increment(pendentes.size());
+                log.error("Erro ao serializar ou enviar cliente para a fila após {} tentativas: {}", attempt, e.getMessage(), e);
+                result.completeExceptionally(e);
+            }
+        } finally {
+            MDC.remove(CorrelationId.MDC_KEY);
+        }
+    }
+
+    private void publish(Cliente cliente, String correlationId) {
         try {
             String clienteJson = objectMapper.writeValueAsString(cliente);
+            if (correlationId == null) {
+                rabbitTemplate.convertAndSend(
+                    RabbitMQConfig.EXCHANGE_NAME,
+                    RabbitMQConfig.ROUTING_KEY,
+                    clienteJson
+                );
+                return;
+            }
             rabbitTemplate.convertAndSend(
                 RabbitMQConfig.EXCHANGE_NAME,
                 RabbitMQConfig.ROUTING_KEY,
-                clienteJson
+                clienteJson,
+                message -> {
+                    message.getMessageProperties().setHeader(CorrelationId.HEADER, correlationId);
+                    return message;
+                }
             );
-            log.info("Mensagem de boas-vindas enviada com sucesso para RabbitMQ para {}", cliente.getEmail());
-        } catch (Exception e) {
-            log.error("Erro ao serializar ou enviar cliente para a fila: {}", e.getMessage(), e);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        retryScheduler.shutdownNow();
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("{} mensagens de boas-vindas pendentes descartadas no desligamento.", executor.shutdownNow().size());
         }
     }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
 }
@@ -0,0 +1,21 @@
+package com.example.clienteapi.adapter.out.event;
+
+import com.example.clienteapi.domain.event.ClienteEvent;
+import com.example.clienteapi.domain.port.out.ClienteEventPublisherPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SpringClienteEventPublisherAdapter implements ClienteEventPublisherPort {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public SpringClienteEventPublisherAdapter(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void publish(ClienteEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
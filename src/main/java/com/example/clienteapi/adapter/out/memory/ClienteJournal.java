@@ -0,0 +1,248 @@
+package com.example.clienteapi.adapter.out.memory;
+
+import com.example.clienteapi.domain.model.Cliente;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Durabilidade do repositório em memória: um snapshot com todos os clientes e um journal append-only com as alterações
+ * feitas depois dele, ambos gravados por arquivos mapeados em memória. Na inicialização o snapshot é lido, o journal é
+ * reaplicado por cima ({@link #restore}) e um novo snapshot é gravado, zerando o journal ({@link #compact}). Cada registro só se torna visível na leitura
+ * quando seu byte de operação é gravado, o que acontece por último; um registro incompleto marca o fim do journal.
+ * Sem {@code sync}, a durabilidade depende do page cache do sistema operacional (sobrevive à queda do processo,
+ * não à do host).
+ */
+@Slf4j
+public class ClienteJournal implements AutoCloseable {
+
+    /** Id, nome, e-mail, CPF e data de cadastro em microssegundos. */
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+    private static final long SEM_DATA = Long.MIN_VALUE;
+    private static final long REGION_SIZE = 16L * 1024 * 1024;
+    private static final int READ_WINDOW = 256 * 1024 * 1024;
+
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final boolean sync;
+    private MappedAppender journal;
+
+    public ClienteJournal(Path directory, boolean sync) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.snapshotPath = directory.resolve("clientes.snapshot");
+        this.journalPath = directory.resolve("clientes.journal");
+        this.sync = sync;
+    }
+
+    public void restore(Consumer<Cliente> put, LongConsumer delete) {
+        long snapshot = replay(snapshotPath, put, delete);
+        long journal = replay(journalPath, put, delete);
+        log.info("Repositório em memória restaurado: {} registros do snapshot e {} do journal.", snapshot, journal);
+    }
+
+    public synchronized void appendPut(Cliente cliente) {
+        openJournal().write(PUT, cliente.getId(), cliente);
+    }
+
+    public synchronized void appendDelete(long id) {
+        openJournal().write(DELETE, id, null);
+    }
+
+    /**
+     * Grava um novo snapshot a partir do estado atual e recomeça o journal. Quem chama precisa garantir que toda
+     * alteração é aplicada ao estado antes de ir para o journal, para que nenhuma se perca durante a compactação.
+     */
+    public synchronized void compact(Consumer<Consumer<Cliente>> estadoAtual) {
+        Path temporario = snapshotPath.resolveSibling("clientes.snapshot.tmp");
+        try {
+            try (MappedAppender snapshot = new MappedAppender(temporario)) {
+                estadoAtual.accept(cliente -> snapshot.write(PUT, cliente.getId(), cliente));
+                snapshot.force();
+            }
+            Files.move(temporario, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (journal != null) {
+                journal.close();
+            }
+            journal = new MappedAppender(journalPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    long journalSize() {
+        return journal == null ? 0 : journal.position();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    private MappedAppender openJournal() {
+        if (journal == null) {
+            throw new IllegalStateException("Journal não inicializado: chame compact após restore.");
+        }
+        return journal;
+    }
+
+    private static long replay(Path path, Consumer<Cliente> put, LongConsumer delete) {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        long registros = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long tamanho = channel.size();
+            long inicio = 0;
+            MappedByteBuffer janela = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(tamanho, READ_WINDOW));
+            while (true) {
+                int posicao = janela.position();
+                try {
+                    if (!janela.hasRemaining()) {
+                        throw new BufferUnderflowException();
+                    }
+                    byte op = janela.get();
+                    if (op == PUT) {
+                        long id = janela.getLong();
+                        Cliente cliente = new Cliente(id, readString(janela), readString(janela), readString(janela));
+                        long criadoEm = janela.getLong();
+                        cliente.setCriadoEm(criadoEm == SEM_DATA ? null : Instant.EPOCH.plus(criadoEm, ChronoUnit.MICROS));
+                        put.accept(cliente);
+                    } else if (op == DELETE) {
+                        delete.accept(janela.getLong());
+                    } else {
+                        break;
+                    }
+                    registros++;
+                } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                    long proximo = inicio + posicao;
+                    if (posicao == 0 || proximo >= tamanho) {
+                        break;
+                    }
+                    inicio = proximo;
+                    janela = channel.map(FileChannel.MapMode.READ_ONLY, inicio, Math.min(tamanho - inicio, READ_WINDOW));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return registros;
+    }
+
+    private static String readString(MappedByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private final class MappedAppender implements AutoCloseable {
+
+        private final FileChannel channel;
+        private MappedByteBuffer buffer;
+        private long regionStart;
+
+        MappedAppender(Path path) {
+            try {
+                this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, REGION_SIZE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void write(byte op, long id, Cliente cliente) {
+            byte[] nome = cliente == null ? null : bytes(cliente.getNome());
+            byte[] email = cliente == null ? null : bytes(cliente.getEmail());
+            byte[] cpf = cliente == null ? null : bytes(cliente.getCpf());
+            int tamanho = 1 + Long.BYTES + (cliente == null ? 0 : size(nome) + size(email) + size(cpf) + Long.BYTES);
+            ensureCapacity(tamanho);
+
+            int inicio = buffer.position();
+            buffer.position(inicio + 1);
+            buffer.putLong(id);
+            if (cliente != null) {
+                putBytes(nome);
+                putBytes(email);
+                putBytes(cpf);
+                buffer.putLong(cliente.getCriadoEm() == null ? SEM_DATA : ChronoUnit.MICROS.between(Instant.EPOCH, cliente.getCriadoEm()));
+            }
+            buffer.put(inicio, op);
+            if (sync) {
+                buffer.force(inicio, tamanho);
+            }
+        }
+
+        long position() {
+            return regionStart + buffer.position();
+        }
+
+        void force() {
+            buffer.force();
+        }
+
+        private void ensureCapacity(int tamanho) {
+            if (buffer.remaining() >= tamanho) {
+                return;
+            }
+            try {
+                regionStart += buffer.position();
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, Math.max(REGION_SIZE, tamanho));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void putBytes(byte[] bytes) {
+            if (bytes == null) {
+                buffer.putInt(-1);
+            } else {
+                buffer.putInt(bytes.length);
+                buffer.put(bytes);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                buffer.force();
+                channel.truncate(position());
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Falha ao fechar {}: {}", channel, e.getMessage());
+            }
+        }
+    }
+
+    private static byte[] bytes(String valor) {
+        return valor == null ? null : valor.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int size(byte[] bytes) {
+        return Integer.BYTES + (bytes == null ? 0 : bytes.length);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.clienteapi.adapter.out.memory;
+
+import com.example.clienteapi.domain.model.AlteracaoCliente;
+import com.example.clienteapi.domain.port.out.AlteracaoClienteRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Component
+@Profile("memory")
+public class InMemoryAlteracaoClienteRepositoryAdapter implements AlteracaoClienteRepositoryPort {
+
+    private final ConcurrentSkipListMap<Long, AlteracaoCliente> alteracoes = new ConcurrentSkipListMap<>();
+    private long sequencia;
+
+    @Override
+    public synchronized List<AlteracaoCliente> acrescentar(List<AlteracaoCliente> novas) {
+        List<AlteracaoCliente> gravadas = new ArrayList<>(novas.size());
+        for (AlteracaoCliente alteracao : novas) {
+            long proxima = ++sequencia;
+            AlteracaoCliente gravada = new AlteracaoCliente(proxima, alteracao.getTipo(), alteracao.getCliente(), alteracao.getOcorridoEm());
+            alteracoes.put(proxima, gravada);
+            gravadas.add(gravada);
+        }
+        return gravadas;
+    }
+
+    @Override
+    public List<AlteracaoCliente> findAfter(long aposSequencia, int limite) {
+        return alteracoes.tailMap(aposSequencia, false).values().stream().limit(limite).toList();
+    }
+
+    @Override
+    public long findMaxSequencia() {
+        return alteracoes.isEmpty() ? 0L : alteracoes.lastKey();
+    }
+}
@@ -0,0 +1,360 @@
+package com.example.clienteapi.adapter.out.memory;
+
+import com.example.clienteapi.common.collection.ConcurrentLongObjectHashMap;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.ClienteCampo;
+import com.example.clienteapi.domain.model.ClienteFiltro;
+import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Repositório de clientes inteiramente em memória (perfil {@code memory}): índice primário por id sem boxing e
+ * índices de e-mail e CPF. A criação recusa de forma atômica um e-mail já cadastrado; a atualização, como no adapter
+ * JPA, aceita. Escritas de um mesmo id são serializadas por travas listradas; leituras não bloqueiam escritas de
+ * outros ids. Com {@code api.memory.data-dir} preenchido, as alterações vão para um {@link ClienteJournal}.
+ * Dentro de uma transação, cada escrita guarda o estado anterior do id e o rollback o restaura em ordem inversa;
+ * não há isolamento, então as escritas ficam visíveis a outras threads antes do commit.
+ */
+@Component
+@Profile("memory")
+public class InMemoryClienteRepositoryAdapter implements ClienteRepositoryPort {
+
+    private static final int STRIPES = 256;
+
+    private final ConcurrentLongObjectHashMap<Cliente> porId = new ConcurrentLongObjectHashMap<>();
+    private final ConcurrentHashMap<String, long[]> porEmail = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, long[]> porCpf = new ConcurrentHashMap<>();
+    private final AtomicLong sequencia = new AtomicLong();
+    private final Object[] travas = new Object[STRIPES];
+    private final ClienteJournal journal;
+    private final long compactThreshold;
+
+    public InMemoryClienteRepositoryAdapter(@Value("${api.memory.data-dir:}") String dataDir,
+                                            @Value("${api.memory.sync:false}") boolean sync,
+                                            @Value("${api.memory.compact-threshold:64MB}") DataSize compactThreshold) {
+        for (int i = 0; i < STRIPES; i++) {
+            travas[i] = new Object();
+        }
+        this.compactThreshold = compactThreshold.toBytes();
+        if (dataDir.isBlank()) {
+            this.journal = null;
+        } else {
+            this.journal = new ClienteJournal(Path.of(dataDir), sync);
+            journal.restore(this::indexar, this::desindexar);
+            journal.compact(this::forEach);
+        }
+    }
+
+    @Override
+    public Cliente save(Cliente cliente) {
+        long id = cliente.getId() == null ? sequencia.incrementAndGet() : cliente.getId();
+        if (cliente.getId() != null) {
+            sequencia.accumulateAndGet(id, Math::max);
+        }
+        Cliente salvo = new Cliente(id, cliente.getNome(), cliente.getEmail(), cliente.getCpf(), cliente.getCriadoEm());
+        synchronized (trava(id)) {
+            Cliente anterior = porId.get(id);
+            if (salvo.getCriadoEm() == null) {
+                salvo.setCriadoEm(anterior == null ? Instant.now().truncatedTo(ChronoUnit.MICROS) : anterior.getCriadoEm());
+            }
+            if (anterior == null && salvo.getEmail() != null) {
+                porEmail.compute(salvo.getEmail(), (email, ids) -> {
+                    if (ids != null) {
+                        throw new DuplicateKeyException("Email já cadastrado: " + email);
+                    }
+                    return new long[]{id};
+                });
+            }
+            registrarDesfazer(id, anterior);
+            gravar(id, anterior, salvo);
+        }
+        compactarSeNecessario();
+        return copia(salvo);
+    }
+
+    @Override
+    public List<Cliente> saveAll(List<Cliente> clientes) {
+        List<Cliente> salvos = new ArrayList<>(clientes.size());
+        clientes.forEach(cliente -> salvos.add(save(cliente)));
+        return salvos;
+    }
+
+    @Override
+    public Optional<Cliente> findById(Long id) {
+        return Optional.ofNullable(porId.get(id)).map(InMemoryClienteRepositoryAdapter::copia);
+    }
+
+    @Override
+    public List<Cliente> findAllByIds(Collection<Long> ids) {
+        List<Cliente> encontrados = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Cliente cliente = porId.get(id);
+            if (cliente != null) {
+                encontrados.add(copia(cliente));
+            }
+        }
+        return encontrados;
+    }
+
+    @Override
+    public List<Cliente> findAll() {
+        List<Cliente> clientes = new ArrayList<>(porId.size());
+        porId.forEachValue(cliente -> clientes.add(copia(cliente)));
+        clientes.sort(Comparator.comparing(Cliente::getId));
+        return clientes;
+    }
+
+    @Override
+    public List<Cliente> findAll(Set<ClienteCampo> campos) {
+        List<Cliente> clientes = findAll();
+        clientes.replaceAll(cliente -> ClienteCampo.projetar(cliente, campos));
+        return clientes;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        synchronized (trava(id)) {
+            Cliente removido = porId.get(id);
+            if (removido == null) {
+                return;
+            }
+            registrarDesfazer(id, removido);
+            gravar(id, removido, null);
+        }
+        compactarSeNecessario();
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return porEmail.containsKey(email);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        Set<String> existentes = new HashSet<>();
+        for (String email : emails) {
+            if (porEmail.containsKey(email)) {
+                existentes.add(email);
+            }
+        }
+        return existentes;
+    }
+
+    @Override
+    public List<Cliente> search(ClienteFiltro filtro) {
+        List<Cliente> candidatos = new ArrayList<>();
+        if (filtro.getEmail() != null || filtro.getCpf() != null) {
+            long[] ids = filtro.getEmail() != null ? porEmail.get(filtro.getEmail()) : porCpf.get(filtro.getCpf());
+            for (long id : ids == null ? new long[0] : ids) {
+                Cliente cliente = porId.get(id);
+                if (cliente != null) {
+                    candidatos.add(cliente);
+                }
+            }
+        } else {
+            porId.forEachValue(candidatos::add);
+        }
+        return candidatos.stream()
+                .filter(filtro::matches)
+                .sorted(Comparator.comparing(Cliente::getId))
+                .limit(filtro.getLimite())
+                .map(InMemoryClienteRepositoryAdapter::copia)
+                .toList();
+    }
+
+    @Override
+    public void forEach(Consumer<Cliente> consumer) {
+        porId.forEachValue(cliente -> consumer.accept(copia(cliente)));
+    }
+
+    @Override
+    public long count() {
+        return porId.size();
+    }
+
+    @Override
+    public Map<LocalDate, Long> countPorDiaDeCadastro(ZoneId fuso) {
+        Map<LocalDate, Long> porDia = new HashMap<>();
+        porId.forEachValue(cliente -> {
+            if (cliente.getCriadoEm() != null) {
+                porDia.merge(LocalDate.ofInstant(cliente.getCriadoEm(), fuso), 1L, Long::sum);
+            }
+        });
+        return porDia;
+    }
+
+    @Override
+    public Map<String, Long> countPorDominioDeEmail() {
+        Map<String, Long> porDominio = new HashMap<>();
+        porId.forEachValue(cliente -> {
+            if (cliente.getEmail() != null) {
+                porDominio.merge(Cliente.dominioDoEmail(cliente.getEmail()), 1L, Long::sum);
+            }
+        });
+        return porDominio;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (journal != null) {
+            journal.compact(this::forEach);
+            journal.close();
+        }
+    }
+
+    // Grava o novo estado do id (null remove) já com a trava do id adquirida.
+    private void gravar(long id, Cliente anterior, Cliente novo) {
+        if (anterior != null) {
+            removerIndices(anterior);
+        }
+        if (novo == null) {
+            porId.remove(id);
+        } else {
+            porId.put(id, novo);
+            adicionarIndices(novo);
+        }
+        if (journal != null) {
+            if (novo == null) {
+                journal.appendDelete(id);
+            } else {
+                journal.appendPut(novo);
+            }
+        }
+    }
+
+    private void registrarDesfazer(long id, Cliente anterior) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Deque<Runnable> desfazer = (Deque<Runnable>) TransactionSynchronizationManager.getResource(this);
+        if (desfazer == null) {
+            Deque<Runnable> novo = new ArrayDeque<>();
+            TransactionSynchronizationManager.bindResource(this, novo);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(InMemoryClienteRepositoryAdapter.this);
+                    if (status == STATUS_ROLLED_BACK) {
+                        novo.forEach(Runnable::run);
+                    }
+                }
+            });
+            desfazer = novo;
+        }
+        desfazer.push(() -> {
+            synchronized (trava(id)) {
+                gravar(id, porId.get(id), anterior);
+            }
+        });
+    }
+
+    private void indexar(Cliente cliente) {
+        desindexar(cliente.getId());
+        porId.put(cliente.getId(), cliente);
+        adicionarIndices(cliente);
+        sequencia.accumulateAndGet(cliente.getId(), Math::max);
+    }
+
+    private void desindexar(long id) {
+        Cliente removido = porId.remove(id);
+        if (removido != null) {
+            removerIndices(removido);
+        }
+    }
+
+    private void removerIndices(Cliente cliente) {
+        if (cliente.getEmail() != null) {
+            porEmail.computeIfPresent(cliente.getEmail(), (email, ids) -> remover(ids, cliente.getId()));
+        }
+        if (cliente.getCpf() != null) {
+            porCpf.computeIfPresent(cliente.getCpf(), (cpf, ids) -> remover(ids, cliente.getId()));
+        }
+    }
+
+    private void adicionarIndices(Cliente cliente) {
+        if (cliente.getEmail() != null) {
+            porEmail.merge(cliente.getEmail(), new long[]{cliente.getId()}, InMemoryClienteRepositoryAdapter::incluir);
+        }
+        if (cliente.getCpf() != null) {
+            porCpf.merge(cliente.getCpf(), new long[]{cliente.getId()}, InMemoryClienteRepositoryAdapter::incluir);
+        }
+    }
+
+    private void compactarSeNecessario() {
+        if (journal != null && journal.journalSize() > compactThreshold) {
+            journal.compact(this::forEach);
+        }
+    }
+
+    private Object trava(long id) {
+        return travas[(int) (id ^ (id >>> 32)) & (STRIPES - 1)];
+    }
+
+    private static Cliente copia(Cliente cliente) {
+        return new Cliente(cliente.getId(), cliente.getNome(), cliente.getEmail(), cliente.getCpf(), cliente.getCriadoEm());
+    }
+
+    // A criação já reserva o e-mail para o id antes de indexar, então o id pode já estar presente.
+    private static long[] incluir(long[] atuais, long[] novos) {
+        for (long id : atuais) {
+            if (id == novos[0]) {
+                return atuais;
+            }
+        }
+        return concatenar(atuais, novos);
+    }
+
+    private static long[] concatenar(long[] atuais, long[] novos) {
+        long[] resultado = new long[atuais.length + novos.length];
+        System.arraycopy(atuais, 0, resultado, 0, atuais.length);
+        System.arraycopy(novos, 0, resultado, atuais.length, novos.length);
+        return resultado;
+    }
+
+    static long[] remover(long[] ids, long id) {
+        int posicao = -1;
+        for (int i = 0; i < ids.length && posicao < 0; i++) {
+            if (ids[i] == id) {
+                posicao = i;
+            }
+        }
+        if (posicao < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        long[] resultado = new long[ids.length - 1];
+        System.arraycopy(ids, 0, resultado, 0, posicao);
+        System.arraycopy(ids, posicao + 1, resultado, posicao, ids.length - posicao - 1);
+        return resultado;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.clienteapi.adapter.out.memory;
+
+import com.example.clienteapi.domain.model.Importacao;
+import com.example.clienteapi.domain.port.out.ImportacaoRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Profile("memory")
+public class InMemoryImportacaoRepositoryAdapter implements ImportacaoRepositoryPort {
+
+    private final ConcurrentHashMap<Long, Importacao> importacoes = new ConcurrentHashMap<>();
+    private final AtomicLong sequencia = new AtomicLong();
+
+    @Override
+    public Importacao save(Importacao importacao) {
+        Long id = importacao.getId() == null ? sequencia.incrementAndGet() : importacao.getId();
+        Importacao salva = copia(importacao, id);
+        importacoes.put(id, salva);
+        return copia(salva, id);
+    }
+
+    @Override
+    public Optional<Importacao> findById(Long id) {
+        return Optional.ofNullable(importacoes.get(id)).map(importacao -> copia(importacao, id));
+    }
+
+    private static Importacao copia(Importacao importacao, Long id) {
+        return new Importacao(id, importacao.getStatus(), importacao.getLinhasConfirmadas(), importacao.getImportados(),
+                importacao.getDuplicados(), importacao.getInvalidos(), importacao.getIniciadaEm(), importacao.getAtualizadaEm());
+    }
+}
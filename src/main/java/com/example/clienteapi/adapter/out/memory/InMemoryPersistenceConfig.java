@@ -0,0 +1,16 @@
+package com.example.clienteapi.adapter.out.memory;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@Profile("memory")
+public class InMemoryPersistenceConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new InMemoryTransactionManager();
+    }
+}
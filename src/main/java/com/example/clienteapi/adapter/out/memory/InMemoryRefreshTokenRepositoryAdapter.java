@@ -0,0 +1,57 @@
+package com.example.clienteapi.adapter.out.memory;
+
+import com.example.clienteapi.domain.model.RefreshToken;
+import com.example.clienteapi.domain.port.out.RefreshTokenRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Profile("memory")
+public class InMemoryRefreshTokenRepositoryAdapter implements RefreshTokenRepositoryPort {
+
+    private record Registro(RefreshToken token, boolean usado) {
+    }
+
+    private final ConcurrentHashMap<String, Registro> tokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        tokens.put(refreshToken.getHash(), new Registro(refreshToken, false));
+    }
+
+    @Override
+    public Optional<RefreshToken> consumir(String hash) {
+        RefreshToken[] consumido = new RefreshToken[1];
+        tokens.computeIfPresent(hash, (chave, registro) -> {
+            if (registro.usado()) {
+                return registro;
+            }
+            consumido[0] = registro.token();
+            return new Registro(registro.token(), true);
+        });
+        return Optional.ofNullable(consumido[0]);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByHash(String hash) {
+        return Optional.ofNullable(tokens.get(hash)).map(Registro::token);
+    }
+
+    @Override
+    public int revogarFamilia(String familia) {
+        int antes = tokens.size();
+        tokens.values().removeIf(registro -> registro.token().getFamilia().equals(familia));
+        return antes - tokens.size();
+    }
+
+    @Override
+    public int removerExpirados(Instant agora) {
+        int antes = tokens.size();
+        tokens.values().removeIf(registro -> registro.token().getExpiraEm().isBefore(agora));
+        return antes - tokens.size();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.clienteapi.adapter.out.memory;
+
+import com.example.clienteapi.domain.model.TokenRevogado;
+import com.example.clienteapi.domain.port.out.TokenRevogadoRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/** Sem durabilidade: no perfil memory a lista de revogação recomeça vazia a cada inicialização. */
+@Component
+@Profile("memory")
+public class InMemoryTokenRevogadoRepositoryAdapter implements TokenRevogadoRepositoryPort {
+
+    private final ConcurrentHashMap<Long, TokenRevogado> tokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(TokenRevogado tokenRevogado) {
+        tokens.putIfAbsent(tokenRevogado.getJti(), tokenRevogado);
+    }
+
+    @Override
+    public void forEachNaoExpirado(Instant agora, Consumer<TokenRevogado> consumer) {
+        tokens.values().stream().filter(token -> token.getExpiraEm().isAfter(agora)).forEach(consumer);
+    }
+
+    @Override
+    public int removerExpirados(Instant agora) {
+        int antes = tokens.size();
+        tokens.values().removeIf(token -> !token.getExpiraEm().isAfter(agora));
+        return antes - tokens.size();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.clienteapi.adapter.out.memory;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Gerenciador de transações do perfil {@code memory}: não há recurso transacional, mas as sincronizações
+ * (envio de e-mail após o commit, {@code @TransactionalEventListener}) continuam sendo disparadas normalmente.
+ * O rollback também chega por elas: o {@link InMemoryClienteRepositoryAdapter} desfaz suas escritas no
+ * {@code afterCompletion}.
+ */
+public class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.clienteapi.adapter.out.memory;
+
+import com.example.clienteapi.domain.model.Usuario;
+import com.example.clienteapi.domain.port.out.UsuarioRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Profile("memory")
+public class InMemoryUsuarioRepositoryAdapter implements UsuarioRepositoryPort {
+
+    private final ConcurrentHashMap<String, Usuario> usuarios = new ConcurrentHashMap<>();
+    private final AtomicLong sequencia = new AtomicLong();
+
+    @Override
+    public Usuario save(Usuario usuario) {
+        Long id = usuario.getId() == null ? sequencia.incrementAndGet() : usuario.getId();
+        Usuario salvo = copia(usuario, id);
+        usuarios.put(usuario.getUsername(), salvo);
+        return copia(salvo, id);
+    }
+
+    @Override
+    public Optional<Usuario> findByUsername(String username) {
+        return Optional.ofNullable(usuarios.get(username)).map(usuario -> copia(usuario, usuario.getId()));
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return usuarios.containsKey(username);
+    }
+
+    @Override
+    public void atualizarSenha(String username, String senha) {
+        usuarios.computeIfPresent(username, (chave, usuario) -> new Usuario(usuario.getId(), chave, senha, usuario.getPapeis()));
+    }
+
+    private static Usuario copia(Usuario usuario, Long id) {
+        return new Usuario(id, usuario.getUsername(), usuario.getSenha(), List.copyOf(usuario.getPapeis()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.clienteapi.adapter.out.messagequeue;
+
+import com.example.clienteapi.config.RabbitMQConfig;
+import com.example.clienteapi.domain.model.TokenRevogado;
+import com.example.clienteapi.domain.port.out.TokenRevogadoPublisherPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Publica cada revogação no exchange fanout de tokens revogados, que entrega uma cópia à fila de cada instância.
+ * Uma instância que perder a mensagem recebe a revogação do banco na próxima inicialização.
+ */
+@Component
+@Slf4j
+public class RabbitMQTokenRevogadoPublisherAdapter implements TokenRevogadoPublisherPort {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public RabbitMQTokenRevogadoPublisherAdapter(RabbitTemplate rabbitTemplate) {
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    @Override
+    public void publicar(TokenRevogado tokenRevogado) {
+        try {
+            String mensagem = objectMapper.writeValueAsString(
+                    Map.of("jti", tokenRevogado.getJti(), "expiraEm", tokenRevogado.getExpiraEm().getEpochSecond()));
+            rabbitTemplate.convertAndSend(RabbitMQConfig.REVOGACAO_EXCHANGE_NAME, "", mensagem);
+        } catch (JsonProcessingException | AmqpException e) {
+            log.warn("Falha ao propagar a revogação do token {} para as demais instâncias: {}", tokenRevogado.getJti(), e.getMessage());
+        }
+    }
+}
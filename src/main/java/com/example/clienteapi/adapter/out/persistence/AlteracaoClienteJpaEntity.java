@@ -0,0 +1,30 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import com.example.clienteapi.domain.event.ClienteEvent;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "clientes_alteracoes")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlteracaoClienteJpaEntity {
+    @Id
+    private Long sequencia;
+    @Enumerated(EnumType.STRING)
+    private ClienteEvent.Tipo tipo;
+    private Long clienteId;
+    private String nome;
+    private String email;
+    private String cpf;
+    private Instant ocorridoEm;
+}
@@ -0,0 +1,17 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AlteracaoClienteJpaRepository extends JpaRepository<AlteracaoClienteJpaEntity, Long> {
+
+    List<AlteracaoClienteJpaEntity> findBySequenciaGreaterThanOrderBySequenciaAsc(long sequencia, Limit limit);
+
+    @Query("select coalesce(max(a.sequencia), 0) from AlteracaoClienteJpaEntity a")
+    long findMaxSequencia();
+}
@@ -0,0 +1,117 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import com.example.clienteapi.domain.model.AlteracaoCliente;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.port.out.AlteracaoClienteRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * As sequências vêm de um contador em linha única: o {@code UPDATE} que as reserva trava a linha até o fim da
+ * transação, então transações concorrentes confirmam na ordem das sequências e o feed não tem lacunas.
+ */
+@Component
+@Profile("!memory")
+@Slf4j
+public class AlteracaoClienteJpaRepositoryAdapter implements AlteracaoClienteRepositoryPort {
+
+    private static final String INSERT_SQL = "INSERT INTO clientes_alteracoes (sequencia, tipo, cliente_id, nome, email, cpf, ocorrido_em) "
+            + "VALUES (:sequencia, :tipo, :clienteId, :nome, :email, :cpf, :ocorridoEm)";
+    private static final String RESERVAR_SQL = "UPDATE clientes_alteracoes_sequencia SET valor = valor + :quantidade WHERE id = 1";
+    private static final String ULTIMA_SQL = "SELECT valor FROM clientes_alteracoes_sequencia WHERE id = 1";
+    private static final String CRIAR_CONTADOR_SQL = "INSERT INTO clientes_alteracoes_sequencia (id, valor) "
+            + "SELECT 1, COALESCE(MAX(sequencia), 0) FROM clientes_alteracoes";
+
+    private final AlteracaoClienteJpaRepository alteracaoClienteJpaRepository;
+    private final DataSource dataSource;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public AlteracaoClienteJpaRepositoryAdapter(AlteracaoClienteJpaRepository alteracaoClienteJpaRepository, DataSource dataSource) {
+        this.alteracaoClienteJpaRepository = alteracaoClienteJpaRepository;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    @Transactional
+    public List<AlteracaoCliente> acrescentar(List<AlteracaoCliente> alteracoes) {
+        if (alteracoes.isEmpty()) {
+            return List.of();
+        }
+        long sequencia = reservarSequencias(alteracoes.size()) - alteracoes.size();
+        List<AlteracaoCliente> gravadas = new ArrayList<>(alteracoes.size());
+        SqlParameterSource[] parametros = new SqlParameterSource[alteracoes.size()];
+        for (AlteracaoCliente alteracao : alteracoes) {
+            AlteracaoCliente gravada = new AlteracaoCliente(++sequencia, alteracao.getTipo(), alteracao.getCliente(), alteracao.getOcorridoEm());
+            parametros[gravadas.size()] = new MapSqlParameterSource()
+                    .addValue("sequencia", gravada.getSequencia())
+                    .addValue("tipo", gravada.getTipo().name())
+                    .addValue("clienteId", gravada.getCliente().getId())
+                    .addValue("nome", gravada.getCliente().getNome())
+                    .addValue("email", gravada.getCliente().getEmail())
+                    .addValue("cpf", gravada.getCliente().getCpf())
+                    .addValue("ocorridoEm", Timestamp.from(gravada.getOcorridoEm()));
+            gravadas.add(gravada);
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, parametros);
+        return gravadas;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AlteracaoCliente> findAfter(long aposSequencia, int limite) {
+        return alteracaoClienteJpaRepository.findBySequenciaGreaterThanOrderBySequenciaAsc(aposSequencia, Limit.of(limite))
+                .stream()
+                .map(this::toDomainModel)
+                .toList();
+    }
+
+    @Override
+    public long findMaxSequencia() {
+        return alteracaoClienteJpaRepository.findMaxSequencia();
+    }
+
+    private long reservarSequencias(int quantidade) {
+        MapSqlParameterSource parametros = new MapSqlParameterSource("quantidade", quantidade);
+        if (jdbcTemplate.update(RESERVAR_SQL, parametros) == 0) {
+            criarContador();
+            if (jdbcTemplate.update(RESERVAR_SQL, parametros) == 0) {
+                throw new IllegalStateException("Contador de sequência do feed de alterações não encontrado.");
+            }
+        }
+        return jdbcTemplate.queryForObject(ULTIMA_SQL, Map.of(), Long.class);
+    }
+
+    /**
+     * Cria o contador numa conexão própria, fora da transação corrente: se outra instância criá-lo ao mesmo tempo,
+     * a chave duplicada falha só aqui, sem abortar a transação que está gravando as alterações.
+     */
+    private void criarContador() {
+        try (Connection conexao = dataSource.getConnection(); Statement statement = conexao.createStatement()) {
+            conexao.setAutoCommit(true);
+            statement.executeUpdate(CRIAR_CONTADOR_SQL);
+        } catch (SQLException e) {
+            log.debug("Contador de sequência do feed de alterações já criado: {}", e.getMessage());
+        }
+    }
+
+    private AlteracaoCliente toDomainModel(AlteracaoClienteJpaEntity entity) {
+        Cliente cliente = new Cliente(entity.getClienteId(), entity.getNome(), entity.getEmail(), entity.getCpf());
+        return new AlteracaoCliente(entity.getSequencia(), entity.getTipo(), cliente, entity.getOcorridoEm());
+    }
+}
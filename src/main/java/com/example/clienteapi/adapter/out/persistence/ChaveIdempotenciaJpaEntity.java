@@ -0,0 +1,32 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tabela do {@link com.example.clienteapi.config.idempotency.JdbcIdempotencyStore}, que a acessa via JDBC.
+ * Mapeada aqui só para que o schema seja gerenciado junto com o das demais tabelas.
+ */
+@Entity
+@Table(name = "chaves_idempotencia")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChaveIdempotenciaJpaEntity {
+    @Id
+    @Column(length = 255)
+    private String chave;
+    @Column(length = 64, nullable = false)
+    private String fingerprint;
+    @Column(nullable = false)
+    private int status;
+    @Column(length = 4000)
+    private String corpo;
+    @Column(name = "expira_em", nullable = false)
+    private long expiraEm;
+}
@@ -1,16 +1,25 @@
 package com.example.clienteapi.adapter.out.persistence;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
 @Entity
-@Table(name = "clientes")
+@Table(name = "clientes", indexes = {
+        @Index(name = "idx_clientes_email", columnList = "email"),
+        @Index(name = "idx_clientes_cpf", columnList = "cpf")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,4 +30,17 @@ public class ClienteJpaEntity {
     private String nome;
     private String email;
     private String cpf;
+    @Column(name = "criado_em", updatable = false)
+    private Instant criadoEm;
+
+    public ClienteJpaEntity(Long id, String nome, String email, String cpf) {
+        this(id, nome, email, cpf, null);
+    }
+
+    @PrePersist
+    void aoCriar() {
+        if (criadoEm == null) {
+            criadoEm = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        }
+    }
 }
@@ -1,12 +1,67 @@
 package com.example.clienteapi.adapter.out.persistence;
 
+import com.example.clienteapi.domain.model.Cliente;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * As consultas de leitura projetam direto em {@link Cliente} ({@code select new}): nada entra no contexto de
+ * persistência, então não há entidade gerenciada nem snapshot para dirty checking a cada registro lido.
+ * Cada consulta já roda na transação somente leitura que o Spring Data aplica ao repositório; o adapter só
+ * declara a sua quando encadeia mais de uma consulta.
+ */
 @Repository
 public interface ClienteJpaRepository extends JpaRepository<ClienteJpaEntity, Long> {
+    String PROJECAO = "select new com.example.clienteapi.domain.model.Cliente(c.id, c.nome, c.email, c.cpf, c.criadoEm)"
+            + " from ClienteJpaEntity c";
+
     Optional<ClienteJpaEntity> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("select c.email from ClienteJpaEntity c where c.email in :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    @Query(PROJECAO + " where c.id = :id")
+    Optional<Cliente> findClienteById(@Param("id") Long id);
+
+    @Query(PROJECAO + " where c.id in :ids")
+    List<Cliente> findAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(PROJECAO + " order by c.id asc")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    List<Cliente> findAllClientes();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ClienteJpaEntity c set c.nome = :nome, c.email = :email, c.cpf = :cpf where c.id = :id")
+    int atualizar(@Param("id") Long id, @Param("nome") String nome, @Param("email") String email, @Param("cpf") String cpf);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ClienteJpaEntity c where c.id = :id")
+    int remover(@Param("id") Long id);
+
+    @Query(PROJECAO)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Cliente> streamAll();
+
+    /** Uma linha por dia (ano, mês, dia, quantidade), com o dia calculado no fuso informado. */
+    @Query(nativeQuery = true, value = "select extract(year from data_local), extract(month from data_local),"
+            + " extract(day from data_local), count(*)"
+            + " from (select criado_em at time zone :fuso as data_local from clientes where criado_em is not null) d"
+            + " group by extract(year from data_local), extract(month from data_local), extract(day from data_local)")
+    List<Object[]> countPorDiaDeCadastro(@Param("fuso") String fuso);
+
+    @Query("select lower(substring(c.email, locate('@', c.email) + 1)), count(c) from ClienteJpaEntity c"
+            + " where c.email is not null group by lower(substring(c.email, locate('@', c.email) + 1))")
+    List<Object[]> countPorDominioDeEmail();
 }
@@ -1,45 +1,151 @@
 package com.example.clienteapi.adapter.out.persistence;
 
+import com.example.clienteapi.common.time.Fusos;
 import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.ClienteCampo;
+import com.example.clienteapi.domain.model.ClienteFiltro;
 import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
+@Profile("!memory & !sharded")
 public class ClienteJpaRepositoryAdapter implements ClienteRepositoryPort {
 
+    private static final int IN_CHUNK_SIZE = 1000;
+    private static final String INSERT_SQL = "INSERT INTO clientes (nome, email, cpf, criado_em) VALUES (:nome, :email, :cpf, :criadoEm)";
+
     private final ClienteJpaRepository clienteJpaRepository;
+    private final EntityManager entityManager;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
-    public ClienteJpaRepositoryAdapter(ClienteJpaRepository clienteJpaRepository) {
+    public ClienteJpaRepositoryAdapter(ClienteJpaRepository clienteJpaRepository, EntityManager entityManager, DataSource dataSource) {
         this.clienteJpaRepository = clienteJpaRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
     }
 
+    // Como as leituras não carregam entidades, a atualização vai direto ao banco em vez de passar por um merge,
+    // que faria outro SELECT para trazer a entidade ao contexto de persistência. Se a linha sumiu entre a leitura e a
+    // atualização, falha em vez de cair no merge, que inseriria o cliente com outro ID.
     @Override
+    @Transactional
     public Cliente save(Cliente cliente) {
+        if (cliente.getId() != null) {
+            if (clienteJpaRepository.atualizar(cliente.getId(), cliente.getNome(), cliente.getEmail(), cliente.getCpf()) == 0) {
+                throw new IllegalArgumentException("Cliente não encontrado com ID: " + cliente.getId());
+            }
+            return cliente;
+        }
         ClienteJpaEntity entity = toJpaEntity(cliente);
         ClienteJpaEntity savedEntity = clienteJpaRepository.save(entity);
         return toDomainModel(savedEntity);
     }
 
+    @Override
+    @Transactional
+    public List<Cliente> saveAll(List<Cliente> clientes) {
+        entityManager.flush();
+        Instant agora = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        SqlParameterSource[] parametros = clientes.stream()
+                .map(cliente -> new MapSqlParameterSource()
+                        .addValue("nome", cliente.getNome())
+                        .addValue("email", cliente.getEmail())
+                        .addValue("cpf", cliente.getCpf())
+                        .addValue("criadoEm", Timestamp.from(cliente.getCriadoEm() == null ? agora : cliente.getCriadoEm())))
+                .toArray(SqlParameterSource[]::new);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SQL, parametros, keyHolder, new String[]{"id"});
+
+        List<Map<String, Object>> chaves = keyHolder.getKeyList();
+        List<Cliente> salvos = new ArrayList<>(clientes.size());
+        for (int i = 0; i < clientes.size(); i++) {
+            Cliente cliente = clientes.get(i);
+            Long id = ((Number) chaves.get(i).values().iterator().next()).longValue();
+            salvos.add(new Cliente(id, cliente.getNome(), cliente.getEmail(), cliente.getCpf(),
+                    cliente.getCriadoEm() == null ? agora : cliente.getCriadoEm()));
+        }
+        return salvos;
+    }
+
     @Override
     public Optional<Cliente> findById(Long id) {
-        return clienteJpaRepository.findById(id)
-                .map(this::toDomainModel);
+        return clienteJpaRepository.findClienteById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Cliente> findAllByIds(Collection<Long> ids) {
+        List<Long> pendentes = new ArrayList<>(ids);
+        List<Cliente> encontrados = new ArrayList<>(pendentes.size());
+        for (int inicio = 0; inicio < pendentes.size(); inicio += IN_CHUNK_SIZE) {
+            List<Long> parte = pendentes.subList(inicio, Math.min(inicio + IN_CHUNK_SIZE, pendentes.size()));
+            encontrados.addAll(clienteJpaRepository.findAllByIdIn(parte));
+        }
+        return encontrados;
     }
 
     @Override
     public List<Cliente> findAll() {
-        return clienteJpaRepository.findAll().stream()
-                .map(this::toDomainModel)
+        return clienteJpaRepository.findAllClientes();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Cliente> findAll(Set<ClienteCampo> campos) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ClienteJpaEntity> root = query.from(ClienteJpaEntity.class);
+        List<Selection<?>> colunas = new ArrayList<>();
+        for (ClienteCampo campo : campos) {
+            colunas.add(root.get(atributo(campo)).alias(atributo(campo)));
+        }
+        query.multiselect(colunas).orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query).getResultStream()
+                .map(tupla -> new Cliente(
+                        campos.contains(ClienteCampo.ID) ? tupla.get("id", Long.class) : null,
+                        campos.contains(ClienteCampo.NOME) ? tupla.get("nome", String.class) : null,
+                        campos.contains(ClienteCampo.EMAIL) ? tupla.get("email", String.class) : null,
+                        campos.contains(ClienteCampo.CPF) ? tupla.get("cpf", String.class) : null))
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
-        clienteJpaRepository.deleteById(id);
+        clienteJpaRepository.remover(id);
     }
 
     @Override
@@ -47,11 +153,102 @@ public class ClienteJpaRepositoryAdapter implements ClienteRepositoryPort {
         return clienteJpaRepository.existsByEmail(email);
     }
 
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        List<String> pendentes = new ArrayList<>(emails);
+        Set<String> existentes = new HashSet<>();
+        for (int inicio = 0; inicio < pendentes.size(); inicio += IN_CHUNK_SIZE) {
+            List<String> parte = pendentes.subList(inicio, Math.min(inicio + IN_CHUNK_SIZE, pendentes.size()));
+            existentes.addAll(clienteJpaRepository.findEmailsIn(parte));
+        }
+        return existentes;
+    }
+
+    // Todos os critérios vão para o WHERE antes do LIMIT; filtrar depois encurtaria a página e o controller
+    // encerraria a paginação mesmo com resultados adiante.
+    @Override
+    @Transactional(readOnly = true)
+    public List<Cliente> search(ClienteFiltro filtro) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Cliente> query = cb.createQuery(Cliente.class);
+        Root<ClienteJpaEntity> root = query.from(ClienteJpaEntity.class);
+        List<Predicate> criterios = new ArrayList<>();
+        criterios.add(cb.greaterThan(root.get("id"), filtro.getAposId()));
+        if (filtro.getEmail() != null) {
+            criterios.add(cb.equal(root.get("email"), filtro.getEmail()));
+        }
+        if (filtro.getCpf() != null) {
+            criterios.add(cb.equal(root.get("cpf"), filtro.getCpf()));
+        }
+        if (filtro.getNome() != null) {
+            criterios.add(cb.like(cb.lower(root.get("nome")), toLikePattern(filtro), '\\'));
+        }
+        query.select(cb.construct(Cliente.class, root.get("id"), root.get("nome"), root.get("email"), root.get("cpf"),
+                        root.get("criadoEm")))
+                .where(criterios.toArray(Predicate[]::new))
+                .orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query).setMaxResults(filtro.getLimite()).getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Cliente> consumer) {
+        try (Stream<Cliente> clientes = clienteJpaRepository.streamAll()) {
+            clientes.forEach(consumer);
+        }
+    }
+
+    @Override
+    public long count() {
+        return clienteJpaRepository.count();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Long> countPorDiaDeCadastro(ZoneId fuso) {
+        Map<LocalDate, Long> porDia = new HashMap<>();
+        for (Object[] linha : clienteJpaRepository.countPorDiaDeCadastro(Fusos.nomeParaSql(fuso))) {
+            porDia.put(LocalDate.of(((Number) linha[0]).intValue(), ((Number) linha[1]).intValue(), ((Number) linha[2]).intValue()),
+                    ((Number) linha[3]).longValue());
+        }
+        return porDia;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> countPorDominioDeEmail() {
+        Map<String, Long> porDominio = new HashMap<>();
+        for (Object[] linha : clienteJpaRepository.countPorDominioDeEmail()) {
+            porDominio.put((String) linha[0], ((Number) linha[1]).longValue());
+        }
+        return porDominio;
+    }
+
+    private static String atributo(ClienteCampo campo) {
+        return switch (campo) {
+            case ID -> "id";
+            case NOME -> "nome";
+            case EMAIL -> "email";
+            case CPF -> "cpf";
+        };
+    }
+
+    private String toLikePattern(ClienteFiltro filtro) {
+        String escaped = filtro.getNomeNormalizado()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return filtro.getTipoBuscaNome() == ClienteFiltro.TipoBuscaNome.CONTEM
+                ? "%" + escaped + "%"
+                : escaped + "%";
+    }
+
     private ClienteJpaEntity toJpaEntity(Cliente cliente) {
-        return new ClienteJpaEntity(cliente.getId(), cliente.getNome(), cliente.getEmail(), cliente.getCpf());
+        return new ClienteJpaEntity(cliente.getId(), cliente.getNome(), cliente.getEmail(), cliente.getCpf(), cliente.getCriadoEm());
     }
 
     private Cliente toDomainModel(ClienteJpaEntity entity) {
-        return new Cliente(entity.getId(), entity.getNome(), entity.getEmail(), entity.getCpf());
+        return new Cliente(entity.getId(), entity.getNome(), entity.getEmail(), entity.getCpf(), entity.getCriadoEm());
     }
 }
@@ -0,0 +1,62 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Cria os índices funcionais de busca por nome que o Hibernate não consegue declarar via anotações
+ * (lower(nome) com text_pattern_ops para prefixo e pg_trgm para busca por trecho). Só atua no PostgreSQL.
+ */
+@Component
+@Profile("!memory & !sharded")
+@Slf4j
+public class ClienteSearchIndexInitializer implements ApplicationRunner {
+
+    static final String PREFIX_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_clientes_nome_prefixo ON clientes (lower(nome) text_pattern_ops)";
+    static final String TRIGRAM_EXTENSION = "CREATE EXTENSION IF NOT EXISTS pg_trgm";
+    static final String TRIGRAM_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_clientes_nome_trgm ON clientes USING gin (lower(nome) gin_trgm_ops)";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ClienteSearchIndexInitializer(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!isPostgreSql()) {
+            log.debug("Banco de dados não é PostgreSQL; índices funcionais de busca não serão criados.");
+            return;
+        }
+        jdbcTemplate.execute(PREFIX_INDEX);
+        try {
+            jdbcTemplate.execute(TRIGRAM_EXTENSION);
+            jdbcTemplate.execute(TRIGRAM_INDEX);
+        } catch (DataAccessException e) {
+            log.warn("Não foi possível habilitar pg_trgm; busca por trecho do nome fará varredura completa: {}", e.getMessage());
+        }
+    }
+
+    private boolean isPostgreSql() {
+        try {
+            String produto = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equalsIgnoreCase(produto);
+        } catch (Exception e) {
+            log.warn("Não foi possível identificar o banco de dados: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import com.example.clienteapi.domain.model.Importacao;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "importacoes_clientes")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportacaoJpaEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Enumerated(EnumType.STRING)
+    private Importacao.Status status;
+    private long linhasConfirmadas;
+    private long importados;
+    private long duplicados;
+    private long invalidos;
+    private Instant iniciadaEm;
+    private Instant atualizadaEm;
+}
@@ -0,0 +1,41 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import com.example.clienteapi.domain.model.Importacao;
+import com.example.clienteapi.domain.port.out.ImportacaoRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@Profile("!memory")
+public class ImportacaoJpaRepositoryAdapter implements ImportacaoRepositoryPort {
+
+    private final ImportacaoJpaRepository importacaoJpaRepository;
+
+    public ImportacaoJpaRepositoryAdapter(ImportacaoJpaRepository importacaoJpaRepository) {
+        this.importacaoJpaRepository = importacaoJpaRepository;
+    }
+
+    @Override
+    public Importacao save(Importacao importacao) {
+        return toDomainModel(importacaoJpaRepository.save(toJpaEntity(importacao)));
+    }
+
+    @Override
+    public Optional<Importacao> findById(Long id) {
+        return importacaoJpaRepository.findById(id).map(this::toDomainModel);
+    }
+
+    private ImportacaoJpaEntity toJpaEntity(Importacao importacao) {
+        return new ImportacaoJpaEntity(importacao.getId(), importacao.getStatus(), importacao.getLinhasConfirmadas(),
+                importacao.getImportados(), importacao.getDuplicados(), importacao.getInvalidos(),
+                importacao.getIniciadaEm(), importacao.getAtualizadaEm());
+    }
+
+    private Importacao toDomainModel(ImportacaoJpaEntity entity) {
+        return new Importacao(entity.getId(), entity.getStatus(), entity.getLinhasConfirmadas(),
+                entity.getImportados(), entity.getDuplicados(), entity.getInvalidos(),
+                entity.getIniciadaEm(), entity.getAtualizadaEm());
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_expira_em", columnList = "expiraEm"),
+        @Index(name = "idx_refresh_tokens_familia", columnList = "familia")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenJpaEntity {
+    @Id
+    @Column(length = 64)
+    private String hash;
+    @Column(nullable = false)
+    private String username;
+    @Column(length = 32)
+    private String familia;
+    @Column(nullable = false)
+    private Instant expiraEm;
+    private Instant usadoEm;
+}
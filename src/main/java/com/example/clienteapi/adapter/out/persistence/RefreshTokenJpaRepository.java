@@ -0,0 +1,25 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenJpaEntity, String> {
+
+    @Modifying
+    @Query("update RefreshTokenJpaEntity t set t.usadoEm = :agora where t.hash = :hash and t.usadoEm is null")
+    int marcarUsado(@Param("hash") String hash, @Param("agora") Instant agora);
+
+    @Modifying
+    @Query("delete from RefreshTokenJpaEntity t where t.familia = :familia")
+    int deleteByFamilia(@Param("familia") String familia);
+
+    @Modifying
+    @Query("delete from RefreshTokenJpaEntity t where t.expiraEm < :agora")
+    int deleteExpirados(@Param("agora") Instant agora);
+}
@@ -0,0 +1,67 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import com.example.clienteapi.domain.model.RefreshToken;
+import com.example.clienteapi.domain.port.out.RefreshTokenRepositoryPort;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Component
+@Profile("!memory")
+public class RefreshTokenJpaRepositoryAdapter implements RefreshTokenRepositoryPort {
+
+    private final RefreshTokenJpaRepository refreshTokenJpaRepository;
+    private final EntityManager entityManager;
+
+    public RefreshTokenJpaRepositoryAdapter(RefreshTokenJpaRepository refreshTokenJpaRepository, EntityManager entityManager) {
+        this.refreshTokenJpaRepository = refreshTokenJpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    // persist direto: o save do Spring Data faria um SELECT antes, por causa do id atribuído.
+    @Override
+    @Transactional
+    public void save(RefreshToken refreshToken) {
+        entityManager.persist(new RefreshTokenJpaEntity(refreshToken.getHash(), refreshToken.getUsername(),
+                refreshToken.getFamilia(), refreshToken.getExpiraEm(), null));
+    }
+
+    // O UPDATE condicional decide entre renovações concorrentes do mesmo token: só a que marca a linha o recebe.
+    @Override
+    @Transactional
+    public Optional<RefreshToken> consumir(String hash) {
+        Optional<RefreshTokenJpaEntity> entity = refreshTokenJpaRepository.findById(hash);
+        if (entity.isEmpty() || refreshTokenJpaRepository.marcarUsado(hash, Instant.now()) == 0) {
+            return Optional.empty();
+        }
+        return entity.map(RefreshTokenJpaRepositoryAdapter::toDomainModel);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RefreshToken> findByHash(String hash) {
+        return refreshTokenJpaRepository.findById(hash).map(RefreshTokenJpaRepositoryAdapter::toDomainModel);
+    }
+
+    @Override
+    @Transactional
+    public int revogarFamilia(String familia) {
+        return refreshTokenJpaRepository.deleteByFamilia(familia);
+    }
+
+    @Override
+    @Transactional
+    public int removerExpirados(Instant agora) {
+        return refreshTokenJpaRepository.deleteExpirados(agora);
+    }
+
+    // Tokens gravados antes das famílias formam, cada um, uma família própria.
+    private static RefreshToken toDomainModel(RefreshTokenJpaEntity entity) {
+        return new RefreshToken(entity.getHash(), entity.getUsername(),
+                entity.getFamilia() == null ? entity.getHash() : entity.getFamilia(), entity.getExpiraEm());
+    }
+}
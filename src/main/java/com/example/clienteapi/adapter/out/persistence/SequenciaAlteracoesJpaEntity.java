@@ -0,0 +1,23 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Contador de sequência do feed de alterações, incrementado via JDBC pelo {@link AlteracaoClienteJpaRepositoryAdapter}.
+ * Mapeado aqui só para que o schema seja gerenciado junto com o das demais tabelas.
+ */
+@Entity
+@Table(name = "clientes_alteracoes_sequencia")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SequenciaAlteracoesJpaEntity {
+    @Id
+    private Integer id;
+    private long valor;
+}
@@ -0,0 +1,24 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "revoked_tokens", indexes = @Index(name = "idx_revoked_tokens_expira_em", columnList = "expiraEm"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevogadoJpaEntity {
+    @Id
+    private Long jti;
+    @Column(nullable = false)
+    private Instant expiraEm;
+}
@@ -0,0 +1,26 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import com.example.clienteapi.domain.model.TokenRevogado;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+@Repository
+public interface TokenRevogadoJpaRepository extends JpaRepository<TokenRevogadoJpaEntity, Long> {
+
+    @Query("select new com.example.clienteapi.domain.model.TokenRevogado(t.jti, t.expiraEm) from TokenRevogadoJpaEntity t where t.expiraEm > :agora")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<TokenRevogado> streamNaoExpirados(@Param("agora") Instant agora);
+
+    @Modifying
+    @Query("delete from TokenRevogadoJpaEntity t where t.expiraEm <= :agora")
+    int deleteExpirados(@Param("agora") Instant agora);
+}
@@ -0,0 +1,47 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import com.example.clienteapi.domain.model.TokenRevogado;
+import com.example.clienteapi.domain.port.out.TokenRevogadoRepositoryPort;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Component
+@Profile("!memory")
+public class TokenRevogadoJpaRepositoryAdapter implements TokenRevogadoRepositoryPort {
+
+    private final TokenRevogadoJpaRepository tokenRevogadoJpaRepository;
+    private final EntityManager entityManager;
+
+    public TokenRevogadoJpaRepositoryAdapter(TokenRevogadoJpaRepository tokenRevogadoJpaRepository, EntityManager entityManager) {
+        this.tokenRevogadoJpaRepository = tokenRevogadoJpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public void save(TokenRevogado tokenRevogado) {
+        if (!tokenRevogadoJpaRepository.existsById(tokenRevogado.getJti())) {
+            entityManager.persist(new TokenRevogadoJpaEntity(tokenRevogado.getJti(), tokenRevogado.getExpiraEm()));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachNaoExpirado(Instant agora, Consumer<TokenRevogado> consumer) {
+        try (Stream<TokenRevogado> tokens = tokenRevogadoJpaRepository.streamNaoExpirados(agora)) {
+            tokens.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int removerExpirados(Instant agora) {
+        return tokenRevogadoJpaRepository.deleteExpirados(agora);
+    }
+}
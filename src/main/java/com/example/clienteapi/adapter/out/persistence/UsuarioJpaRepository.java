@@ -0,0 +1,19 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UsuarioJpaRepository extends JpaRepository<UsuarioJpaEntity, Long> {
+    Optional<UsuarioJpaEntity> findByUsername(String username);
+    boolean existsByUsername(String username);
+
+    @Modifying
+    @Query("update UsuarioJpaEntity u set u.senha = :senha where u.username = :username")
+    int atualizarSenha(@Param("username") String username, @Param("senha") String senha);
+}
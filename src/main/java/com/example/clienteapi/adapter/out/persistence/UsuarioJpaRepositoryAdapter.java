@@ -0,0 +1,55 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import com.example.clienteapi.domain.model.Usuario;
+import com.example.clienteapi.domain.port.out.UsuarioRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@Profile("!memory")
+public class UsuarioJpaRepositoryAdapter implements UsuarioRepositoryPort {
+
+    private final UsuarioJpaRepository usuarioJpaRepository;
+
+    public UsuarioJpaRepositoryAdapter(UsuarioJpaRepository usuarioJpaRepository) {
+        this.usuarioJpaRepository = usuarioJpaRepository;
+    }
+
+    @Override
+    public Usuario save(Usuario usuario) {
+        return toDomainModel(usuarioJpaRepository.save(toJpaEntity(usuario)));
+    }
+
+    @Override
+    public Optional<Usuario> findByUsername(String username) {
+        return usuarioJpaRepository.findByUsername(username).map(this::toDomainModel);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return usuarioJpaRepository.existsByUsername(username);
+    }
+
+    @Override
+    @Transactional
+    public void atualizarSenha(String username, String senha) {
+        usuarioJpaRepository.atualizarSenha(username, senha);
+    }
+
+    private UsuarioJpaEntity toJpaEntity(Usuario usuario) {
+        return new UsuarioJpaEntity(usuario.getId(), usuario.getUsername(), usuario.getSenha(),
+                String.join(",", usuario.getPapeis()));
+    }
+
+    private Usuario toDomainModel(UsuarioJpaEntity entity) {
+        List<String> papeis = entity.getPapeis() == null || entity.getPapeis().isEmpty()
+                ? List.of()
+                : Arrays.asList(entity.getPapeis().split(","));
+        return new Usuario(entity.getId(), entity.getUsername(), entity.getSenha(), papeis);
+    }
+}
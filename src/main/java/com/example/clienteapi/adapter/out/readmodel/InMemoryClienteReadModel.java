@@ -0,0 +1,311 @@
+package com.example.clienteapi.adapter.out.readmodel;
+
+import com.example.clienteapi.common.collection.LongObjectHashMap;
+import com.example.clienteapi.domain.event.ClienteEvent;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.ClienteCampo;
+import com.example.clienteapi.domain.model.ClienteFiltro;
+import com.example.clienteapi.domain.port.out.ClienteReadModelPort;
+import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Projeção de leitura mantida em memória: índice primário por id e índices secundários por e-mail, CPF e nome.
+ * É carregada por uma varredura em streaming após a inicialização e mantida atualizada pelos {@link ClienteEvent}
+ * publicados pelo serviço. Enquanto não estiver pronta, {@link #isReady()} retorna false e as leituras vão ao banco.
+ * Cada linha guarda a {@link ClienteEvent#getVersao() versão} do último evento aplicado (ou uma lápide, após a
+ * remoção) e eventos mais antigos que ela são descartados, já que os listeners pós-commit de transações concorrentes
+ * podem rodar em qualquer ordem. As lápides só precisam durar o suficiente para descartar esses eventos atrasados:
+ * depois da carga, as mais antigas que {@code api.read-model.tombstone-ttl} são removidas a cada evento aplicado. As leituras devolvem cópias. Só enxerga as escritas feitas por esta instância da
+ * aplicação; com várias instâncias, cada uma pode ficar atrás das escritas das outras até a próxima carga.
+ */
+@Component
+@Slf4j
+public class InMemoryClienteReadModel implements ClienteReadModelPort {
+
+    private static final char SEPARADOR = '\u0000';
+
+    private final ClienteRepositoryPort clienteRepositoryPort;
+    private final boolean enabled;
+    private final long ttlLapideNanos;
+    private final StampedLock lock = new StampedLock();
+
+    private final LongObjectHashMap<Linha> porId = new LongObjectHashMap<>(1024);
+    private final Map<String, long[]> porEmail = new HashMap<>();
+    private final Map<String, long[]> porCpf = new HashMap<>();
+    private final NavigableMap<String, Cliente> porNome = new TreeMap<>();
+    private final Deque<Lapide> lapides = new ArrayDeque<>();
+
+    private volatile boolean ready;
+
+    public InMemoryClienteReadModel(ClienteRepositoryPort clienteRepositoryPort,
+                                    @Value("${api.read-model.enabled:false}") boolean enabled,
+                                    @Value("${api.read-model.tombstone-ttl:1m}") Duration ttlLapide) {
+        this.clienteRepositoryPort = clienteRepositoryPort;
+        this.enabled = enabled;
+        this.ttlLapideNanos = ttlLapide.toNanos();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciarCarga() {
+        if (!enabled) {
+            return;
+        }
+        Thread loader = new Thread(this::carregar, "read-model-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    void carregar() {
+        long inicio = System.nanoTime();
+        try {
+            clienteRepositoryPort.forEach(cliente -> {
+                long stamp = lock.writeLock();
+                try {
+                    // Linhas vindas da varredura têm versão 0: qualquer evento já aplicado prevalece sobre elas.
+                    if (!porId.containsKey(cliente.getId())) {
+                        indexar(cliente, 0L);
+                    }
+                } finally {
+                    lock.unlockWrite(stamp);
+                }
+            });
+        } catch (Exception e) {
+            log.error("Falha ao carregar o modelo de leitura de clientes; leituras continuarão no banco: {}", e.getMessage(), e);
+            return;
+        }
+        ready = true;
+        log.info("Modelo de leitura de clientes carregado com {} registros em {} ms.",
+                porId.size(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aplicar(ClienteEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Cliente cliente = event.getCliente();
+        long stamp = lock.writeLock();
+        try {
+            Linha atual = porId.get(cliente.getId());
+            if (atual != null && atual.versao() >= event.getVersao()) {
+                log.debug("Evento {} do cliente {} ignorado: versão {} não é mais nova que a aplicada ({}).",
+                        event.getTipo(), cliente.getId(), event.getVersao(), atual.versao());
+                return;
+            }
+            desindexar(atual);
+            long agora = System.nanoTime();
+            if (event.getTipo() == ClienteEvent.Tipo.REMOVIDO) {
+                porId.put(cliente.getId(), new Linha(null, event.getVersao()));
+                lapides.addLast(new Lapide(cliente.getId(), event.getVersao(), agora));
+            } else {
+                indexar(cliente, event.getVersao());
+            }
+            removerLapidesExpiradas(agora);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    int linhas() {
+        long stamp = lock.readLock();
+        try {
+            return porId.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Optional<Cliente> findById(Long id) {
+        long stamp = lock.readLock();
+        try {
+            return Optional.ofNullable(clienteDe(porId.get(id))).map(InMemoryClienteReadModel::copia);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public List<Cliente> findAllByIds(Collection<Long> ids) {
+        List<Cliente> encontrados = new ArrayList<>(ids.size());
+        long stamp = lock.readLock();
+        try {
+            for (Long id : ids) {
+                Cliente cliente = clienteDe(porId.get(id));
+                if (cliente != null) {
+                    encontrados.add(copia(cliente));
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return encontrados;
+    }
+
+    @Override
+    public List<Cliente> findAll() {
+        List<Cliente> clientes;
+        long stamp = lock.readLock();
+        try {
+            clientes = new ArrayList<>(porId.size());
+            porId.forEachValue(linha -> {
+                if (linha.cliente() != null) {
+                    clientes.add(copia(linha.cliente()));
+                }
+            });
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        clientes.sort(Comparator.comparing(Cliente::getId));
+        return clientes;
+    }
+
+    @Override
+    public List<Cliente> findAll(Set<ClienteCampo> campos) {
+        List<Cliente> clientes = findAll();
+        clientes.replaceAll(cliente -> ClienteCampo.projetar(cliente, campos));
+        return clientes;
+    }
+
+    @Override
+    public List<Cliente> search(ClienteFiltro filtro) {
+        List<Cliente> candidatos = new ArrayList<>();
+        long stamp = lock.readLock();
+        try {
+            if (filtro.getEmail() != null) {
+                for (long id : porEmail.getOrDefault(filtro.getEmail(), new long[0])) {
+                    candidatos.add(porId.get(id).cliente());
+                }
+            } else if (filtro.getCpf() != null) {
+                for (long id : porCpf.getOrDefault(filtro.getCpf(), new long[0])) {
+                    candidatos.add(porId.get(id).cliente());
+                }
+            } else if (filtro.getNome() != null && filtro.getTipoBuscaNome() == ClienteFiltro.TipoBuscaNome.PREFIXO) {
+                String prefixo = filtro.getNomeNormalizado();
+                candidatos.addAll(porNome.subMap(prefixo, true, prefixo + Character.MAX_VALUE, true).values());
+            } else {
+                porId.forEachValue(linha -> {
+                    if (linha.cliente() != null) {
+                        candidatos.add(linha.cliente());
+                    }
+                });
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return candidatos.stream()
+                .filter(filtro::matches)
+                .sorted(Comparator.comparing(Cliente::getId))
+                .limit(filtro.getLimite())
+                .map(InMemoryClienteReadModel::copia)
+                .toList();
+    }
+
+    private void indexar(Cliente cliente, long versao) {
+        porId.put(cliente.getId(), new Linha(cliente, versao));
+        porEmail.merge(cliente.getEmail(), new long[]{cliente.getId()}, InMemoryClienteReadModel::concatenar);
+        porCpf.merge(cliente.getCpf(), new long[]{cliente.getId()}, InMemoryClienteReadModel::concatenar);
+        porNome.put(chaveNome(cliente), cliente);
+    }
+
+    private void desindexar(Linha linha) {
+        Cliente anterior = clienteDe(linha);
+        if (anterior == null) {
+            return;
+        }
+        long id = anterior.getId();
+        porEmail.computeIfPresent(anterior.getEmail(), (email, ids) -> remover(ids, id));
+        porCpf.computeIfPresent(anterior.getCpf(), (cpf, ids) -> remover(ids, id));
+        porNome.remove(chaveNome(anterior));
+    }
+
+    /**
+     * Só remove lápides depois da carga: durante a varredura elas impedem que linhas lidas antes da remoção voltem
+     * ao índice. Uma lápide substituída por um evento mais novo do mesmo id já não está no índice e é só descartada.
+     */
+    private void removerLapidesExpiradas(long agora) {
+        if (!ready) {
+            return;
+        }
+        while (!lapides.isEmpty() && agora - lapides.peekFirst().removidaEm() >= ttlLapideNanos) {
+            Lapide lapide = lapides.pollFirst();
+            Linha linha = porId.get(lapide.id());
+            if (linha != null && linha.cliente() == null && linha.versao() == lapide.versao()) {
+                porId.remove(lapide.id());
+            }
+        }
+    }
+
+    private static Cliente clienteDe(Linha linha) {
+        return linha == null ? null : linha.cliente();
+    }
+
+    private static Cliente copia(Cliente cliente) {
+        return new Cliente(cliente.getId(), cliente.getNome(), cliente.getEmail(), cliente.getCpf(), cliente.getCriadoEm());
+    }
+
+    private static String chaveNome(Cliente cliente) {
+        String nome = cliente.getNome() == null ? "" : cliente.getNome().toLowerCase(Locale.ROOT);
+        return nome + SEPARADOR + cliente.getId();
+    }
+
+    private static long[] concatenar(long[] atuais, long[] novos) {
+        long[] resultado = new long[atuais.length + novos.length];
+        System.arraycopy(atuais, 0, resultado, 0, atuais.length);
+        System.arraycopy(novos, 0, resultado, atuais.length, novos.length);
+        return resultado;
+    }
+
+    private static long[] remover(long[] ids, long id) {
+        int posicao = -1;
+        for (int i = 0; i < ids.length && posicao < 0; i++) {
+            if (ids[i] == id) {
+                posicao = i;
+            }
+        }
+        if (posicao < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        long[] resultado = new long[ids.length - 1];
+        System.arraycopy(ids, 0, resultado, 0, posicao);
+        System.arraycopy(ids, posicao + 1, resultado, posicao, ids.length - posicao - 1);
+        return resultado;
+    }
+
+    /** Estado de um id no índice primário; {@code cliente} nulo é a lápide de um cliente removido. */
+    private record Linha(Cliente cliente, long versao) {
+    }
+
+    private record Lapide(long id, long versao, long removidaEm) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.clienteapi.adapter.out.sharding;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Mapa de shards: a chave (id do cliente ou e-mail) é espalhada em um número fixo de buckets e cada bucket pertence
+ * a um shard, conforme as faixas configuradas. Os buckets só limitam quanto dado se move de cada vez: mover um bucket
+ * para outro shard exige migrar antes as linhas dele (clientes e clientes_emails), e mudar a quantidade de buckets
+ * exige redistribuir todos os dados.
+ */
+public class ShardMap {
+
+    private final int[] shardPorBucket;
+    private final int shards;
+
+    public ShardMap(int bucketCount, List<List<String>> faixasPorShard) {
+        if (faixasPorShard.isEmpty()) {
+            throw new IllegalArgumentException("Nenhum shard configurado em api.sharding.shards.");
+        }
+        this.shards = faixasPorShard.size();
+        this.shardPorBucket = new int[bucketCount];
+        if (faixasPorShard.stream().allMatch(List::isEmpty)) {
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                shardPorBucket[bucket] = (int) ((long) bucket * shards / bucketCount);
+            }
+            return;
+        }
+        Arrays.fill(shardPorBucket, -1);
+        for (int shard = 0; shard < shards; shard++) {
+            for (String faixa : faixasPorShard.get(shard)) {
+                String[] limites = faixa.trim().split("-");
+                int inicio = Integer.parseInt(limites[0].trim());
+                int fim = limites.length > 1 ? Integer.parseInt(limites[1].trim()) : inicio;
+                for (int bucket = inicio; bucket <= fim; bucket++) {
+                    if (bucket < 0 || bucket >= bucketCount || shardPorBucket[bucket] != -1) {
+                        throw new IllegalArgumentException("Bucket " + bucket + " fora do intervalo ou atribuído a mais de um shard.");
+                    }
+                    shardPorBucket[bucket] = shard;
+                }
+            }
+        }
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            if (shardPorBucket[bucket] == -1) {
+                throw new IllegalArgumentException("Bucket " + bucket + " não atribuído a nenhum shard.");
+            }
+        }
+    }
+
+    public int shards() {
+        return shards;
+    }
+
+    public int shardDoId(long id) {
+        return shardPorBucket[bucket(id)];
+    }
+
+    public int shardDoEmail(String email) {
+        return shardPorBucket[bucket(email.hashCode())];
+    }
+
+    private int bucket(long chave) {
+        return (int) Math.floorMod(misturar(chave), (long) shardPorBucket.length);
+    }
+
+    private static long misturar(long chave) {
+        chave ^= chave >>> 33;
+        chave *= 0xff51afd7ed558ccdL;
+        chave ^= chave >>> 33;
+        chave *= 0xc4ceb9fe1a85ec53L;
+        chave ^= chave >>> 33;
+        return chave;
+    }
+}
@@ -0,0 +1,517 @@
+package com.example.clienteapi.adapter.out.sharding;
+
+import com.example.clienteapi.common.collection.MergingIterator;
+import com.example.clienteapi.common.id.SnowflakeIdGenerator;
+import com.example.clienteapi.common.time.Fusos;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.ClienteCampo;
+import com.example.clienteapi.domain.model.ClienteFiltro;
+import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Repositório de clientes particionado por hash entre vários bancos. Cada cliente fica no shard do seu id (gerado
+ * pelo {@link SnowflakeIdGenerator}, no lugar do IDENTITY) e a unicidade do e-mail é garantida pela tabela
+ * {@code clientes_emails}, particionada pelo hash do e-mail, o que torna a verificação de e-mail uma consulta a um
+ * único shard. Listagens e buscas consultam todos os shards em paralelo e intercalam os resultados por id.
+ * As escritas em shards diferentes não são atômicas entre si: falhas no registro do cliente desfazem a entrada do
+ * índice de e-mail apenas dos clientes que não chegaram a ser gravados.
+ * <p>
+ * Os shards ficam fora da transação do banco principal, então cada escrita feita dentro de uma transação Spring
+ * registra a sua compensação, executada se essa transação for desfeita (por exemplo, quando a publicação do evento
+ * falha depois do {@link #save}). A compensação é de melhor esforço: uma falha nela é registrada em log e não
+ * interrompe as demais.
+ * <p>
+ * A chave primária de {@code clientes_emails} impede e-mails repetidos também em atualizações; o
+ * {@code ClienteService} faz a mesma verificação antes de gravar, para que os demais perfis sigam a mesma regra.
+ */
+@Slf4j
+public class ShardedClienteRepositoryAdapter implements ClienteRepositoryPort, AutoCloseable {
+
+    static final List<String> SCHEMA = List.of(
+            "CREATE TABLE IF NOT EXISTS clientes (id BIGINT PRIMARY KEY, nome VARCHAR(255), email VARCHAR(255), cpf VARCHAR(255))",
+            "ALTER TABLE clientes ADD COLUMN IF NOT EXISTS criado_em TIMESTAMP WITH TIME ZONE",
+            "CREATE INDEX IF NOT EXISTS idx_clientes_cpf ON clientes (cpf)",
+            "CREATE TABLE IF NOT EXISTS clientes_emails (email VARCHAR(255) PRIMARY KEY, cliente_id BIGINT NOT NULL)");
+
+    private static final int IN_CHUNK_SIZE = 1000;
+    private static final String CONTAGEM_POR_DIA_SQL = "SELECT extract(year FROM data_local), extract(month FROM data_local),"
+            + " extract(day FROM data_local), count(*)"
+            + " FROM (SELECT criado_em AT TIME ZONE :fuso AS data_local FROM clientes WHERE criado_em IS NOT NULL) d"
+            + " GROUP BY extract(year FROM data_local), extract(month FROM data_local), extract(day FROM data_local)";
+    private static final String COLUNAS = "SELECT id, nome, email, cpf, criado_em FROM clientes";
+    private static final String INSERT_SQL =
+            "INSERT INTO clientes (id, nome, email, cpf, criado_em) VALUES (:id, :nome, :email, :cpf, :criadoEm)";
+    private static final String UPDATE_SQL = "UPDATE clientes SET nome = :nome, email = :email, cpf = :cpf WHERE id = :id";
+    private static final String DELETE_SQL = "DELETE FROM clientes WHERE id = :id";
+    private static final String INSERT_EMAIL_SQL = "INSERT INTO clientes_emails (email, cliente_id) VALUES (:email, :id)";
+    private static final String DELETE_EMAIL_SQL = "DELETE FROM clientes_emails WHERE email = :email AND cliente_id = :id";
+    private static final RowMapper<Cliente> CLIENTE_ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp criadoEm = rs.getTimestamp("criado_em");
+        return new Cliente(rs.getLong("id"), rs.getString("nome"), rs.getString("email"), rs.getString("cpf"),
+                criadoEm == null ? null : criadoEm.toInstant());
+    };
+
+    private final List<DataSource> dataSources;
+    private final List<NamedParameterJdbcTemplate> shards;
+    private final ShardMap shardMap;
+    private final SnowflakeIdGenerator idGenerator;
+    private final ExecutorService executor;
+
+    public ShardedClienteRepositoryAdapter(List<DataSource> dataSources, ShardMap shardMap, SnowflakeIdGenerator idGenerator) {
+        if (dataSources.size() != shardMap.shards()) {
+            throw new IllegalArgumentException("Quantidade de DataSources difere da quantidade de shards do mapa.");
+        }
+        this.dataSources = List.copyOf(dataSources);
+        this.shards = dataSources.stream().map(NamedParameterJdbcTemplate::new).toList();
+        this.shardMap = shardMap;
+        this.idGenerator = idGenerator;
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(dataSources.size(), runnable -> {
+            Thread thread = new Thread(runnable, "cliente-shard-query-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void criarEsquema() {
+        for (NamedParameterJdbcTemplate shard : shards) {
+            SCHEMA.forEach(shard.getJdbcTemplate()::execute);
+        }
+    }
+
+    @Override
+    public Cliente save(Cliente cliente) {
+        if (cliente.getId() == null) {
+            Cliente novo = new Cliente(idGenerator.nextId(), cliente.getNome(), cliente.getEmail(), cliente.getCpf(),
+                    cliente.getCriadoEm() == null ? Instant.now().truncatedTo(ChronoUnit.MICROS) : cliente.getCriadoEm());
+            inserirEmail(novo);
+            try {
+                shardDoId(novo.getId()).update(INSERT_SQL, parametros(novo));
+            } catch (RuntimeException e) {
+                removerEmail(novo.getEmail(), novo.getId());
+                throw e;
+            }
+            registrarDesfazer(() -> remover(novo));
+            return novo;
+        }
+        Optional<Cliente> anterior = findById(cliente.getId());
+        boolean emailAlterado = anterior.map(a -> !Objects.equals(a.getEmail(), cliente.getEmail())).orElse(true);
+        if (emailAlterado) {
+            inserirEmail(cliente);
+        }
+        try {
+            String sql = anterior.isPresent() ? UPDATE_SQL : INSERT_SQL;
+            shardDoId(cliente.getId()).update(sql, parametros(cliente));
+        } catch (RuntimeException e) {
+            if (emailAlterado) {
+                removerEmail(cliente.getEmail(), cliente.getId());
+            }
+            throw e;
+        }
+        if (emailAlterado && anterior.isPresent() && anterior.get().getEmail() != null) {
+            removerEmail(anterior.get().getEmail(), cliente.getId());
+        }
+        Cliente gravado = new Cliente(cliente.getId(), cliente.getNome(), cliente.getEmail(), cliente.getCpf(), cliente.getCriadoEm());
+        registrarDesfazer(() -> anterior.ifPresentOrElse(a -> restaurar(gravado, a), () -> remover(gravado)));
+        return cliente;
+    }
+
+    @Override
+    public List<Cliente> saveAll(List<Cliente> clientes) {
+        Instant agora = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        List<Cliente> novos = clientes.stream()
+                .map(cliente -> new Cliente(idGenerator.nextId(), cliente.getNome(), cliente.getEmail(), cliente.getCpf(),
+                        cliente.getCriadoEm() == null ? agora : cliente.getCriadoEm()))
+                .toList();
+        try {
+            gravarPorShard(novos, cliente -> shardMap.shardDoEmail(cliente.getEmail()), INSERT_EMAIL_SQL, new HashSet<>());
+        } catch (RuntimeException e) {
+            novos.forEach(cliente -> removerEmail(cliente.getEmail(), cliente.getId()));
+            throw e;
+        }
+        Set<Integer> shardsGravados = new HashSet<>();
+        try {
+            gravarPorShard(novos, cliente -> shardMap.shardDoId(cliente.getId()), INSERT_SQL, shardsGravados);
+        } catch (RuntimeException e) {
+            removerEmailsNaoGravados(novos, shardsGravados);
+            throw e;
+        }
+        registrarDesfazer(() -> {
+            gravarPorShard(novos, cliente -> shardMap.shardDoId(cliente.getId()), DELETE_SQL, new HashSet<>());
+            gravarPorShard(novos.stream().filter(cliente -> cliente.getEmail() != null).toList(),
+                    cliente -> shardMap.shardDoEmail(cliente.getEmail()), DELETE_EMAIL_SQL, new HashSet<>());
+        });
+        return novos;
+    }
+
+    /**
+     * Desfaz as entradas do índice de e-mail dos clientes que não chegaram ao seu shard. Os lotes dos shards já
+     * confirmados ficam; nos demais, confere quais linhas existem, já que um lote pode ter sido gravado em parte.
+     */
+    private void removerEmailsNaoGravados(List<Cliente> novos, Set<Integer> shardsGravados) {
+        List<Cliente> pendentes = novos.stream()
+                .filter(cliente -> !shardsGravados.contains(shardMap.shardDoId(cliente.getId())))
+                .toList();
+        Set<Long> gravados;
+        try {
+            gravados = findAllByIds(pendentes.stream().map(Cliente::getId).toList()).stream()
+                    .map(Cliente::getId)
+                    .collect(Collectors.toSet());
+        } catch (RuntimeException e) {
+            log.error("Falha ao conferir os clientes gravados no lote; {} entradas do índice de e-mails mantidas: {}",
+                    pendentes.size(), e.getMessage());
+            return;
+        }
+        pendentes.stream()
+                .filter(cliente -> !gravados.contains(cliente.getId()))
+                .forEach(cliente -> removerEmail(cliente.getEmail(), cliente.getId()));
+    }
+
+    @Override
+    public Optional<Cliente> findById(Long id) {
+        return shardDoId(id).query(COLUNAS + " WHERE id = :id", new MapSqlParameterSource("id", id), CLIENTE_ROW_MAPPER)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Cliente> findAllByIds(Collection<Long> ids) {
+        List<List<Long>> porShard = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            porShard.add(new ArrayList<>());
+        }
+        ids.forEach(id -> porShard.get(shardMap.shardDoId(id)).add(id));
+        List<CompletableFuture<List<Cliente>>> futuros = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            NamedParameterJdbcTemplate shard = shards.get(i);
+            List<Long> pendentes = porShard.get(i);
+            if (!pendentes.isEmpty()) {
+                futuros.add(CompletableFuture.supplyAsync(() -> consultarPorIds(shard, pendentes), executor));
+            }
+        }
+        return aguardar(futuros).stream().flatMap(List::stream).toList();
+    }
+
+    @Override
+    public List<Cliente> findAll() {
+        return intercalar(consultarTodos(shard -> shard.query(COLUNAS + " ORDER BY id", CLIENTE_ROW_MAPPER)), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Cliente> findAll(Set<ClienteCampo> campos) {
+        List<Cliente> clientes = findAll();
+        clientes.replaceAll(cliente -> ClienteCampo.projetar(cliente, campos));
+        return clientes;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        findById(id).ifPresent(cliente -> {
+            shardDoId(id).update(DELETE_SQL, new MapSqlParameterSource("id", id));
+            removerEmail(cliente.getEmail(), id);
+            registrarDesfazer(() -> {
+                if (cliente.getEmail() != null) {
+                    inserirEmail(cliente);
+                }
+                shardDoId(id).update(INSERT_SQL, parametros(cliente));
+            });
+        });
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        Long total = shardDoEmail(email).queryForObject("SELECT count(*) FROM clientes_emails WHERE email = :email",
+                new MapSqlParameterSource("email", email), Long.class);
+        return total != null && total > 0;
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        List<List<String>> porShard = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            porShard.add(new ArrayList<>());
+        }
+        emails.forEach(email -> porShard.get(shardMap.shardDoEmail(email)).add(email));
+        Set<String> existentes = new HashSet<>();
+        for (int i = 0; i < shards.size(); i++) {
+            List<String> pendentes = porShard.get(i);
+            for (int inicio = 0; inicio < pendentes.size(); inicio += IN_CHUNK_SIZE) {
+                List<String> parte = pendentes.subList(inicio, Math.min(inicio + IN_CHUNK_SIZE, pendentes.size()));
+                existentes.addAll(shards.get(i).queryForList("SELECT email FROM clientes_emails WHERE email IN (:emails)",
+                        new MapSqlParameterSource("emails", parte), String.class));
+            }
+        }
+        return existentes;
+    }
+
+    @Override
+    public List<Cliente> search(ClienteFiltro filtro) {
+        if (filtro.getEmail() != null) {
+            List<Long> ids = shardDoEmail(filtro.getEmail()).queryForList(
+                    "SELECT cliente_id FROM clientes_emails WHERE email = :email",
+                    new MapSqlParameterSource("email", filtro.getEmail()), Long.class);
+            return ids.stream()
+                    .filter(id -> id > filtro.getAposId())
+                    .sorted()
+                    .map(this::findById)
+                    .flatMap(Optional::stream)
+                    .filter(filtro::matches)
+                    .limit(filtro.getLimite())
+                    .toList();
+        }
+        MapSqlParameterSource parametros = new MapSqlParameterSource()
+                .addValue("aposId", filtro.getAposId())
+                .addValue("limite", filtro.getLimite());
+        StringBuilder sql = new StringBuilder(COLUNAS).append(" WHERE id > :aposId");
+        if (filtro.getCpf() != null) {
+            sql.append(" AND cpf = :cpf");
+            parametros.addValue("cpf", filtro.getCpf());
+        }
+        if (filtro.getNome() != null) {
+            sql.append(" AND lower(nome) LIKE :padrao ESCAPE '\\'");
+            parametros.addValue("padrao", toLikePattern(filtro));
+        }
+        sql.append(" ORDER BY id LIMIT :limite");
+        return intercalar(consultarTodos(shard -> shard.query(sql.toString(), parametros, CLIENTE_ROW_MAPPER)), filtro.getLimite());
+    }
+
+    @Override
+    public void forEach(Consumer<Cliente> consumer) {
+        List<Stream<Cliente>> streams = new ArrayList<>(shards.size());
+        try {
+            for (NamedParameterJdbcTemplate shard : shards) {
+                JdbcTemplate jdbcTemplate = shard.getJdbcTemplate();
+                streams.add(jdbcTemplate.queryForStream(COLUNAS + " ORDER BY id", CLIENTE_ROW_MAPPER));
+            }
+            List<Iterator<Cliente>> iteradores = streams.stream().map(Stream::iterator).toList();
+            new MergingIterator<>(iteradores, Comparator.comparing(Cliente::getId)).forEachRemaining(consumer);
+        } finally {
+            streams.forEach(Stream::close);
+        }
+    }
+
+    @Override
+    public long count() {
+        return shards.stream()
+                .mapToLong(shard -> shard.getJdbcTemplate().queryForObject("SELECT count(*) FROM clientes", Long.class))
+                .sum();
+    }
+
+    @Override
+    public Map<LocalDate, Long> countPorDiaDeCadastro(ZoneId fuso) {
+        Map<LocalDate, Long> porDia = new HashMap<>();
+        Map<String, String> parametros = Map.of("fuso", Fusos.nomeParaSql(fuso));
+        for (NamedParameterJdbcTemplate shard : shards) {
+            shard.query(CONTAGEM_POR_DIA_SQL, parametros, (RowCallbackHandler) rs -> porDia.merge(
+                    LocalDate.of(rs.getInt(1), rs.getInt(2), rs.getInt(3)), rs.getLong(4), Long::sum));
+        }
+        return porDia;
+    }
+
+    @Override
+    public Map<String, Long> countPorDominioDeEmail() {
+        Map<String, Long> porDominio = new HashMap<>();
+        for (NamedParameterJdbcTemplate shard : shards) {
+            shard.getJdbcTemplate().query("SELECT lower(substring(email FROM position('@' IN email) + 1)), count(*) FROM clientes"
+                            + " WHERE email IS NOT NULL GROUP BY lower(substring(email FROM position('@' IN email) + 1))",
+                    (RowCallbackHandler) rs -> porDominio.merge(rs.getString(1), rs.getLong(2), Long::sum));
+        }
+        return porDominio;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Falha ao fechar o DataSource de um shard: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private List<List<Cliente>> consultarTodos(Function<NamedParameterJdbcTemplate, List<Cliente>> consulta) {
+        return aguardar(shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> consulta.apply(shard), executor))
+                .toList());
+    }
+
+    private static List<Cliente> consultarPorIds(NamedParameterJdbcTemplate shard, List<Long> ids) {
+        List<Cliente> encontrados = new ArrayList<>(ids.size());
+        for (int inicio = 0; inicio < ids.size(); inicio += IN_CHUNK_SIZE) {
+            List<Long> parte = ids.subList(inicio, Math.min(inicio + IN_CHUNK_SIZE, ids.size()));
+            encontrados.addAll(shard.query(COLUNAS + " WHERE id IN (:ids)", new MapSqlParameterSource("ids", parte),
+                    CLIENTE_ROW_MAPPER));
+        }
+        return encontrados;
+    }
+
+    private static List<List<Cliente>> aguardar(List<CompletableFuture<List<Cliente>>> futuros) {
+        try {
+            return futuros.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    private static List<Cliente> intercalar(List<List<Cliente>> porShard, int limite) {
+        List<Iterator<Cliente>> iteradores = porShard.stream().map(List::iterator).toList();
+        MergingIterator<Cliente> merge = new MergingIterator<>(iteradores, Comparator.comparing(Cliente::getId));
+        List<Cliente> resultado = new ArrayList<>(Math.min(limite, porShard.stream().mapToInt(List::size).sum()));
+        while (merge.hasNext() && resultado.size() < limite) {
+            resultado.add(merge.next());
+        }
+        return resultado;
+    }
+
+    private void gravarPorShard(List<Cliente> clientes, Function<Cliente, Integer> shardDe, String sql, Set<Integer> gravados) {
+        List<List<SqlParameterSource>> porShard = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            porShard.add(new ArrayList<>());
+        }
+        clientes.forEach(cliente -> porShard.get(shardDe.apply(cliente)).add(parametros(cliente)));
+        for (int i = 0; i < shards.size(); i++) {
+            if (!porShard.get(i).isEmpty()) {
+                shards.get(i).batchUpdate(sql, porShard.get(i).toArray(SqlParameterSource[]::new));
+                gravados.add(i);
+            }
+        }
+    }
+
+    /**
+     * Registra a compensação de uma escrita para o caso de a transação Spring corrente ser desfeita. As compensações
+     * rodam na ordem inversa das escritas; fora de uma transação, nada é registrado.
+     */
+    private void registrarDesfazer(Runnable compensacao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Deque<Runnable> desfazer = (Deque<Runnable>) TransactionSynchronizationManager.getResource(this);
+        if (desfazer == null) {
+            Deque<Runnable> novo = new ArrayDeque<>();
+            TransactionSynchronizationManager.bindResource(this, novo);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(ShardedClienteRepositoryAdapter.this);
+                    if (status == STATUS_ROLLED_BACK) {
+                        novo.forEach(ShardedClienteRepositoryAdapter::compensar);
+                    }
+                }
+            });
+            desfazer = novo;
+        }
+        desfazer.push(compensacao);
+    }
+
+    private static void compensar(Runnable compensacao) {
+        try {
+            compensacao.run();
+        } catch (RuntimeException e) {
+            log.error("Falha ao desfazer uma escrita nos shards após o rollback da transação: {}", e.getMessage());
+        }
+    }
+
+    private void remover(Cliente cliente) {
+        shardDoId(cliente.getId()).update(DELETE_SQL, new MapSqlParameterSource("id", cliente.getId()));
+        if (cliente.getEmail() != null) {
+            removerEmail(cliente.getEmail(), cliente.getId());
+        }
+    }
+
+    private void restaurar(Cliente gravado, Cliente anterior) {
+        if (!Objects.equals(gravado.getEmail(), anterior.getEmail())) {
+            if (gravado.getEmail() != null) {
+                removerEmail(gravado.getEmail(), gravado.getId());
+            }
+            if (anterior.getEmail() != null) {
+                inserirEmail(anterior);
+            }
+        }
+        shardDoId(anterior.getId()).update(UPDATE_SQL, parametros(anterior));
+    }
+
+    private void inserirEmail(Cliente cliente) {
+        shardDoEmail(cliente.getEmail()).update(INSERT_EMAIL_SQL, parametros(cliente));
+    }
+
+    private void removerEmail(String email, Long id) {
+        try {
+            shardDoEmail(email).update(DELETE_EMAIL_SQL, new MapSqlParameterSource().addValue("email", email).addValue("id", id));
+        } catch (RuntimeException e) {
+            log.error("Falha ao remover o e-mail do cliente {} do índice de e-mails: {}", id, e.getMessage());
+        }
+    }
+
+    private NamedParameterJdbcTemplate shardDoId(long id) {
+        return shards.get(shardMap.shardDoId(id));
+    }
+
+    private NamedParameterJdbcTemplate shardDoEmail(String email) {
+        return shards.get(shardMap.shardDoEmail(email));
+    }
+
+    private static MapSqlParameterSource parametros(Cliente cliente) {
+        return new MapSqlParameterSource()
+                .addValue("id", cliente.getId())
+                .addValue("nome", cliente.getNome())
+                .addValue("email", cliente.getEmail())
+                .addValue("cpf", cliente.getCpf())
+                .addValue("criadoEm", cliente.getCriadoEm() == null ? null : Timestamp.from(cliente.getCriadoEm()));
+    }
+
+    private static String toLikePattern(ClienteFiltro filtro) {
+        String escaped = filtro.getNomeNormalizado()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return filtro.getTipoBuscaNome() == ClienteFiltro.TipoBuscaNome.CONTEM
+                ? "%" + escaped + "%"
+                : escaped + "%";
+    }
+}
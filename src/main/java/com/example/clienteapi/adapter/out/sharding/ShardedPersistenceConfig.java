@@ -0,0 +1,42 @@
+package com.example.clienteapi.adapter.out.sharding;
+
+import com.example.clienteapi.common.id.SnowflakeIdGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@Profile("sharded")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardedPersistenceConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShardedClienteRepositoryAdapter shardedClienteRepositoryAdapter(ShardingProperties properties) {
+        List<DataSource> dataSources = new ArrayList<>();
+        for (int i = 0; i < properties.getShards().size(); i++) {
+            ShardingProperties.Shard config = properties.getShards().get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(config.getUrl())
+                    .username(config.getUsername())
+                    .password(config.getPassword())
+                    .build();
+            dataSource.setPoolName("shard-" + i);
+            dataSource.setMaximumPoolSize(config.getMaximumPoolSize());
+            dataSources.add(dataSource);
+        }
+        ShardMap shardMap = new ShardMap(properties.getBucketCount(),
+                properties.getShards().stream().map(ShardingProperties.Shard::getBuckets).toList());
+        ShardedClienteRepositoryAdapter adapter = new ShardedClienteRepositoryAdapter(dataSources, shardMap,
+                new SnowflakeIdGenerator(properties.getWorkerId()));
+        adapter.criarEsquema();
+        return adapter;
+    }
+}
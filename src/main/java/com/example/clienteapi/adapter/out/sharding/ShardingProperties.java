@@ -0,0 +1,26 @@
+package com.example.clienteapi.adapter.out.sharding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "api.sharding")
+public class ShardingProperties {
+
+    private int workerId = 0;
+    private int bucketCount = 1024;
+    private List<Shard> shards = new ArrayList<>();
+
+    @Data
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        /** Faixas de buckets atendidas pelo shard (ex: 0-511); vazio em todos os shards = divisão uniforme. */
+        private List<String> buckets = new ArrayList<>();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.clienteapi.common.collection;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * Versão thread-safe do {@link LongObjectHashMap} por divisão em segmentos (lock striping): cada segmento é um
+ * {@link LongObjectHashMap} protegido por um {@link StampedLock} próprio, escolhido pelos bits altos do hash da chave.
+ * Leituras em segmentos distintos não competem entre si e escritas só bloqueiam o próprio segmento.
+ * As iterações não são um retrato atômico do mapa inteiro, apenas de cada segmento.
+ */
+public class ConcurrentLongObjectHashMap<V> {
+
+    private final Segment<V>[] segments;
+    private final int shift;
+
+    public ConcurrentLongObjectHashMap() {
+        this(64, 1024);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongObjectHashMap(int concurrencyLevel, int expectedSize) {
+        int count = Integer.highestOneBit(Math.max(2, concurrencyLevel) * 2 - 1);
+        this.segments = new Segment[count];
+        this.shift = 64 - Integer.numberOfTrailingZeros(count);
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(Math.max(16, expectedSize / count));
+        }
+    }
+
+    public V get(long key) {
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.readLock();
+        try {
+            return segment.map.get(key);
+        } finally {
+            segment.lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    public V put(long key, V value) {
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.writeLock();
+        try {
+            return segment.map.put(key, value);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    public V putIfAbsent(long key, V value) {
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.writeLock();
+        try {
+            V atual = segment.map.get(key);
+            if (atual == null) {
+                segment.map.put(key, value);
+            }
+            return atual;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    public V remove(long key) {
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.writeLock();
+        try {
+            return segment.map.remove(key);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            long stamp = segment.lock.readLock();
+            try {
+                size += segment.map.size();
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void forEachValue(Consumer<? super V> action) {
+        for (Segment<V> segment : segments) {
+            long stamp = segment.lock.readLock();
+            try {
+                segment.map.forEachValue(action);
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    public void clear() {
+        for (Segment<V> segment : segments) {
+            long stamp = segment.lock.writeLock();
+            try {
+                segment.map.clear();
+            } finally {
+                segment.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    private Segment<V> segmentFor(long key) {
+        return segments[(int) ((key * 0x9E3779B97F4A7C15L) >>> shift)];
+    }
+
+    private static final class Segment<V> {
+        final StampedLock lock = new StampedLock();
+        final LongObjectHashMap<V> map;
+
+        Segment(int expectedSize) {
+            this.map = new LongObjectHashMap<>(expectedSize);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.clienteapi.common.collection;
+
+/**
+ * Conjunto de {@code long} primitivos com endereçamento aberto (sondagem linear): 8 bytes por posição, sem boxing
+ * nem objetos por elemento. Não tem remoção; conjuntos que expiram são descartados inteiros.
+ * Não é thread-safe, mas {@link #contains(long)} lê a tabela uma única vez e nunca falha com uma escrita
+ * concorrente, o que permite usá-lo sob leitura otimista de um {@link java.util.concurrent.locks.StampedLock}
+ * (o resultado só vale se o stamp for validado depois).
+ */
+public class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private long[] keys;
+    private int size;
+    private int threshold;
+    private boolean hasZeroKey;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        keys = new long[capacity];
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    public boolean contains(long key) {
+        if (key == EMPTY) {
+            return hasZeroKey;
+        }
+        long[] table = keys;
+        int mask = table.length - 1;
+        for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+            long current = table[slot];
+            if (current == key) {
+                return true;
+            }
+            if (current == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+    public boolean add(long key) {
+        if (key == EMPTY) {
+            if (hasZeroKey) {
+                return false;
+            }
+            hasZeroKey = true;
+            size++;
+            return true;
+        }
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Bytes ocupados pela tabela de chaves. */
+    public long capacityInBytes() {
+        return (long) keys.length * Long.BYTES;
+    }
+
+    // A nova tabela só é publicada depois de preenchida.
+    private void rehash(int newCapacity) {
+        long[] table = new long[newCapacity];
+        int mask = newCapacity - 1;
+        for (long key : keys) {
+            if (key != EMPTY) {
+                int slot = mix(key) & mask;
+                while (table[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = key;
+            }
+        }
+        threshold = (int) (newCapacity * LOAD_FACTOR);
+        keys = table;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.clienteapi.common.collection;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Intercala k iteradores já ordenados em um único iterador ordenado (k-way merge), consumindo cada fonte sob demanda:
+ * só o elemento corrente de cada fonte fica em memória.
+ */
+public class MergingIterator<T> implements Iterator<T> {
+
+    private record Cabeca<T>(T valor, Iterator<T> fonte) {
+    }
+
+    private final PriorityQueue<Cabeca<T>> cabecas;
+
+    public MergingIterator(List<? extends Iterator<T>> fontes, Comparator<? super T> comparator) {
+        this.cabecas = new PriorityQueue<>(Math.max(1, fontes.size()), (a, b) -> comparator.compare(a.valor(), b.valor()));
+        for (Iterator<T> fonte : fontes) {
+            if (fonte.hasNext()) {
+                cabecas.add(new Cabeca<>(fonte.next(), fonte));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !cabecas.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        Cabeca<T> cabeca = cabecas.poll();
+        if (cabeca == null) {
+            throw new NoSuchElementException();
+        }
+        if (cabeca.fonte().hasNext()) {
+            cabecas.add(new Cabeca<>(cabeca.fonte().next(), cabeca.fonte()));
+        }
+        return cabeca.valor();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.clienteapi.common.id;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Gerador de IDs globalmente únicos no estilo Snowflake: 41 bits de milissegundos desde {@link #EPOCH},
+ * 6 bits de worker (um por instância da aplicação) e 6 bits de sequência dentro do mesmo milissegundo. Os 53 bits
+ * cabem em {@code Number.MAX_SAFE_INTEGER}, então clientes JavaScript leem o id do JSON sem perder precisão; em troca,
+ * são até 64 instâncias e 64 IDs por milissegundo em cada uma. Os IDs crescem com o tempo em cada instância, o que mantém os índices por id ordenados. Se o relógio voltar,
+ * continua a partir do último milissegundo usado em vez de repetir IDs.
+ */
+public class SnowflakeIdGenerator {
+
+    public static final long EPOCH = 1704067200000L;
+    static final int WORKER_BITS = 6;
+    static final int SEQUENCE_BITS = 6;
+    public static final int MAX_WORKER_ID = (1 << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long workerId;
+    private final LongSupplier relogio;
+    private long ultimoMillis = -1L;
+    private long sequencia;
+
+    public SnowflakeIdGenerator(int workerId) {
+        this(workerId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(int workerId, LongSupplier relogio) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("worker-id deve estar entre 0 e " + MAX_WORKER_ID + ": " + workerId);
+        }
+        this.workerId = workerId;
+        this.relogio = relogio;
+    }
+
+    public synchronized long nextId() {
+        long agora = Math.max(relogio.getAsLong(), ultimoMillis);
+        if (agora == ultimoMillis) {
+            sequencia = (sequencia + 1) & SEQUENCE_MASK;
+            if (sequencia == 0) {
+                agora = aguardarProximoMillis(agora);
+            }
+        } else {
+            sequencia = 0;
+        }
+        ultimoMillis = agora;
+        return ((agora - EPOCH) << (WORKER_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | sequencia;
+    }
+
+    private long aguardarProximoMillis(long atual) {
+        long agora = relogio.getAsLong();
+        while (agora <= atual) {
+            Thread.onSpinWait();
+            agora = relogio.getAsLong();
+        }
+        return agora;
+    }
+}
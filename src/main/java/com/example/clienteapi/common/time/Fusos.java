@@ -0,0 +1,30 @@
+package com.example.clienteapi.common.time;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Nomes de fuso para {@code AT TIME ZONE} em SQL. O PostgreSQL lê deslocamentos como {@code +03:00} na convenção
+ * POSIX (sinal invertido), então deslocamentos fixos viram o nome {@code Etc/GMT} equivalente, que o PostgreSQL e o
+ * H2 interpretam igual.
+ */
+public final class Fusos {
+
+    private Fusos() {
+    }
+
+    public static String nomeParaSql(ZoneId fuso) {
+        if (!(fuso.normalized() instanceof ZoneOffset deslocamento)) {
+            return fuso.getId();
+        }
+        int segundos = deslocamento.getTotalSeconds();
+        if (segundos == 0) {
+            return "UTC";
+        }
+        if (segundos % 3600 != 0) {
+            throw new IllegalArgumentException("Fuso com deslocamento fixo fracionário não suportado: " + fuso
+                    + "; use o nome da região (ex.: Asia/Kolkata).");
+        }
+        return "Etc/GMT" + (segundos > 0 ? "-" : "+") + Math.abs(segundos / 3600);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.clienteapi.config;
+
+import com.example.clienteapi.domain.event.ClienteEvent;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.Importacao;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Dicas de reflexão para a imagem nativa que o processamento AOT do Spring não descobre sozinho: as implementações
+ * do JJWT carregadas por nome a partir do jjwt-api, o {@link Cliente} serializado pelo Jackson na fila e instanciado
+ * pela projeção de construtor do Hibernate, e os enums persistidos de {@link Importacao} e {@link ClienteEvent}.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<String> JJWT_IMPL_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        JJWT_IMPL_TYPES.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), Cliente.class);
+        hints.reflection().registerType(Cliente.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        hints.reflection().registerType(Importacao.Status.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(ClienteEvent.Tipo.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
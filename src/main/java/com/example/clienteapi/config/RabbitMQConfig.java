@@ -14,6 +14,7 @@ public class RabbitMQConfig {
     public static final String QUEUE_NAME = "welcome-email-queue";
     public static final String EXCHANGE_NAME = "welcome-email-exchange";
     public static final String ROUTING_KEY = "welcome-email-routing-key";
+    public static final String REVOGACAO_EXCHANGE_NAME = "revoked-tokens-exchange";
 
     @Bean
     public Queue queue() {
@@ -30,6 +31,22 @@ public class RabbitMQConfig {
         return BindingBuilder.bind(queue).to(exchange).with(ROUTING_KEY);
     }
 
+    // Fila anônima (exclusiva e removida ao desconectar) por instância: o fanout entrega cada revogação a todas.
+    @Bean
+    public FanoutExchange revogacaoExchange() {
+        return new FanoutExchange(REVOGACAO_EXCHANGE_NAME);
+    }
+
+    @Bean
+    public Queue revogacaoQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding revogacaoBinding(Queue revogacaoQueue, FanoutExchange revogacaoExchange) {
+        return BindingBuilder.bind(revogacaoQueue).to(revogacaoExchange);
+    }
+
     @Bean
     public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
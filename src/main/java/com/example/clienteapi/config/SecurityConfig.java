@@ -1,7 +1,14 @@
 package com.example.clienteapi.config;
 
 import com.example.clienteapi.config.filter.JwtAuthenticationFilter;
+import com.example.clienteapi.config.filter.LoadSheddingFilter;
+import com.example.clienteapi.config.filter.LoadSheddingProperties;
+import com.example.clienteapi.domain.service.RevogacaoTokenService;
 import com.example.clienteapi.domain.service.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -11,44 +18,55 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@EnableConfigurationProperties(LoadSheddingProperties.class)
 public class SecurityConfig {
 
     private final TokenService tokenService;
     private final UserDetailsService userDetailsService;
+    private final RevogacaoTokenService revogacaoTokenService;
+    private final LoadSheddingProperties loadSheddingProperties;
+    private final MeterRegistry meterRegistry;
 
-    public SecurityConfig(TokenService tokenService, UserDetailsService userDetailsService) {
+    public SecurityConfig(TokenService tokenService, UserDetailsService userDetailsService, RevogacaoTokenService revogacaoTokenService,
+                          LoadSheddingProperties loadSheddingProperties, MeterRegistry meterRegistry) {
         this.tokenService = tokenService;
         this.userDetailsService = userDetailsService;
+        this.revogacaoTokenService = revogacaoTokenService;
+        this.loadSheddingProperties = loadSheddingProperties;
+        this.meterRegistry = meterRegistry;
     }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-        return http
+        http
                 .csrf(csrf -> csrf.disable())
                 .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.disable()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .logout(logout -> logout.disable())
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/swagger-ui.html","/swagger-ui/**","/v3/api-docs","/v3/api-docs/**").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/login").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/login", "/login/refresh").permitAll()
                         .requestMatchers(HttpMethod.POST, "/clientes").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/clientes/lookup").permitAll()
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers(HttpMethod.GET, "/clientes/changes", "/clientes/changes/**").authenticated()
                         .requestMatchers(HttpMethod.GET, "/clientes/**").permitAll()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(tokenService, userDetailsService), UsernamePasswordAuthenticationFilter.class)
-                .build();
+                .addFilterBefore(new JwtAuthenticationFilter(tokenService, userDetailsService, revogacaoTokenService), UsernamePasswordAuthenticationFilter.class);
+        if (loadSheddingProperties.isEnabled()) {
+            http.addFilterAfter(LoadSheddingFilter.from(loadSheddingProperties, meterRegistry), JwtAuthenticationFilter.class);
+        }
+        return http.build();
     }
 
     @Bean
@@ -57,17 +75,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public static UserDetailsService userDetailsService() {
-        UserDetails user = User.builder()
-                .username("admin")
-                .password(passwordEncoder().encode("password"))
-                .roles("ADMIN")
-                .build();
-        return new InMemoryUserDetailsManager(user);
-    }
-
-    @Bean
-    public static PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public static PasswordEncoder passwordEncoder(@Value("${api.security.password.bcrypt-strength:10}") int custo) {
+        return new TunableBCryptPasswordEncoder(custo);
     }
 }
@@ -0,0 +1,31 @@
+package com.example.clienteapi.config;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * {@link BCryptPasswordEncoder} que pede o rehash de qualquer hash gerado com custo diferente do configurado, para
+ * mais ou para menos; o padrão do Spring só pede quando o custo aumenta. O novo hash é gravado no próximo login do
+ * usuário, via {@link org.springframework.security.core.userdetails.UserDetailsPasswordService}.
+ */
+public class TunableBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private final int custo;
+
+    public TunableBCryptPasswordEncoder(int custo) {
+        super(custo);
+        this.custo = custo;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != custo;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.clienteapi.config;
+
+import com.example.clienteapi.domain.model.Usuario;
+import com.example.clienteapi.domain.service.UsuarioService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/** Cadastra o usuário administrador de demonstração quando ele ainda não existe no cadastro de usuários. */
+@Component
+@Slf4j
+public class UsuarioInicialInitializer implements ApplicationRunner {
+
+    private final UsuarioService usuarioService;
+    private final PasswordEncoder passwordEncoder;
+    private final String username;
+    private final String senha;
+
+    public UsuarioInicialInitializer(UsuarioService usuarioService, PasswordEncoder passwordEncoder,
+                                     @Value("${api.security.admin.username:}") String username,
+                                     @Value("${api.security.admin.password:}") String senha) {
+        this.usuarioService = usuarioService;
+        this.passwordEncoder = passwordEncoder;
+        this.username = username;
+        this.senha = senha;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (username.isBlank() || usuarioService.existe(username)) {
+            return;
+        }
+        try {
+            usuarioService.criar(new Usuario(null, username, passwordEncoder.encode(senha), List.of("ADMIN")));
+            log.info("Usuário administrador '{}' cadastrado.", username);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Usuário administrador '{}' já cadastrado por outra instância.", username);
+        }
+    }
+}
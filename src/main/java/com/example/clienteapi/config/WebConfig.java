@@ -0,0 +1,40 @@
+package com.example.clienteapi.config;
+
+import com.example.clienteapi.adapter.in.web.ClienteJsonMixin;
+import com.example.clienteapi.domain.model.Cliente;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Conversores HTTP com o formato de {@link Cliente} do {@link ClienteJsonMixin}. O mix-in fica só nos conversores: o
+ * {@link com.fasterxml.jackson.databind.ObjectMapper} da aplicação, usado por exemplo na mensagem de boas-vindas,
+ * continua serializando o cliente completo.
+ */
+@Configuration
+public class WebConfig {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2HttpMessageConverter(comFormatoCliente(builder).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(comFormatoCliente(builder).factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(comFormatoCliente(builder).factory(new SmileFactory()).build());
+    }
+
+    private static Jackson2ObjectMapperBuilder comFormatoCliente(Jackson2ObjectMapperBuilder builder) {
+        return builder.mixIn(Cliente.class, ClienteJsonMixin.class);
+    }
+}
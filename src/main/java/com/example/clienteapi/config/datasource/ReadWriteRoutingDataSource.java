@@ -0,0 +1,102 @@
+package com.example.clienteapi.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Envia transações somente leitura para as réplicas disponíveis (round-robin) e todo o resto para o primário.
+ * Deve ser envolvido por um {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} para que a
+ * conexão só seja obtida depois que a transação já foi marcada como somente leitura.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY_KEY = "primary";
+
+    private static final Object WRITE_MARKER = new Object();
+
+    private final List<Replica> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<Replica> replicas) {
+        this.replicas = List.copyOf(replicas);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY_KEY, primary);
+        this.replicas.forEach(replica -> targets.put(replica.name(), replica.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteCommitCallback();
+            return PRIMARY_KEY;
+        }
+        if (ReadYourWritesContext.isPinnedToPrimary()) {
+            return PRIMARY_KEY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                return replica.name();
+            }
+        }
+        return PRIMARY_KEY;
+    }
+
+    private void registerWriteCommitCallback() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+                if (status == STATUS_COMMITTED) {
+                    ReadYourWritesContext.markWriteCommitted();
+                }
+            }
+        });
+    }
+
+    public record Replica(String name, DataSource dataSource, AtomicBoolean available) {
+
+        public Replica(String name, DataSource dataSource) {
+            this(name, dataSource, new AtomicBoolean(true));
+        }
+
+        public boolean isAvailable() {
+            return available.get();
+        }
+
+        public void setAvailable(boolean value) {
+            available.set(value);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.clienteapi.config.datasource;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Estado por requisição usado pelo roteamento de leitura/escrita: indica se o cliente acabou de escrever
+ * (e portanto deve ler do primário) e como avisá-lo de que uma nova escrita foi confirmada.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<ReadYourWritesContext> CURRENT = new ThreadLocal<>();
+
+    private final boolean pinnedToPrimary;
+    private final Runnable onWriteCommitted;
+    private boolean wrote;
+
+    private ReadYourWritesContext(boolean pinnedToPrimary, Runnable onWriteCommitted) {
+        this.pinnedToPrimary = pinnedToPrimary;
+        this.onWriteCommitted = onWriteCommitted;
+    }
+
+    public static void open(boolean pinnedToPrimary, Runnable onWriteCommitted) {
+        CURRENT.set(new ReadYourWritesContext(pinnedToPrimary, onWriteCommitted));
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    public static ReadYourWritesContext current() {
+        return CURRENT.get();
+    }
+
+    /** Instala um contexto capturado em outra thread (ou nenhum, com null). */
+    public static void restore(ReadYourWritesContext context) {
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+    }
+
+    /**
+     * Reúne os contextos de várias requisições gravadas na mesma transação: lê do primário se qualquer uma precisar
+     * e, confirmada a escrita, avisa todas. Retorna null se nenhuma tinha contexto.
+     */
+    public static ReadYourWritesContext combinar(List<ReadYourWritesContext> contexts) {
+        List<ReadYourWritesContext> presentes = contexts.stream().filter(Objects::nonNull).toList();
+        if (presentes.size() <= 1) {
+            return presentes.isEmpty() ? null : presentes.get(0);
+        }
+        boolean pinned = presentes.stream().anyMatch(context -> context.pinnedToPrimary || context.wrote);
+        return new ReadYourWritesContext(pinned, () -> presentes.forEach(ReadYourWritesContext::marcarEscrita));
+    }
+
+    public static boolean isPinnedToPrimary() {
+        ReadYourWritesContext context = CURRENT.get();
+        return context != null && (context.pinnedToPrimary || context.wrote);
+    }
+
+    static void markWriteCommitted() {
+        ReadYourWritesContext context = CURRENT.get();
+        if (context != null) {
+            context.marcarEscrita();
+        }
+    }
+
+    private void marcarEscrita() {
+        if (!wrote) {
+            wrote = true;
+            onWriteCommitted.run();
+        }
+    }
+}
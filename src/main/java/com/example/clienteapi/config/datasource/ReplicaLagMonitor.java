@@ -0,0 +1,60 @@
+package com.example.clienteapi.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private final List<ReadWriteRoutingDataSource.Replica> replicas;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(List<ReadWriteRoutingDataSource.Replica> replicas, String lagQuery, Duration maxLag) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLag.toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start(Duration interval) {
+        scheduler.scheduleWithFixedDelay(this::checkAll, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void checkAll() {
+        replicas.forEach(this::check);
+    }
+
+    private void check(ReadWriteRoutingDataSource.Replica replica) {
+        boolean available;
+        try {
+            Number lag = new JdbcTemplate(replica.dataSource()).queryForObject(lagQuery, Number.class);
+            available = lag != null && lag.longValue() <= maxLagMillis;
+            if (!available && replica.isAvailable()) {
+                log.warn("Réplica {} atrasada ({} ms); leituras serão enviadas ao primário.", replica.name(), lag);
+            }
+        } catch (Exception e) {
+            available = false;
+            if (replica.isAvailable()) {
+                log.warn("Réplica {} indisponível; leituras serão enviadas ao primário: {}", replica.name(), e.getMessage());
+            }
+        }
+        replica.setAvailable(available);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.clienteapi.config.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limite de concorrência AIMD: cresce em uma unidade por "janela" de respostas dentro da latência alvo e é
+ * multiplicado por {@code backoffRatio} quando uma resposta estoura a latência alvo ou falha.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final double minLimit;
+    private final double maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyTargetNanos, double backoffRatio) {
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(initialLimit));
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTargetNanos;
+        this.backoffRatio = backoffRatio;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos, boolean failed) {
+        inflight.decrementAndGet();
+        boolean overloaded = failed || latencyNanos > latencyTargetNanos;
+        while (true) {
+            long bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            double next = overloaded
+                    ? Math.max(minLimit, limit * backoffRatio)
+                    : Math.min(maxLimit, limit + 1.0 / limit);
+            if (next == limit || limitBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+}
@@ -1,26 +1,33 @@
 package com.example.clienteapi.config.filter;
 
+import com.example.clienteapi.domain.service.RevogacaoTokenService;
 import com.example.clienteapi.domain.service.TokenService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
     private final UserDetailsService userDetailsService;
+    private final RevogacaoTokenService revogacaoTokenService;
 
-    public JwtAuthenticationFilter(TokenService tokenService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(TokenService tokenService, UserDetailsService userDetailsService,
+                                   RevogacaoTokenService revogacaoTokenService) {
         this.tokenService = tokenService;
         this.userDetailsService = userDetailsService;
+        this.revogacaoTokenService = revogacaoTokenService;
     }
 
     @Override
@@ -29,9 +36,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = extractToken(request);
 
         if (token != null) {
-            String subject = tokenService.getSubject(token);
-            if (subject != null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(subject);
+            Claims claims = tokenService.getClaims(token);
+            if (claims != null && !revogado(claims)) {
+                UserDetails userDetails = toUserDetails(claims);
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -40,6 +47,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private boolean revogado(Claims claims) {
+        return claims.getId() != null
+                && revogacaoTokenService.isRevogado(TokenService.getJti(claims), claims.getExpiration().getTime() / 1000);
+    }
+
+    // Tokens emitidos antes do claim de roles ainda consultam o cadastro de usuários.
+    private UserDetails toUserDetails(Claims claims) {
+        List<String> roles = TokenService.getRoles(claims);
+        if (roles == null) {
+            return userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+        return User.withUsername(claims.getSubject())
+                .password("")
+                .authorities(roles.toArray(String[]::new))
+                .build();
+    }
+
     private String extractToken(HttpServletRequest request) {
         String header = request.getHeader("Authorization");
         if (header != null && header.startsWith("Bearer ")) {
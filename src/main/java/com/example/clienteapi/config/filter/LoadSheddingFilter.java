@@ -0,0 +1,94 @@
+package com.example.clienteapi.config.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Rejeita cedo (429/503 com Retry-After) o que excede a taxa por cliente ou o limite adaptativo de concorrência,
+ * em vez de deixar as requisições enfileirarem no Tomcat até esgotar o pool de conexões. Roda depois do
+ * {@link JwtAuthenticationFilter}: o cliente é o usuário do token já validado ou, sem ele, o endereço remoto. Atrás
+ * de um balanceador, o endereço remoto só é o do cliente com {@code server.forward-headers-strategy} configurado.
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Counter rateLimitedCounter;
+    private final Counter concurrencyShedCounter;
+
+    public LoadSheddingFilter(TokenBucketRateLimiter rateLimiter, AdaptiveConcurrencyLimiter concurrencyLimiter,
+                              MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.rateLimitedCounter = meterRegistry.counter("http.load.shed", "reason", "rate_limit");
+        this.concurrencyShedCounter = meterRegistry.counter("http.load.shed", "reason", "concurrency");
+        meterRegistry.gauge("http.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit);
+        meterRegistry.gauge("http.concurrency.inflight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInflight);
+        meterRegistry.gauge("http.rate.limiter.clients", rateLimiter, TokenBucketRateLimiter::trackedClients);
+    }
+
+    public static LoadSheddingFilter from(LoadSheddingProperties properties, MeterRegistry meterRegistry) {
+        return new LoadSheddingFilter(
+                new TokenBucketRateLimiter(properties.getRequestsPerSecond(), properties.getBurst(),
+                        properties.getMaxTrackedClients(), System::nanoTime),
+                new AdaptiveConcurrencyLimiter(properties.getInitialConcurrencyLimit(), properties.getMinConcurrencyLimit(),
+                        properties.getMaxConcurrencyLimit(), properties.getLatencyTarget().toNanos(), properties.getBackoffRatio()),
+                meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Duration wait = rateLimiter.tryAcquire(clientKey(request));
+        if (!wait.isZero()) {
+            rateLimitedCounter.increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, wait);
+            return;
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            concurrencyShedCounter.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, Duration.ofSeconds(1));
+            return;
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            concurrencyLimiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "usuario:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, Duration retryAfter) {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (retryAfter.toMillis() + 999) / 1000)));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.clienteapi.config.filter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "api.load-shedding")
+public class LoadSheddingProperties {
+
+    private boolean enabled = false;
+
+    private double requestsPerSecond = 200;
+    private int burst = 400;
+    private int maxTrackedClients = 100_000;
+
+    private int initialConcurrencyLimit = 20;
+    private int minConcurrencyLimit = 4;
+    private int maxConcurrencyLimit = 200;
+    private Duration latencyTarget = Duration.ofMillis(250);
+    private double backoffRatio = 0.9;
+}
@@ -0,0 +1,81 @@
+package com.example.clienteapi.config.filter;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket por cliente implementado como GCRA: o estado de cada cliente é um único {@code long}
+ * (instante teórico de chegada) atualizado por CAS, sem locks. Acima de {@code maxTrackedClients} os buckets ociosos
+ * são descartados no máximo uma vez por segundo, por uma única thread; se ainda assim não houver espaço, os clientes
+ * novos dividem um bucket de excedente em vez de aumentar o mapa.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final long EVICTION_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong nextEviction;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxTrackedClients;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketRateLimiter(double requestsPerSecond, int burst, int maxTrackedClients, LongSupplier nanoClock) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / requestsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(0, burst - 1);
+        this.maxTrackedClients = maxTrackedClients;
+        this.nanoClock = nanoClock;
+        this.nextEviction = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * @return {@link Duration#ZERO} se a requisição foi aceita ou o tempo até haver uma ficha disponível.
+     */
+    public Duration tryAcquire(String clientKey) {
+        AtomicLong tat = bucketOf(clientKey);
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = tat.get();
+            long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long next = base + emissionIntervalNanos;
+            long wait = next - now - burstToleranceNanos - emissionIntervalNanos;
+            if (wait > 0) {
+                return Duration.ofNanos(wait);
+            }
+            if (tat.compareAndSet(current, next)) {
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    public int trackedClients() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucketOf(String clientKey) {
+        AtomicLong tat = buckets.get(clientKey);
+        if (tat != null) {
+            return tat;
+        }
+        if (buckets.size() >= maxTrackedClients) {
+            evictIdle();
+            if (buckets.size() >= maxTrackedClients) {
+                return overflow;
+            }
+        }
+        return buckets.computeIfAbsent(clientKey, key -> new AtomicLong(Long.MIN_VALUE));
+    }
+
+    // Um bucket cujo instante teórico já passou está cheio e pode ser descartado sem alterar o comportamento.
+    private void evictIdle() {
+        long now = nanoClock.getAsLong();
+        long scheduled = nextEviction.get();
+        if (now - scheduled < 0 || !nextEviction.compareAndSet(scheduled, now + EVICTION_INTERVAL_NANOS)) {
+            return;
+        }
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() - now < 0);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.clienteapi.config.idempotency;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties, ObjectProvider<DataSource> dataSource) {
+        if (properties.getStore() == IdempotencyProperties.Store.JDBC) {
+            JdbcIdempotencyStore store = new JdbcIdempotencyStore(dataSource.getObject());
+            store.start(properties.getPurgeInterval());
+            return store;
+        }
+        return new InMemoryIdempotencyStore(properties.getMaxEntries());
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.clienteapi.config.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "api.idempotency")
+public class IdempotencyProperties {
+
+    public enum Store {
+        MEMORY,
+        JDBC
+    }
+
+    private Store store = Store.MEMORY;
+    private Duration ttl = Duration.ofHours(24);
+    private int maxEntries = 100_000;
+    private Duration inFlightTimeout = Duration.ofSeconds(10);
+    private Duration purgeInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,8 @@
+package com.example.clienteapi.config.idempotency;
+
+import java.util.Optional;
+
+public interface IdempotencyStore {
+    Optional<RespostaIdempotente> get(String chave);
+    void put(String chave, RespostaIdempotente resposta);
+}
@@ -0,0 +1,168 @@
+package com.example.clienteapi.config.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Executa uma requisição no máximo uma vez por {@code Idempotency-Key}. Respostas 201 ficam armazenadas até o TTL e
+ * são devolvidas sem executar a ação novamente; requisições simultâneas com a mesma chave aguardam a primeira.
+ * A chave só pode ser reutilizada com o mesmo corpo de requisição e vale apenas para quem a enviou: o usuário
+ * autenticado ou, em requisições anônimas, o endereço remoto.
+ */
+@Component
+public class IdempotentRequestHandler {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration inFlightTimeout;
+    private final ConcurrentHashMap<String, CompletableFuture<RespostaIdempotente>> emAndamento = new ConcurrentHashMap<>();
+
+    private final Counter replayedCounter;
+    private final Counter coalescedCounter;
+
+    public IdempotentRequestHandler(IdempotencyStore store, ObjectMapper objectMapper, IdempotencyProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.ttl = properties.getTtl();
+        this.inFlightTimeout = properties.getInFlightTimeout();
+        this.replayedCounter = meterRegistry.counter("http.idempotency.replayed");
+        this.coalescedCounter = meterRegistry.counter("http.idempotency.coalesced");
+    }
+
+    public <T> ResponseEntity<T> executar(String chave, Object requisicao, Class<T> tipoCorpo, Supplier<ResponseEntity<T>> acao) {
+        if (chave == null) {
+            return acao.get();
+        }
+        if (chave.isBlank() || chave.length() > MAX_KEY_LENGTH) {
+            throw new IdempotencyException(HttpStatus.BAD_REQUEST,
+                    HEADER + " deve ter entre 1 e " + MAX_KEY_LENGTH + " caracteres.");
+        }
+        String fingerprint = fingerprint(requisicao);
+        String chaveComEscopo = sha256(escopo() + '\n' + chave);
+
+        Optional<RespostaIdempotente> armazenada = store.get(chaveComEscopo);
+        if (armazenada.isPresent()) {
+            replayedCounter.increment();
+            return reproduzir(armazenada.get(), fingerprint, tipoCorpo);
+        }
+
+        CompletableFuture<RespostaIdempotente> propria = new CompletableFuture<>();
+        CompletableFuture<RespostaIdempotente> existente = emAndamento.putIfAbsent(chaveComEscopo, propria);
+        if (existente != null) {
+            coalescedCounter.increment();
+            return reproduzir(aguardar(existente), fingerprint, tipoCorpo);
+        }
+        try {
+            armazenada = store.get(chaveComEscopo);
+            if (armazenada.isPresent()) {
+                propria.complete(armazenada.get());
+                replayedCounter.increment();
+                return reproduzir(armazenada.get(), fingerprint, tipoCorpo);
+            }
+            ResponseEntity<T> resposta = acao.get();
+            RespostaIdempotente registro = new RespostaIdempotente(fingerprint, resposta.getStatusCode().value(),
+                    serializar(resposta.getBody()), System.currentTimeMillis() + ttl.toMillis());
+            if (resposta.getStatusCode() == HttpStatus.CREATED) {
+                store.put(chaveComEscopo, registro);
+            }
+            propria.complete(registro);
+            return resposta;
+        } catch (RuntimeException e) {
+            propria.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chaveComEscopo, propria);
+        }
+    }
+
+    private RespostaIdempotente aguardar(CompletableFuture<RespostaIdempotente> existente) {
+        try {
+            return existente.get(inFlightTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyException(HttpStatus.CONFLICT, "Requisição com a mesma " + HEADER + " ainda em processamento.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyException(HttpStatus.CONFLICT, "Requisição com a mesma " + HEADER + " ainda em processamento.");
+        }
+    }
+
+    private <T> ResponseEntity<T> reproduzir(RespostaIdempotente resposta, String fingerprint, Class<T> tipoCorpo) {
+        if (!resposta.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    HEADER + " já utilizada com outro corpo de requisição.");
+        }
+        try {
+            T corpo = resposta.corpo() == null ? null : objectMapper.readValue(resposta.corpo(), tipoCorpo);
+            return ResponseEntity.status(resposta.status()).header(REPLAYED_HEADER, "true").body(corpo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String serializar(Object corpo) {
+        try {
+            return corpo == null ? null : objectMapper.writeValueAsString(corpo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String fingerprint(Object requisicao) {
+        return sha256(serializar(requisicao));
+    }
+
+    private static String escopo() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "usuario:" + authentication.getName();
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos) {
+            return "ip:" + atributos.getRequest().getRemoteAddr();
+        }
+        return "anonimo";
+    }
+
+    private static String sha256(String valor) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(valor.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.clienteapi.config.idempotency;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Armazena as respostas em um LRU limitado a {@code maxEntries}; entradas expiradas são descartadas na leitura.
+ * Vale apenas para esta instância da aplicação.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, RespostaIdempotente> respostas;
+
+    public InMemoryIdempotencyStore(int maxEntries) {
+        this.respostas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RespostaIdempotente> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<RespostaIdempotente> get(String chave) {
+        RespostaIdempotente resposta = respostas.get(chave);
+        if (resposta != null && resposta.expirada(System.currentTimeMillis())) {
+            respostas.remove(chave);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(resposta);
+    }
+
+    @Override
+    public synchronized void put(String chave, RespostaIdempotente resposta) {
+        respostas.put(chave, resposta);
+    }
+
+    synchronized int size() {
+        return respostas.size();
+    }
+}
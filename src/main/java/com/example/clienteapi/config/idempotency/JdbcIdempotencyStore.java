@@ -0,0 +1,72 @@
+package com.example.clienteapi.config.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Armazena as respostas na tabela {@code chaves_idempotencia}, compartilhada entre as instâncias da aplicação.
+ * A tabela faz parte do schema gerenciado pelo Hibernate ({@code ChaveIdempotenciaJpaEntity}). As linhas expiradas
+ * são removidas periodicamente.
+ */
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore, AutoCloseable {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledExecutorService scheduler;
+
+    public JdbcIdempotencyStore(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start(Duration purgeInterval) {
+        scheduler.scheduleWithFixedDelay(this::purgar, purgeInterval.toMillis(), purgeInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Optional<RespostaIdempotente> get(String chave) {
+        return jdbcTemplate.query(
+                "SELECT fingerprint, status, corpo, expira_em FROM chaves_idempotencia WHERE chave = ? AND expira_em > ?",
+                (rs, rowNum) -> new RespostaIdempotente(rs.getString(1), rs.getInt(2), rs.getString(3), rs.getLong(4)),
+                chave, System.currentTimeMillis()).stream().findFirst();
+    }
+
+    @Override
+    public void put(String chave, RespostaIdempotente resposta) {
+        try {
+            jdbcTemplate.update("DELETE FROM chaves_idempotencia WHERE chave = ? AND expira_em <= ?",
+                    chave, System.currentTimeMillis());
+            jdbcTemplate.update(
+                    "INSERT INTO chaves_idempotencia (chave, fingerprint, status, corpo, expira_em) VALUES (?, ?, ?, ?, ?)",
+                    chave, resposta.fingerprint(), resposta.status(), resposta.corpo(), resposta.expiraEm());
+        } catch (DuplicateKeyException e) {
+            log.debug("Chave de idempotência {} já registrada por outra instância.", chave);
+        }
+    }
+
+    void purgar() {
+        try {
+            int removidas = jdbcTemplate.update("DELETE FROM chaves_idempotencia WHERE expira_em <= ?", System.currentTimeMillis());
+            log.debug("{} chaves de idempotência expiradas removidas.", removidas);
+        } catch (Exception e) {
+            log.warn("Falha ao remover chaves de idempotência expiradas: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.clienteapi.config.idempotency;
+
+public record RespostaIdempotente(String fingerprint, int status, String corpo, long expiraEm) {
+
+    public boolean expirada(long agora) {
+        return expiraEm <= agora;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.clienteapi.config.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Identificador de correlação propagado no cabeçalho HTTP e nas mensagens do RabbitMQ e gravado no MDC, para
+ * que todas as linhas de log de uma requisição e das mensagens que ela gerou possam ser reunidas.
+ */
+public final class CorrelationId {
+
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String MDC_KEY = "correlationId";
+    private static final int TAMANHO_MAXIMO = 64;
+
+    private CorrelationId() {
+    }
+
+    public static String gerar() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE);
+    }
+
+    /**
+     * Aceita apenas identificadores curtos com letras, dígitos, '-', '_' e '.', para que um valor enviado pelo
+     * cliente não injete conteúdo no log.
+     */
+    public static boolean valido(String valor) {
+        if (valor == null || valor.isEmpty() || valor.length() > TAMANHO_MAXIMO) {
+            return false;
+        }
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (!(Character.isLetterOrDigit(c) && c < 128) && c != '-' && c != '_' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
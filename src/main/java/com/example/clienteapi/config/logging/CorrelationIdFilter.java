@@ -0,0 +1,31 @@
+package com.example.clienteapi.config.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Usa o {@value CorrelationId#HEADER} recebido (ou gera um novo), devolve-o na resposta e o mantém no MDC
+ * durante a requisição.
+ */
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String recebido = request.getHeader(CorrelationId.HEADER);
+        String correlationId = CorrelationId.valido(recebido) ? recebido : CorrelationId.gerar();
+        response.setHeader(CorrelationId.HEADER, correlationId);
+        MDC.put(CorrelationId.MDC_KEY, correlationId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(CorrelationId.MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.clienteapi.config.logging;
+
+/**
+ * Mascara, no próprio array de bytes já codificado, a parte local de endereços de e-mail
+ * ({@code joao.silva@example.com} vira {@code j*********@example.com}); referências como {@code Objeto@1b6d3586},
+ * sem ponto no domínio, ficam como estão. Não aloca: o evento só é percorrido
+ * em busca de '@' e os bytes são sobrescritos com o mesmo tamanho.
+ */
+public final class EmailMask {
+
+    private EmailMask() {
+    }
+
+    public static byte[] mascarar(byte[] bytes) {
+        for (int i = 1; i < bytes.length - 1; i++) {
+            if (bytes[i] != '@' || !dominio(bytes, i + 1)) {
+                continue;
+            }
+            int inicio = i;
+            while (inicio > 0 && caractereLocal(bytes[inicio - 1])) {
+                inicio--;
+            }
+            for (int j = inicio + 1; j < i; j++) {
+                bytes[j] = '*';
+            }
+        }
+        return bytes;
+    }
+
+    private static boolean dominio(byte[] bytes, int inicio) {
+        boolean ponto = false;
+        int i = inicio;
+        while (i < bytes.length && (caractereDeDominio(bytes[i]) || bytes[i] == '.')) {
+            ponto |= bytes[i] == '.' && i > inicio && i + 1 < bytes.length && caractereDeDominio(bytes[i + 1]);
+            i++;
+        }
+        return ponto;
+    }
+
+    private static boolean caractereLocal(byte b) {
+        return caractereDeDominio(b) || b == '.' || b == '_' || b == '%' || b == '+';
+    }
+
+    private static boolean caractereDeDominio(byte b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9') || b == '-';
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.clienteapi.config.logging;
+
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/** {@link JsonEncoder} do Logback com e-mails mascarados por {@link EmailMask}. */
+public class MaskingJsonEncoder extends JsonEncoder {
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        return EmailMask.mascarar(super.encode(event));
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.clienteapi.config.logging;
+
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/** {@link PatternLayoutEncoder} com e-mails mascarados por {@link EmailMask}, para o log em texto. */
+public class MaskingPatternLayoutEncoder extends PatternLayoutEncoder {
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        return EmailMask.mascarar(super.encode(event));
+    }
+}
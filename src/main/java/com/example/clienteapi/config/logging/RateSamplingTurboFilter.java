@@ -0,0 +1,77 @@
+package com.example.clienteapi.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Amostragem por logger: nos loggers configurados (por prefixo), eventos de nível INFO ou inferior passam até
+ * {@code maxPerSecond} por segundo e o excedente é descartado antes de o evento ser criado. WARN e ERROR nunca
+ * são amostrados. A quantidade descartada fica em {@link #getSuprimidos()}.
+ */
+public class RateSamplingTurboFilter extends TurboFilter {
+
+    private static final Janela NAO_AMOSTRADO = new Janela();
+
+    private static final class Janela {
+        private final AtomicLong segundo = new AtomicLong();
+        private final AtomicLong eventos = new AtomicLong();
+    }
+
+    private final Map<Logger, Janela> janelas = new ConcurrentHashMap<>();
+    private final AtomicLong suprimidos = new AtomicLong();
+    private String[] prefixos = new String[0];
+    private int maxPerSecond = 10;
+
+    public void setLoggers(String loggers) {
+        this.prefixos = loggers.isBlank() ? new String[0] : loggers.trim().split("\\s*,\\s*");
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public long getSuprimidos() {
+        return suprimidos.get();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || level == null || level.toInt() > Level.INFO_INT || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Janela janela = janelas.get(logger);
+        if (janela == null) {
+            janela = janelas.computeIfAbsent(logger, this::janelaDo);
+        }
+        if (janela == NAO_AMOSTRADO) {
+            return FilterReply.NEUTRAL;
+        }
+        long agora = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        long atual = janela.segundo.get();
+        if (atual != agora && janela.segundo.compareAndSet(atual, agora)) {
+            janela.eventos.set(0);
+        }
+        if (janela.eventos.incrementAndGet() <= maxPerSecond) {
+            return FilterReply.NEUTRAL;
+        }
+        suprimidos.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    private Janela janelaDo(Logger logger) {
+        for (String prefixo : prefixos) {
+            if (logger.getName().startsWith(prefixo)) {
+                return new Janela();
+            }
+        }
+        return NAO_AMOSTRADO;
+    }
+}
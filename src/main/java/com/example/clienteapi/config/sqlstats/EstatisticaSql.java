@@ -0,0 +1,5 @@
+package com.example.clienteapi.config.sqlstats;
+
+public record EstatisticaSql(String fingerprint, long execucoes, double tempoTotalMs, double tempoMedioMs,
+                             double tempoMaximoMs, double p50Ms, double p95Ms, double p99Ms, long lentas) {
+}
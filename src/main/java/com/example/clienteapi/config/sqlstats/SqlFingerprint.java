@@ -0,0 +1,108 @@
+package com.example.clienteapi.config.sqlstats;
+
+/**
+ * Normaliza um comando SQL na sua "impressão digital": literais de texto e números viram {@code ?}, listas de
+ * parâmetros como {@code IN (?, ?, ?)} colapsam em {@code IN (?)}, comentários de bloco são removidos e espaços
+ * repetidos viram um só. Assim comandos que diferem apenas nos valores são agregados juntos e nenhum valor
+ * aparece nas estatísticas nem no log.
+ */
+public final class SqlFingerprint {
+
+    private SqlFingerprint() {
+    }
+
+    public static String normalizar(String sql) {
+        StringBuilder saida = new StringBuilder(sql.length());
+        int i = 0;
+        int n = sql.length();
+        while (i < n) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                i = pularTexto(sql, i);
+                adicionarParametro(saida);
+            } else if (c == '"') {
+                int fim = sql.indexOf('"', i + 1);
+                fim = fim < 0 ? n : fim + 1;
+                saida.append(sql, i, fim);
+                i = fim;
+            } else if (c == '/' && i + 1 < n && sql.charAt(i + 1) == '*') {
+                int fim = sql.indexOf("*/", i + 2);
+                i = fim < 0 ? n : fim + 2;
+                adicionarEspaco(saida);
+            } else if (Character.isWhitespace(c)) {
+                adicionarEspaco(saida);
+                i++;
+            } else if (Character.isDigit(c) && !parteDeIdentificador(saida)) {
+                while (i < n && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                adicionarParametro(saida);
+            } else if (c == '?') {
+                adicionarParametro(saida);
+                i++;
+            } else {
+                saida.append(c);
+                i++;
+            }
+        }
+        int fim = saida.length();
+        while (fim > 0 && saida.charAt(fim - 1) == ' ') {
+            fim--;
+        }
+        saida.setLength(fim);
+        return saida.toString();
+    }
+
+    private static int pularTexto(String sql, int inicio) {
+        int i = inicio + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static void adicionarParametro(StringBuilder saida) {
+        int fim = saida.length();
+        if (fim > 0 && saida.charAt(fim - 1) == ' ') {
+            fim--;
+        }
+        if (fim > 1 && saida.charAt(fim - 1) == ',' && terminaEmParametro(saida, fim - 1)) {
+            saida.setLength(ultimoNaoEspaco(saida, fim - 1));
+            return;
+        }
+        saida.append('?');
+    }
+
+    private static boolean terminaEmParametro(StringBuilder saida, int fim) {
+        int posicao = ultimoNaoEspaco(saida, fim);
+        return posicao > 0 && saida.charAt(posicao - 1) == '?';
+    }
+
+    private static int ultimoNaoEspaco(StringBuilder saida, int fim) {
+        while (fim > 0 && saida.charAt(fim - 1) == ' ') {
+            fim--;
+        }
+        return fim;
+    }
+
+    private static void adicionarEspaco(StringBuilder saida) {
+        if (saida.length() > 0 && saida.charAt(saida.length() - 1) != ' ') {
+            saida.append(' ');
+        }
+    }
+
+    private static boolean parteDeIdentificador(StringBuilder saida) {
+        if (saida.length() == 0) {
+            return false;
+        }
+        char anterior = saida.charAt(saida.length() - 1);
+        return Character.isLetterOrDigit(anterior) || anterior == '_' || anterior == '$';
+    }
+}
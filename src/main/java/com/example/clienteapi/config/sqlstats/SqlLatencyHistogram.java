@@ -0,0 +1,41 @@
+package com.example.clienteapi.config.sqlstats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latência com buckets em potências de 2 de microssegundos (bucket i = [2^i, 2^(i+1)) µs), gravado
+ * sem travas. Percentis são estimados pelo limite superior do bucket, com erro de no máximo 2x.
+ */
+class SqlLatencyHistogram {
+
+    private static final int BUCKETS = 40;
+
+    private final AtomicLongArray contagens = new AtomicLongArray(BUCKETS);
+
+    void registrar(long nanos) {
+        long micros = Math.max(1, nanos / 1000);
+        int bucket = Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros));
+        contagens.incrementAndGet(bucket);
+    }
+
+    double percentilMillis(double percentil) {
+        long total = 0;
+        long[] copia = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copia[i] = contagens.get(i);
+            total += copia[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long alvo = (long) Math.ceil(total * percentil);
+        long acumulado = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            acumulado += copia[i];
+            if (acumulado >= alvo) {
+                return (1L << (i + 1)) / 1000.0;
+            }
+        }
+        return (1L << BUCKETS) / 1000.0;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.clienteapi.config.sqlstats;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "api.sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SqlStatsProperties.class)
+public class SqlStatsConfig {
+
+    @Bean(destroyMethod = "close")
+    public SqlStatsRegistry sqlStatsRegistry(SqlStatsProperties properties) {
+        return new SqlStatsRegistry(properties.getSlowQueryThreshold(), properties.getMaxFingerprints(),
+                properties.getSlowLogQueueCapacity());
+    }
+
+    @Bean
+    public SqlStatsEndpoint sqlStatsEndpoint(SqlStatsRegistry sqlStatsRegistry, SqlStatsProperties properties) {
+        return new SqlStatsEndpoint(sqlStatsRegistry, properties.getTopN());
+    }
+
+    /**
+     * Envolve os DataSources listados em {@code api.sql-stats.data-sources} (por padrão, o {@code dataSource} usado
+     * pelo JPA) com o {@link SqlStatsDataSource}. Apenas os nomes listados são envolvidos para que DataSources
+     * encadeados (pool primário, roteamento de réplicas) não sejam medidos duas vezes.
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatsDataSourcePostProcessor(ObjectProvider<SqlStatsProperties> properties,
+                                                                    ObjectProvider<SqlStatsRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatsDataSource)
+                        && properties.getObject().getDataSources().contains(beanName)) {
+                    return new SqlStatsDataSource(dataSource, registry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.clienteapi.config.sqlstats;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource que mede cada execução de comando (execute, executeQuery, executeUpdate, executeBatch...) das
+ * conexões que entrega e registra o tempo no {@link SqlStatsRegistry}. O tempo medido vai até o driver devolver o
+ * resultado; a leitura do ResultSet não entra na conta.
+ */
+public class SqlStatsDataSource extends DelegatingDataSource {
+
+    private final SqlStatsRegistry registry;
+
+    public SqlStatsDataSource(DataSource targetDataSource, SqlStatsRegistry registry) {
+        super(targetDataSource);
+        this.registry = registry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private static <T> T proxy(Class<T> tipo, InvocationHandler handler) {
+        return tipo.cast(Proxy.newProxyInstance(SqlStatsDataSource.class.getClassLoader(), new Class<?>[]{tipo}, handler));
+    }
+
+    private static Object invocar(Object alvo, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(alvo, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection conexao;
+
+        private ConnectionHandler(Connection conexao) {
+            this.conexao = conexao;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            Object resultado = invocar(conexao, method, args);
+            if (resultado instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String texto ? texto : null;
+                return proxy(method.getReturnType(), new StatementHandler(statement, sql, (Connection) proxy));
+            }
+            return resultado;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String sqlPreparado;
+        private final Connection conexao;
+        private String sqlEmLote;
+
+        private StatementHandler(Statement statement, String sqlPreparado, Connection conexao) {
+            this.statement = statement;
+            this.sqlPreparado = sqlPreparado;
+            this.conexao = conexao;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String nome = method.getName();
+            switch (nome) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getConnection":
+                    return conexao;
+                case "addBatch":
+                    if (args != null && args.length == 1 && args[0] instanceof String texto) {
+                        sqlEmLote = texto;
+                    }
+                    return invocar(statement, method, args);
+                default:
+                    break;
+            }
+            if (!nome.startsWith("execute")) {
+                return invocar(statement, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String texto ? texto
+                    : sqlPreparado != null ? sqlPreparado : sqlEmLote;
+            long inicio = System.nanoTime();
+            try {
+                return invocar(statement, method, args);
+            } finally {
+                registry.registrar(sql, System.nanoTime() - inicio);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.clienteapi.config.sqlstats;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Endpoint {@code /actuator/sqlstats}: os N comandos SQL mais custosos, ordenados por tempo total (padrão),
+ * execuções, tempo médio, p99 ou quantidade de execuções lentas. A ordem e o N vêm do caminho
+ * ({@code /actuator/sqlstats/{ordem}/{limite}}), com uma operação por variante em vez de parâmetros opcionais.
+ */
+@Endpoint(id = "sqlstats")
+public class SqlStatsEndpoint {
+
+    public record Relatorio(int fingerprints, long consultasLentasDescartadas, List<EstatisticaSql> comandos) {
+    }
+
+    private final SqlStatsRegistry registry;
+    private final int topN;
+
+    public SqlStatsEndpoint(SqlStatsRegistry registry, int topN) {
+        this.registry = registry;
+        this.topN = topN;
+    }
+
+    @ReadOperation
+    public Relatorio top() {
+        return top("total", topN);
+    }
+
+    @ReadOperation
+    public Relatorio top(@Selector String ordem) {
+        return top(ordem, topN);
+    }
+
+    @ReadOperation
+    public Relatorio top(@Selector String ordem, @Selector int limite) {
+        Comparator<EstatisticaSql> comparator = switch (ordem) {
+            case "execucoes" -> Comparator.comparingLong(EstatisticaSql::execucoes);
+            case "media" -> Comparator.comparingDouble(EstatisticaSql::tempoMedioMs);
+            case "p99" -> Comparator.comparingDouble(EstatisticaSql::p99Ms);
+            case "lentas" -> Comparator.comparingLong(EstatisticaSql::lentas);
+            default -> Comparator.comparingDouble(EstatisticaSql::tempoTotalMs);
+        };
+        return new Relatorio(registry.fingerprints(), registry.consultasLentasDescartadas(),
+                registry.top(limite, comparator.reversed()));
+    }
+
+    @DeleteOperation
+    public void reset() {
+        registry.reset();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.clienteapi.config.sqlstats;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "api.sql-stats")
+public class SqlStatsProperties {
+
+    private boolean enabled = true;
+    private List<String> dataSources = new ArrayList<>(List.of("dataSource"));
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+    private int maxFingerprints = 1000;
+    private int slowLogQueueCapacity = 1000;
+    private int topN = 20;
+}
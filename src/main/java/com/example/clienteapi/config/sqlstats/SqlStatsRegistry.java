@@ -0,0 +1,145 @@
+package com.example.clienteapi.config.sqlstats;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Estatísticas por impressão digital de SQL (execuções, tempo total, máximo e histograma de latência) e log de
+ * consultas lentas. A thread que executa o comando só atualiza contadores e, se for lento, enfileira a entrada;
+ * a escrita no log acontece em uma thread própria e, com a fila cheia, a entrada é descartada e contada.
+ * O log traz apenas a impressão digital, sem os valores dos parâmetros.
+ */
+@Slf4j
+public class SqlStatsRegistry implements AutoCloseable {
+
+    static final String OUTROS = "<outros>";
+
+    private record ConsultaLenta(String fingerprint, long nanos) {
+    }
+
+    private static final class Estatistica {
+        private final String fingerprint;
+        private final LongAdder execucoes = new LongAdder();
+        private final LongAdder nanosTotais = new LongAdder();
+        private final LongAccumulator nanosMaximo = new LongAccumulator(Math::max, 0);
+        private final LongAdder lentas = new LongAdder();
+        private final SqlLatencyHistogram histograma = new SqlLatencyHistogram();
+
+        private Estatistica(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private EstatisticaSql snapshot() {
+            long total = execucoes.sum();
+            double totalMs = nanosTotais.sum() / 1_000_000.0;
+            double maximoMs = nanosMaximo.get() / 1_000_000.0;
+            return new EstatisticaSql(fingerprint, total, totalMs, total == 0 ? 0 : totalMs / total, maximoMs,
+                    Math.min(maximoMs, histograma.percentilMillis(0.50)), Math.min(maximoMs, histograma.percentilMillis(0.95)),
+                    Math.min(maximoMs, histograma.percentilMillis(0.99)), lentas.sum());
+        }
+    }
+
+    private final Map<String, Estatistica> porSql = new ConcurrentHashMap<>();
+    private final Map<String, Estatistica> porFingerprint = new ConcurrentHashMap<>();
+    private final long limiteLentaNanos;
+    private final int maxFingerprints;
+    private final BlockingQueue<ConsultaLenta> consultasLentas;
+    private final LongAdder lentasDescartadas = new LongAdder();
+    private final Thread logger;
+    private volatile boolean running = true;
+
+    public SqlStatsRegistry(Duration slowQueryThreshold, int maxFingerprints, int slowLogQueueCapacity) {
+        this.limiteLentaNanos = slowQueryThreshold.toNanos();
+        this.maxFingerprints = maxFingerprints;
+        this.consultasLentas = new ArrayBlockingQueue<>(slowLogQueueCapacity);
+        this.logger = new Thread(this::escreverConsultasLentas, "sql-slow-query-log");
+        this.logger.setDaemon(true);
+        this.logger.start();
+    }
+
+    public void registrar(String sql, long nanos) {
+        if (sql == null) {
+            return;
+        }
+        Estatistica estatistica = estatisticaDo(sql);
+        estatistica.execucoes.increment();
+        estatistica.nanosTotais.add(nanos);
+        estatistica.nanosMaximo.accumulate(nanos);
+        estatistica.histograma.registrar(nanos);
+        if (nanos >= limiteLentaNanos) {
+            estatistica.lentas.increment();
+            if (!consultasLentas.offer(new ConsultaLenta(estatistica.fingerprint, nanos))) {
+                lentasDescartadas.increment();
+            }
+        }
+    }
+
+    public List<EstatisticaSql> top(int limite, Comparator<EstatisticaSql> ordem) {
+        return porFingerprint.values().stream()
+                .map(Estatistica::snapshot)
+                .sorted(ordem)
+                .limit(limite)
+                .toList();
+    }
+
+    public int fingerprints() {
+        return porFingerprint.size();
+    }
+
+    public long consultasLentasDescartadas() {
+        return lentasDescartadas.sum();
+    }
+
+    public void reset() {
+        porSql.clear();
+        porFingerprint.clear();
+        lentasDescartadas.reset();
+    }
+
+    private Estatistica estatisticaDo(String sql) {
+        Estatistica estatistica = porSql.get(sql);
+        if (estatistica != null) {
+            return estatistica;
+        }
+        String fingerprint = SqlFingerprint.normalizar(sql);
+        estatistica = porFingerprint.get(fingerprint);
+        if (estatistica == null) {
+            String chave = porFingerprint.size() < maxFingerprints ? fingerprint : OUTROS;
+            estatistica = porFingerprint.computeIfAbsent(chave, Estatistica::new);
+        }
+        if (porSql.size() < maxFingerprints * 4) {
+            porSql.putIfAbsent(sql, estatistica);
+        }
+        return estatistica;
+    }
+
+    private void escreverConsultasLentas() {
+        while (running) {
+            try {
+                ConsultaLenta consulta = consultasLentas.poll(100, TimeUnit.MILLISECONDS);
+                if (consulta != null) {
+                    log.warn("Consulta lenta ({} ms): {}", consulta.nanos() / 1_000_000, consulta.fingerprint());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        logger.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.clienteapi.domain.event;
+
+import com.example.clienteapi.domain.model.Cliente;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Value
+public class ClienteEvent {
+
+    public enum Tipo {
+        CRIADO,
+        ATUALIZADO,
+        REMOVIDO
+    }
+
+    private static final AtomicLong VERSOES = new AtomicLong();
+
+    Tipo tipo;
+    Cliente cliente;
+    Instant ocorridoEm;
+    /** E-mail antes da atualização; null nos demais tipos ou quando desconhecido. */
+    String emailAnterior;
+    /**
+     * Versão da alteração nesta instância, crescente. O evento é criado logo após a escrita, ainda dentro da
+     * transação que, nos adapters com banco, segura o lock da linha; assim duas alterações do mesmo cliente
+     * recebem versões na ordem em que foram confirmadas, mesmo que os listeners pós-commit rodem fora de ordem.
+     */
+    long versao;
+
+    public static ClienteEvent criado(Cliente cliente) {
+        return new ClienteEvent(Tipo.CRIADO, copia(cliente), Instant.now(), null, VERSOES.incrementAndGet());
+    }
+
+    public static ClienteEvent atualizado(Cliente cliente) {
+        return atualizado(cliente, null);
+    }
+
+    public static ClienteEvent atualizado(Cliente cliente, String emailAnterior) {
+        return new ClienteEvent(Tipo.ATUALIZADO, copia(cliente), Instant.now(), emailAnterior, VERSOES.incrementAndGet());
+    }
+
+    public static ClienteEvent removido(Cliente cliente) {
+        return new ClienteEvent(Tipo.REMOVIDO, copia(cliente), Instant.now(), null, VERSOES.incrementAndGet());
+    }
+
+    private static Cliente copia(Cliente cliente) {
+        return new Cliente(cliente.getId(), cliente.getNome(), cliente.getEmail(), cliente.getCpf(), cliente.getCriadoEm());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.clienteapi.domain.model;
+
+import com.example.clienteapi.domain.event.ClienteEvent;
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class AlteracaoCliente {
+    long sequencia;
+    ClienteEvent.Tipo tipo;
+    Cliente cliente;
+    Instant ocorridoEm;
+}
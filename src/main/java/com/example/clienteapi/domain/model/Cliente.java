@@ -4,6 +4,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+import java.util.Locale;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -12,4 +15,14 @@ public class Cliente {
     private String nome;
     private String email;
     private String cpf;
+    private Instant criadoEm;
+
+    public Cliente(Long id, String nome, String email, String cpf) {
+        this(id, nome, email, cpf, null);
+    }
+
+    /** Domínio do e-mail em minúsculas (o e-mail inteiro se não houver '@'), usado nas estatísticas de cadastro. */
+    public static String dominioDoEmail(String email) {
+        return email.substring(email.indexOf('@') + 1).toLowerCase(Locale.ROOT);
+    }
 }
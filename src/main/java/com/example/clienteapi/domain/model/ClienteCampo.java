@@ -0,0 +1,33 @@
+package com.example.clienteapi.domain.model;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+public enum ClienteCampo {
+    ID,
+    NOME,
+    EMAIL,
+    CPF;
+
+    public static Set<ClienteCampo> parse(Iterable<String> nomes) {
+        Set<ClienteCampo> campos = EnumSet.noneOf(ClienteCampo.class);
+        for (String nome : nomes) {
+            if (!nome.isBlank()) {
+                campos.add(valueOf(nome.trim().toUpperCase(Locale.ROOT)));
+            }
+        }
+        return campos.isEmpty() ? EnumSet.allOf(ClienteCampo.class) : campos;
+    }
+
+    public static Cliente projetar(Cliente cliente, Set<ClienteCampo> campos) {
+        if (campos.size() == values().length) {
+            return cliente;
+        }
+        return new Cliente(
+                campos.contains(ID) ? cliente.getId() : null,
+                campos.contains(NOME) ? cliente.getNome() : null,
+                campos.contains(EMAIL) ? cliente.getEmail() : null,
+                campos.contains(CPF) ? cliente.getCpf() : null);
+    }
+}
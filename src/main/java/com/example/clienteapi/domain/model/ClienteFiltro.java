@@ -0,0 +1,59 @@
+package com.example.clienteapi.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Locale;
+
+@Value
+@Builder
+public class ClienteFiltro {
+
+    public static final int LIMITE_PADRAO = 20;
+    public static final int LIMITE_MAXIMO = 100;
+
+    public enum TipoBuscaNome {
+        PREFIXO,
+        CONTEM
+    }
+
+    String email;
+    String cpf;
+    String nome;
+    @Builder.Default
+    TipoBuscaNome tipoBuscaNome = TipoBuscaNome.PREFIXO;
+    @Builder.Default
+    long aposId = 0L;
+    @Builder.Default
+    int limite = LIMITE_PADRAO;
+
+    public static int normalizarLimite(Integer limite) {
+        if (limite == null) {
+            return LIMITE_PADRAO;
+        }
+        return Math.max(1, Math.min(limite, LIMITE_MAXIMO));
+    }
+
+    public String getNomeNormalizado() {
+        return nome == null ? null : nome.toLowerCase(Locale.ROOT);
+    }
+
+    public boolean matches(Cliente cliente) {
+        if (cliente.getId() == null || cliente.getId() <= aposId) {
+            return false;
+        }
+        if (email != null && !email.equals(cliente.getEmail())) {
+            return false;
+        }
+        if (cpf != null && !cpf.equals(cliente.getCpf())) {
+            return false;
+        }
+        if (nome != null) {
+            String nomeCliente = cliente.getNome() == null ? "" : cliente.getNome().toLowerCase(Locale.ROOT);
+            return tipoBuscaNome == TipoBuscaNome.CONTEM
+                    ? nomeCliente.contains(getNomeNormalizado())
+                    : nomeCliente.startsWith(getNomeNormalizado());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.clienteapi.domain.model;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Contagens de clientes mantidas em memória: total, clientes por dia de cadastro (em ordem cronológica, com zero
+ * nos dias sem cadastros) e por domínio de e-mail (do mais frequente ao menos frequente).
+ */
+@Value
+public class EstatisticasClientes {
+    long total;
+    Map<LocalDate, Long> cadastrosPorDia;
+    Map<String, Long> clientesPorDominio;
+    Instant reconciliadoEm;
+}
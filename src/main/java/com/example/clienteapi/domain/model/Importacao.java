@@ -0,0 +1,33 @@
+package com.example.clienteapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Importacao {
+
+    public enum Status {
+        EM_ANDAMENTO,
+        CONCLUIDA,
+        FALHOU
+    }
+
+    private Long id;
+    private Status status;
+    private long linhasConfirmadas;
+    private long importados;
+    private long duplicados;
+    private long invalidos;
+    private Instant iniciadaEm;
+    private Instant atualizadaEm;
+
+    public static Importacao nova() {
+        Instant agora = Instant.now();
+        return new Importacao(null, Status.EM_ANDAMENTO, 0, 0, 0, 0, agora, agora);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.clienteapi.domain.model;
+
+import lombok.Value;
+
+@Value
+public class LinhaImportacao {
+    long numero;
+    Cliente cliente;
+    String erro;
+
+    public boolean isValida() {
+        return erro == null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.clienteapi.domain.model;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Refresh token emitido para um usuário; só o hash SHA-256 do valor entregue ao cliente é armazenado. Os tokens de
+ * um mesmo login, rotacionados a cada renovação, compartilham a família.
+ */
+@Value
+public class RefreshToken {
+    String hash;
+    String username;
+    String familia;
+    Instant expiraEm;
+}
@@ -0,0 +1,12 @@
+package com.example.clienteapi.domain.model;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+/** Identificador (claim {@code jti}) de um access token revogado e o instante em que o token expiraria. */
+@Value
+public class TokenRevogado {
+    long jti;
+    Instant expiraEm;
+}
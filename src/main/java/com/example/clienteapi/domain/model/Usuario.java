@@ -0,0 +1,17 @@
+package com.example.clienteapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Usuario {
+    private Long id;
+    private String username;
+    private String senha;
+    private List<String> papeis;
+}
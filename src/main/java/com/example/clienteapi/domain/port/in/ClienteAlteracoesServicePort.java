@@ -0,0 +1,11 @@
+package com.example.clienteapi.domain.port.in;
+
+import com.example.clienteapi.domain.model.AlteracaoCliente;
+
+import java.util.List;
+
+public interface ClienteAlteracoesServicePort {
+    List<AlteracaoCliente> buscarAlteracoes(long aposSequencia, int limite);
+    long ultimaSequencia();
+    void aoRegistrar(Runnable notificacao);
+}
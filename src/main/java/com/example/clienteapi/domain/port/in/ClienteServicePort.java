@@ -1,13 +1,20 @@
 package com.example.clienteapi.domain.port.in;
 
 import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.ClienteCampo;
+import com.example.clienteapi.domain.model.ClienteFiltro;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ClienteServicePort {
     Cliente criarCliente(Cliente cliente);
     Optional<Cliente> buscarClientePorId(Long id);
+    List<Cliente> buscarClientesPorIds(Collection<Long> ids);
     List<Cliente> buscarTodosClientes();
+    List<Cliente> buscarTodosClientes(Set<ClienteCampo> campos);
+    List<Cliente> pesquisarClientes(ClienteFiltro filtro);
     Cliente atualizarCliente(Long id, Cliente cliente);
     void deletarCliente(Long id);
 }
@@ -0,0 +1,7 @@
+package com.example.clienteapi.domain.port.in;
+
+import com.example.clienteapi.domain.model.EstatisticasClientes;
+
+public interface EstatisticasClientesServicePort {
+    EstatisticasClientes consultar(int dias, int dominios);
+}
@@ -0,0 +1,12 @@
+package com.example.clienteapi.domain.port.in;
+
+import com.example.clienteapi.domain.model.Importacao;
+import com.example.clienteapi.domain.model.LinhaImportacao;
+
+import java.util.Iterator;
+import java.util.Optional;
+
+public interface ImportacaoClientesServicePort {
+    Importacao importar(Long importacaoId, Iterator<LinhaImportacao> linhas);
+    Optional<Importacao> buscarImportacao(Long importacaoId);
+}
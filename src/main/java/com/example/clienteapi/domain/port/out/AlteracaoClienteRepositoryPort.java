@@ -0,0 +1,15 @@
+package com.example.clienteapi.domain.port.out;
+
+import com.example.clienteapi.domain.model.AlteracaoCliente;
+
+import java.util.List;
+
+public interface AlteracaoClienteRepositoryPort {
+    /**
+     * Grava as alterações na transação corrente, atribuindo sequências contíguas. A sequência fica reservada até o
+     * commit, então as alterações ficam visíveis na mesma ordem das sequências e o feed nunca tem lacunas.
+     */
+    List<AlteracaoCliente> acrescentar(List<AlteracaoCliente> alteracoes);
+    List<AlteracaoCliente> findAfter(long aposSequencia, int limite);
+    long findMaxSequencia();
+}
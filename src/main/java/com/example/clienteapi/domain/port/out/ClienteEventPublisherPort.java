@@ -0,0 +1,7 @@
+package com.example.clienteapi.domain.port.out;
+
+import com.example.clienteapi.domain.event.ClienteEvent;
+
+public interface ClienteEventPublisherPort {
+    void publish(ClienteEvent event);
+}
@@ -0,0 +1,19 @@
+package com.example.clienteapi.domain.port.out;
+
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.ClienteCampo;
+import com.example.clienteapi.domain.model.ClienteFiltro;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface ClienteReadModelPort {
+    boolean isReady();
+    Optional<Cliente> findById(Long id);
+    List<Cliente> findAllByIds(Collection<Long> ids);
+    List<Cliente> findAll();
+    List<Cliente> findAll(Set<ClienteCampo> campos);
+    List<Cliente> search(ClienteFiltro filtro);
+}
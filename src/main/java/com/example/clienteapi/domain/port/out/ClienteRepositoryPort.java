@@ -1,13 +1,32 @@
 package com.example.clienteapi.domain.port.out;
 
 import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.ClienteCampo;
+import com.example.clienteapi.domain.model.ClienteFiltro;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface ClienteRepositoryPort {
     Cliente save(Cliente cliente);
+    List<Cliente> saveAll(List<Cliente> clientes);
     Optional<Cliente> findById(Long id);
+    List<Cliente> findAllByIds(Collection<Long> ids);
     List<Cliente> findAll();
+    List<Cliente> findAll(Set<ClienteCampo> campos);
     void deleteById(Long id);
     boolean existsByEmail(String email);
+    Set<String> findExistingEmails(Collection<String> emails);
+    List<Cliente> search(ClienteFiltro filtro);
+    void forEach(Consumer<Cliente> consumer);
+    long count();
+    /** Quantidade de clientes por dia de cadastro no fuso informado; clientes sem data ficam de fora. */
+    Map<LocalDate, Long> countPorDiaDeCadastro(ZoneId fuso);
+    /** Quantidade de clientes por domínio do e-mail, em minúsculas. */
+    Map<String, Long> countPorDominioDeEmail();
 }
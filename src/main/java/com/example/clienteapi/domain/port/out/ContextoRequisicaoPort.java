@@ -0,0 +1,22 @@
+package com.example.clienteapi.domain.port.out;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Leva o contexto de uma requisição (identificador de correlação dos logs, roteamento de leitura/escrita) para a
+ * thread que vai processá-la.
+ */
+public interface ContextoRequisicaoPort {
+
+    Contexto capturar();
+
+    /**
+     * Executa a ação com os contextos reunidos: os logs levam a correlação do primeiro e uma escrita confirmada vale
+     * para todos.
+     */
+    <T> T executarCom(List<Contexto> contextos, Supplier<T> acao);
+
+    interface Contexto {
+    }
+}
@@ -2,6 +2,10 @@ package com.example.clienteapi.domain.port.out;
 
 import com.example.clienteapi.domain.model.Cliente;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface EmailServicePort {
-    void sendWelcomeEmail(Cliente cliente);
+    CompletableFuture<Void> sendWelcomeEmail(Cliente cliente);
+    CompletableFuture<Void> sendWelcomeEmails(List<Cliente> clientes);
 }
@@ -0,0 +1,10 @@
+package com.example.clienteapi.domain.port.out;
+
+import com.example.clienteapi.domain.model.Importacao;
+
+import java.util.Optional;
+
+public interface ImportacaoRepositoryPort {
+    Importacao save(Importacao importacao);
+    Optional<Importacao> findById(Long id);
+}
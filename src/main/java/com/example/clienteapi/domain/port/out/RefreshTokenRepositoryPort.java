@@ -0,0 +1,24 @@
+package com.example.clienteapi.domain.port.out;
+
+import com.example.clienteapi.domain.model.RefreshToken;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshTokenRepositoryPort {
+    void save(RefreshToken refreshToken);
+
+    /**
+     * Marca como usado e devolve o token com o hash informado, se ainda não foi usado; entre chamadas concorrentes,
+     * só uma o recebe. O token usado continua guardado até expirar, para que a reutilização seja detectada.
+     */
+    Optional<RefreshToken> consumir(String hash);
+
+    /** Token com o hash informado, usado ou não. */
+    Optional<RefreshToken> findByHash(String hash);
+
+    /** Remove todos os tokens da família, usados ou não. */
+    int revogarFamilia(String familia);
+
+    int removerExpirados(Instant agora);
+}
@@ -0,0 +1,7 @@
+package com.example.clienteapi.domain.port.out;
+
+import com.example.clienteapi.domain.model.TokenRevogado;
+
+public interface TokenRevogadoPublisherPort {
+    void publicar(TokenRevogado tokenRevogado);
+}
@@ -0,0 +1,12 @@
+package com.example.clienteapi.domain.port.out;
+
+import com.example.clienteapi.domain.model.TokenRevogado;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+public interface TokenRevogadoRepositoryPort {
+    void save(TokenRevogado tokenRevogado);
+    void forEachNaoExpirado(Instant agora, Consumer<TokenRevogado> consumer);
+    int removerExpirados(Instant agora);
+}
@@ -0,0 +1,12 @@
+package com.example.clienteapi.domain.port.out;
+
+import com.example.clienteapi.domain.model.Usuario;
+
+import java.util.Optional;
+
+public interface UsuarioRepositoryPort {
+    Usuario save(Usuario usuario);
+    Optional<Usuario> findByUsername(String username);
+    boolean existsByUsername(String username);
+    void atualizarSenha(String username, String senha);
+}
@@ -0,0 +1,56 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.domain.model.AlteracaoCliente;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffer circular com as últimas alterações, em ordem de sequência. Leituras anteriores ao trecho ainda
+ * guardado retornam null para que o chamador recorra à tabela de alterações. Só aceita a sequência seguinte à
+ * última guardada; o que chegar fora de ordem é ignorado e fica para ser lido da tabela.
+ */
+class AlteracoesRecentes {
+
+    private final AlteracaoCliente[] buffer;
+    private final int mask;
+    private long primeira = 1;
+    private long proxima = 1;
+
+    AlteracoesRecentes(int capacidade) {
+        int tamanho = Integer.highestOneBit(Math.max(2, capacidade) * 2 - 1);
+        this.buffer = new AlteracaoCliente[tamanho];
+        this.mask = tamanho - 1;
+    }
+
+    synchronized void reiniciar(long ultimaSequencia) {
+        primeira = ultimaSequencia + 1;
+        proxima = ultimaSequencia + 1;
+    }
+
+    synchronized long ultima() {
+        return proxima - 1;
+    }
+
+    synchronized void adicionar(AlteracaoCliente alteracao) {
+        if (alteracao.getSequencia() != proxima) {
+            return;
+        }
+        buffer[(int) (alteracao.getSequencia() & mask)] = alteracao;
+        proxima = alteracao.getSequencia() + 1;
+        if (proxima - primeira > buffer.length) {
+            primeira = proxima - buffer.length;
+        }
+    }
+
+    synchronized List<AlteracaoCliente> buscarApos(long aposSequencia, int limite) {
+        if (aposSequencia + 1 < primeira) {
+            return null;
+        }
+        List<AlteracaoCliente> resultado = new ArrayList<>(Math.min(limite, (int) Math.max(0, proxima - aposSequencia - 1)));
+        for (long sequencia = aposSequencia + 1; sequencia < proxima && resultado.size() < limite; sequencia++) {
+            resultado.add(buffer[(int) (sequencia & mask)]);
+        }
+        return resultado;
+    }
+}
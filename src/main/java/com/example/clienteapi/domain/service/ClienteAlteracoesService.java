@@ -0,0 +1,120 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.domain.event.ClienteEvent;
+import com.example.clienteapi.domain.model.AlteracaoCliente;
+import com.example.clienteapi.domain.port.in.ClienteAlteracoesServicePort;
+import com.example.clienteapi.domain.port.out.AlteracaoClienteRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Feed de alterações de clientes no estilo outbox: cada {@link ClienteEvent} é gravado na tabela de alterações
+ * dentro da mesma transação que alterou o cliente, logo antes do commit, então uma alteração confirmada nunca se
+ * perde e uma transação desfeita nunca aparece no feed. Depois do commit as alterações entram no buffer de
+ * alterações recentes, de onde os assinantes leem sem ir ao banco; sequências que já saíram do buffer, ou que
+ * foram gravadas por outras instâncias (percebidas consultando {@link #ultimaSequencia()}), são lidas da tabela.
+ */
+@Service
+public class ClienteAlteracoesService implements ClienteAlteracoesServicePort {
+
+    private final AlteracaoClienteRepositoryPort alteracaoClienteRepositoryPort;
+    private final AlteracoesRecentes recentes;
+    private final List<Runnable> notificacoes = new CopyOnWriteArrayList<>();
+    private final AtomicLong ultimaConhecida = new AtomicLong();
+    private volatile boolean inicializado;
+
+    public ClienteAlteracoesService(AlteracaoClienteRepositoryPort alteracaoClienteRepositoryPort,
+                                    @Value("${api.changes.buffer-size:10000}") int bufferSize) {
+        this.alteracaoClienteRepositoryPort = alteracaoClienteRepositoryPort;
+        this.recentes = new AlteracoesRecentes(bufferSize);
+    }
+
+    @EventListener
+    public void registrar(ClienteEvent event) {
+        AlteracaoCliente alteracao = new AlteracaoCliente(0L, event.getTipo(), event.getCliente(), event.getOcorridoEm());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publicar(alteracaoClienteRepositoryPort.acrescentar(List.of(alteracao)));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<AlteracaoCliente> pendentes = (List<AlteracaoCliente>) TransactionSynchronizationManager.getResource(this);
+        if (pendentes == null) {
+            List<AlteracaoCliente> novas = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, novas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private List<AlteracaoCliente> gravadas = List.of();
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    gravadas = alteracaoClienteRepositoryPort.acrescentar(novas);
+                }
+
+                @Override
+                public void afterCommit() {
+                    publicar(gravadas);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(ClienteAlteracoesService.this);
+                }
+            });
+            pendentes = novas;
+        }
+        pendentes.add(alteracao);
+    }
+
+    @Override
+    public List<AlteracaoCliente> buscarAlteracoes(long aposSequencia, int limite) {
+        inicializar();
+        List<AlteracaoCliente> alteracoes = recentes.buscarApos(aposSequencia, limite);
+        if (alteracoes != null && alteracoes.size() < limite && ultimaConhecida.get() > recentes.ultima()) {
+            alteracaoClienteRepositoryPort.findAfter(recentes.ultima(), limite).forEach(recentes::adicionar);
+            alteracoes = recentes.buscarApos(aposSequencia, limite);
+        }
+        return alteracoes != null ? alteracoes : alteracaoClienteRepositoryPort.findAfter(aposSequencia, limite);
+    }
+
+    @Override
+    public long ultimaSequencia() {
+        long ultima = alteracaoClienteRepositoryPort.findMaxSequencia();
+        ultimaConhecida.accumulateAndGet(ultima, Math::max);
+        return ultima;
+    }
+
+    @Override
+    public void aoRegistrar(Runnable notificacao) {
+        notificacoes.add(notificacao);
+    }
+
+    private void inicializar() {
+        if (inicializado) {
+            return;
+        }
+        synchronized (this) {
+            if (!inicializado) {
+                recentes.reiniciar(ultimaSequencia());
+                inicializado = true;
+            }
+        }
+    }
+
+    private void publicar(List<AlteracaoCliente> gravadas) {
+        if (gravadas.isEmpty()) {
+            return;
+        }
+        gravadas.forEach(recentes::adicionar);
+        ultimaConhecida.accumulateAndGet(gravadas.get(gravadas.size() - 1).getSequencia(), Math::max);
+        for (Runnable notificacao : notificacoes) {
+            notificacao.run();
+        }
+    }
+}
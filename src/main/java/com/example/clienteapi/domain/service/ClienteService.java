@@ -1,58 +1,139 @@
 package com.example.clienteapi.domain.service;
 
+import com.example.clienteapi.domain.event.ClienteEvent;
 import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.ClienteCampo;
+import com.example.clienteapi.domain.model.ClienteFiltro;
 import com.example.clienteapi.domain.port.in.ClienteServicePort;
+import com.example.clienteapi.domain.port.out.ClienteEventPublisherPort;
+import com.example.clienteapi.domain.port.out.ClienteReadModelPort;
 import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
 import com.example.clienteapi.domain.port.out.EmailServicePort;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ClienteService implements ClienteServicePort {
 
     private final ClienteRepositoryPort clienteRepositoryPort;
     private final EmailServicePort emailServicePort;
+    private final ClienteEventPublisherPort clienteEventPublisherPort;
+    private final ClienteReadModelPort clienteReadModelPort;
 
-    public ClienteService(ClienteRepositoryPort clienteRepositoryPort, EmailServicePort emailServicePort) {
+    public ClienteService(ClienteRepositoryPort clienteRepositoryPort, EmailServicePort emailServicePort,
+                          ClienteEventPublisherPort clienteEventPublisherPort, ClienteReadModelPort clienteReadModelPort) {
         this.clienteRepositoryPort = clienteRepositoryPort;
         this.emailServicePort = emailServicePort;
+        this.clienteEventPublisherPort = clienteEventPublisherPort;
+        this.clienteReadModelPort = clienteReadModelPort;
     }
 
     @Override
+    @Transactional
     public Cliente criarCliente(Cliente cliente) {
         if (clienteRepositoryPort.existsByEmail(cliente.getEmail())) {
             throw new IllegalArgumentException("Email já cadastrado.");
         }
         Cliente savedCliente = clienteRepositoryPort.save(cliente);
         emailServicePort.sendWelcomeEmail(savedCliente);
+        clienteEventPublisherPort.publish(ClienteEvent.criado(savedCliente));
         return savedCliente;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Cliente> buscarClientePorId(Long id) {
+        if (clienteReadModelPort.isReady()) {
+            return clienteReadModelPort.findById(id);
+        }
         return clienteRepositoryPort.findById(id);
     }
 
+    /**
+     * Busca vários clientes de uma vez, na ordem dos ids informados e sem repetições; ids inexistentes são omitidos.
+     * Os encontrados no modelo de leitura não vão ao banco, que só recebe os ids que faltaram.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Cliente> buscarClientesPorIds(Collection<Long> ids) {
+        Set<Long> distintos = new LinkedHashSet<>(ids);
+        Map<Long, Cliente> porId = new HashMap<>();
+        if (clienteReadModelPort.isReady()) {
+            clienteReadModelPort.findAllByIds(distintos).forEach(cliente -> porId.put(cliente.getId(), cliente));
+        }
+        if (porId.size() < distintos.size()) {
+            List<Long> faltantes = distintos.stream().filter(id -> !porId.containsKey(id)).toList();
+            clienteRepositoryPort.findAllByIds(faltantes).forEach(cliente -> porId.put(cliente.getId(), cliente));
+        }
+        List<Cliente> clientes = new ArrayList<>(porId.size());
+        for (Long id : distintos) {
+            Cliente cliente = porId.get(id);
+            if (cliente != null) {
+                clientes.add(cliente);
+            }
+        }
+        return clientes;
+    }
+
     @Override
+    @Transactional(readOnly = true)
     public List<Cliente> buscarTodosClientes() {
+        if (clienteReadModelPort.isReady()) {
+            return clienteReadModelPort.findAll();
+        }
         return clienteRepositoryPort.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Cliente> buscarTodosClientes(Set<ClienteCampo> campos) {
+        if (clienteReadModelPort.isReady()) {
+            return clienteReadModelPort.findAll(campos);
+        }
+        return clienteRepositoryPort.findAll(campos);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Cliente> pesquisarClientes(ClienteFiltro filtro) {
+        if (clienteReadModelPort.isReady()) {
+            return clienteReadModelPort.search(filtro);
+        }
+        return clienteRepositoryPort.search(filtro);
+    }
+
+    @Override
+    @Transactional
     public Cliente atualizarCliente(Long id, Cliente cliente) {
-        return clienteRepositoryPort.findById(id)
-                .map(existingCliente -> {
-                    existingCliente.setNome(cliente.getNome());
-                    existingCliente.setEmail(cliente.getEmail());
-                    existingCliente.setCpf(cliente.getCpf());
-                    return clienteRepositoryPort.save(existingCliente);
-                })
+        Cliente existingCliente = clienteRepositoryPort.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Cliente não encontrado com ID: " + id));
+        String emailAnterior = existingCliente.getEmail();
+        if (cliente.getEmail() != null && !cliente.getEmail().equals(emailAnterior)
+                && clienteRepositoryPort.existsByEmail(cliente.getEmail())) {
+            throw new IllegalArgumentException("Email já cadastrado.");
+        }
+        existingCliente.setNome(cliente.getNome());
+        existingCliente.setEmail(cliente.getEmail());
+        existingCliente.setCpf(cliente.getCpf());
+        Cliente updatedCliente = clienteRepositoryPort.save(existingCliente);
+        clienteEventPublisherPort.publish(ClienteEvent.atualizado(updatedCliente, emailAnterior));
+        return updatedCliente;
     }
 
     @Override
+    @Transactional
     public void deletarCliente(Long id) {
+        Cliente cliente = clienteRepositoryPort.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Cliente não encontrado com ID: " + id));
         clienteRepositoryPort.deleteById(id);
+        clienteEventPublisherPort.publish(ClienteEvent.removido(cliente));
     }
 }
@@ -0,0 +1,104 @@
+package com.example.clienteapi.domain.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de clientes em {@link LongAdder}: cadastros e remoções simultâneos incrementam células diferentes em vez
+ * de disputar o mesmo valor. Chaves que chegam a zero permanecem no mapa até a próxima reconciliação. O ranking de
+ * domínios fica guardado e só é refeito depois de alguma alteração, selecionando os maiores num heap limitado em vez
+ * de ordenar todos os domínios.
+ */
+final class ContadoresClientes {
+
+    private static final Comparator<Map.Entry<String, Long>> MAIS_FREQUENTE_PRIMEIRO =
+            Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey());
+
+    private final LongAdder total = new LongAdder();
+    private final ConcurrentHashMap<LocalDate, LongAdder> porDia = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> porDominio = new ConcurrentHashMap<>();
+    private final AtomicBoolean dominiosAlterados = new AtomicBoolean(true);
+    private volatile RankingDominios ranking = new RankingDominios(0, List.of());
+
+    static ContadoresClientes de(long total, Map<LocalDate, Long> porDia, Map<String, Long> porDominio) {
+        ContadoresClientes contadores = new ContadoresClientes();
+        contadores.somarTotal(total);
+        porDia.forEach(contadores::somarDia);
+        porDominio.forEach(contadores::somarDominio);
+        return contadores;
+    }
+
+    void somarTotal(long delta) {
+        total.add(delta);
+    }
+
+    void somarDia(LocalDate dia, long delta) {
+        porDia.computeIfAbsent(dia, chave -> new LongAdder()).add(delta);
+    }
+
+    void somarDominio(String dominio, long delta) {
+        porDominio.computeIfAbsent(dominio, chave -> new LongAdder()).add(delta);
+        dominiosAlterados.set(true);
+    }
+
+    void somar(ContadoresClientes outros) {
+        somarTotal(outros.total.sum());
+        outros.porDia.forEach((dia, contador) -> somarDia(dia, contador.sum()));
+        outros.porDominio.forEach((dominio, contador) -> somarDominio(dominio, contador.sum()));
+    }
+
+    long total() {
+        return total.sum();
+    }
+
+    Map<LocalDate, Long> porDia(LocalDate inicio, LocalDate fim) {
+        Map<LocalDate, Long> resultado = new LinkedHashMap<>();
+        for (LocalDate dia = inicio; !dia.isAfter(fim); dia = dia.plusDays(1)) {
+            LongAdder contador = porDia.get(dia);
+            resultado.put(dia, contador == null ? 0L : contador.sum());
+        }
+        return resultado;
+    }
+
+    Map<String, Long> dominiosMaisFrequentes(int limite) {
+        RankingDominios atual = ranking;
+        if (dominiosAlterados.getAndSet(false) || atual.limite() < limite) {
+            int tamanho = Math.max(limite, atual.limite());
+            atual = new RankingDominios(tamanho, maisFrequentes(tamanho));
+            ranking = atual;
+        }
+        Map<String, Long> resultado = new LinkedHashMap<>();
+        atual.dominios().stream()
+                .limit(limite)
+                .forEach(entrada -> resultado.put(entrada.getKey(), entrada.getValue()));
+        return resultado;
+    }
+
+    private List<Map.Entry<String, Long>> maisFrequentes(int limite) {
+        PriorityQueue<Map.Entry<String, Long>> maiores = new PriorityQueue<>(MAIS_FREQUENTE_PRIMEIRO.reversed());
+        porDominio.forEach((dominio, contador) -> {
+            long quantidade = contador.sum();
+            if (quantidade <= 0) {
+                return;
+            }
+            maiores.add(Map.entry(dominio, quantidade));
+            if (maiores.size() > limite) {
+                maiores.poll();
+            }
+        });
+        List<Map.Entry<String, Long>> ordenados = new ArrayList<>(maiores);
+        ordenados.sort(MAIS_FREQUENTE_PRIMEIRO);
+        return ordenados;
+    }
+
+    private record RankingDominios(int limite, List<Map.Entry<String, Long>> dominios) {
+    }
+}
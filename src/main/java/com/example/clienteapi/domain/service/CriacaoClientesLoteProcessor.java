@@ -0,0 +1,63 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.domain.event.ClienteEvent;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.port.out.ClienteEventPublisherPort;
+import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
+import com.example.clienteapi.domain.port.out.EmailServicePort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+public class CriacaoClientesLoteProcessor {
+
+    private final ClienteRepositoryPort clienteRepositoryPort;
+    private final EmailServicePort emailServicePort;
+    private final ClienteEventPublisherPort clienteEventPublisherPort;
+
+    public CriacaoClientesLoteProcessor(ClienteRepositoryPort clienteRepositoryPort, EmailServicePort emailServicePort,
+                                        ClienteEventPublisherPort clienteEventPublisherPort) {
+        this.clienteRepositoryPort = clienteRepositoryPort;
+        this.emailServicePort = emailServicePort;
+        this.clienteEventPublisherPort = clienteEventPublisherPort;
+    }
+
+    /**
+     * Cria os clientes em uma única transação: uma consulta de e-mails existentes e um insert em batch.
+     * Retorna uma lista alinhada à entrada, com null para os clientes cujo e-mail já está cadastrado
+     * (no banco ou em um item anterior do mesmo lote).
+     */
+    @Transactional
+    public List<Cliente> processar(List<Cliente> clientes) {
+        Set<String> emails = new HashSet<>();
+        clientes.forEach(cliente -> emails.add(cliente.getEmail()));
+        Set<String> ocupados = new HashSet<>(clienteRepositoryPort.findExistingEmails(emails));
+
+        Cliente[] resultado = new Cliente[clientes.size()];
+        List<Cliente> novos = new ArrayList<>(clientes.size());
+        List<Integer> posicoes = new ArrayList<>(clientes.size());
+        for (int i = 0; i < clientes.size(); i++) {
+            if (ocupados.add(clientes.get(i).getEmail())) {
+                novos.add(clientes.get(i));
+                posicoes.add(i);
+            }
+        }
+        if (novos.isEmpty()) {
+            return Arrays.asList(resultado);
+        }
+
+        List<Cliente> salvos = clienteRepositoryPort.saveAll(novos);
+        for (int i = 0; i < salvos.size(); i++) {
+            resultado[posicoes.get(i)] = salvos.get(i);
+        }
+        emailServicePort.sendWelcomeEmails(salvos);
+        salvos.forEach(cliente -> clienteEventPublisherPort.publish(ClienteEvent.criado(cliente)));
+        return Arrays.asList(resultado);
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.domain.event.ClienteEvent;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.EstatisticasClientes;
+import com.example.clienteapi.domain.port.in.EstatisticasClientesServicePort;
+import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Estatísticas de clientes servidas de contadores em memória ({@link ContadoresClientes}), ajustados a cada
+ * {@link ClienteEvent} confirmado. Os contadores são montados por consultas de agregação na inicialização e
+ * reconstruídos periodicamente, o que corrige escritas feitas por outras instâncias. Os dias de cadastro são
+ * contados sempre no fuso do {@link Clock}, tanto na reconstrução quanto nos eventos. Eventos que chegam durante a
+ * reconstrução são somados ao resultado dela; um evento confirmado pouco antes da consulta pode ser contado em dobro
+ * até a reconciliação seguinte.
+ */
+@Service
+@Slf4j
+public class EstatisticasClientesService implements EstatisticasClientesServicePort {
+
+    private final ClienteRepositoryPort clienteRepositoryPort;
+    private final Duration intervaloReconciliacao;
+    private final Clock clock;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService scheduler;
+    private volatile ContadoresClientes contadores;
+    private ContadoresClientes duranteReconciliacao;
+    private volatile Instant reconciliadoEm;
+
+    @Autowired
+    public EstatisticasClientesService(ClienteRepositoryPort clienteRepositoryPort,
+                                       @Value("${api.stats.reconcile-interval:10m}") Duration intervaloReconciliacao) {
+        this(clienteRepositoryPort, intervaloReconciliacao, Clock.systemDefaultZone());
+    }
+
+    EstatisticasClientesService(ClienteRepositoryPort clienteRepositoryPort, Duration intervaloReconciliacao, Clock clock) {
+        this.clienteRepositoryPort = clienteRepositoryPort;
+        this.intervaloReconciliacao = intervaloReconciliacao;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cliente-stats-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                reconciliar();
+            } catch (Exception e) {
+                log.warn("Falha ao reconciliar as estatísticas de clientes: {}", e.getMessage());
+            }
+        }, 0, intervaloReconciliacao.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        scheduler.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void registrar(ClienteEvent event) {
+        lock.readLock().lock();
+        try {
+            if (contadores != null) {
+                aplicar(contadores, event);
+            }
+            if (duranteReconciliacao != null) {
+                aplicar(duranteReconciliacao, event);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public EstatisticasClientes consultar(int dias, int dominios) {
+        if (contadores == null) {
+            carregar();
+        }
+        ContadoresClientes atuais = contadores;
+        LocalDate hoje = LocalDate.now(clock);
+        return new EstatisticasClientes(atuais.total(), atuais.porDia(hoje.minusDays(dias - 1L), hoje),
+                atuais.dominiosMaisFrequentes(dominios), reconciliadoEm);
+    }
+
+    synchronized void reconciliar() {
+        long inicio = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            duranteReconciliacao = new ContadoresClientes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ContadoresClientes novos;
+        try {
+            novos = ContadoresClientes.de(clienteRepositoryPort.count(), clienteRepositoryPort.countPorDiaDeCadastro(clock.getZone()),
+                    clienteRepositoryPort.countPorDominioDeEmail());
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                duranteReconciliacao = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            novos.somar(duranteReconciliacao);
+            duranteReconciliacao = null;
+            contadores = novos;
+            reconciliadoEm = clock.instant();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Estatísticas de clientes reconciliadas com {} clientes em {} ms.",
+                novos.total(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    private synchronized void carregar() {
+        if (contadores == null) {
+            reconciliar();
+        }
+    }
+
+    private void aplicar(ContadoresClientes alvo, ClienteEvent event) {
+        Cliente cliente = event.getCliente();
+        switch (event.getTipo()) {
+            case CRIADO -> contar(alvo, cliente, 1);
+            case REMOVIDO -> contar(alvo, cliente, -1);
+            case ATUALIZADO -> {
+                if (event.getEmailAnterior() != null && cliente.getEmail() != null) {
+                    String anterior = Cliente.dominioDoEmail(event.getEmailAnterior());
+                    String atual = Cliente.dominioDoEmail(cliente.getEmail());
+                    if (!anterior.equals(atual)) {
+                        alvo.somarDominio(anterior, -1);
+                        alvo.somarDominio(atual, 1);
+                    }
+                }
+            }
+        }
+    }
+
+    private void contar(ContadoresClientes alvo, Cliente cliente, long delta) {
+        alvo.somarTotal(delta);
+        if (cliente.getCriadoEm() != null) {
+            alvo.somarDia(LocalDate.ofInstant(cliente.getCriadoEm(), clock.getZone()), delta);
+        }
+        if (cliente.getEmail() != null) {
+            alvo.somarDominio(Cliente.dominioDoEmail(cliente.getEmail()), delta);
+        }
+    }
+}
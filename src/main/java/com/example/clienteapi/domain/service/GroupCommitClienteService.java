@@ -0,0 +1,212 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.ClienteCampo;
+import com.example.clienteapi.domain.model.ClienteFiltro;
+import com.example.clienteapi.domain.port.in.ClienteServicePort;
+import com.example.clienteapi.domain.port.out.ContextoRequisicaoPort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Agrupa criações de clientes simultâneas (group commit): uma thread reúne os pedidos por até {@code max-wait}
+ * ou {@code max-batch-size} itens e os grava em uma única transação via {@link CriacaoClientesLoteProcessor}.
+ * Cada chamador continua recebendo o próprio cliente ou a própria exceção. Se o lote falhar inteiro, os itens
+ * são refeitos individualmente para que apenas o pedido com problema receba o erro. Cada pedido leva o contexto da
+ * requisição (correlação dos logs, roteamento de leitura/escrita), que é reinstalado na thread de gravação. Quem
+ * chama espera até {@code timeout}; se a thread de gravação parar, os pedidos pendentes falham e os próximos são
+ * gravados diretamente. As demais operações são delegadas ao {@link ClienteService}.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "api.group-commit.enabled", havingValue = "true")
+@Slf4j
+public class GroupCommitClienteService implements ClienteServicePort {
+
+    private record Pedido(Cliente cliente, CompletableFuture<Cliente> resultado, ContextoRequisicaoPort.Contexto contexto) {
+    }
+
+    private final ClienteService clienteService;
+    private final CriacaoClientesLoteProcessor criacaoClientesLoteProcessor;
+    private final ContextoRequisicaoPort contextoRequisicaoPort;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long timeoutNanos;
+    private final BlockingQueue<Pedido> pedidos;
+    private final DistributionSummary batchSize;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public GroupCommitClienteService(ClienteService clienteService, CriacaoClientesLoteProcessor criacaoClientesLoteProcessor,
+                                     ContextoRequisicaoPort contextoRequisicaoPort, MeterRegistry meterRegistry,
+                                     @Value("${api.group-commit.max-batch-size:64}") int maxBatchSize,
+                                     @Value("${api.group-commit.max-wait:2ms}") Duration maxWait,
+                                     @Value("${api.group-commit.queue-capacity:10000}") int queueCapacity,
+                                     @Value("${api.group-commit.timeout:10s}") Duration timeout) {
+        this.clienteService = clienteService;
+        this.criacaoClientesLoteProcessor = criacaoClientesLoteProcessor;
+        this.contextoRequisicaoPort = contextoRequisicaoPort;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.timeoutNanos = timeout.toNanos();
+        this.pedidos = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = DistributionSummary.builder("cliente.group-commit.batch.size").register(meterRegistry);
+        this.flusher = new Thread(this::executar, "cliente-group-commit");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public Cliente criarCliente(Cliente cliente) {
+        Pedido pedido = new Pedido(cliente, new CompletableFuture<>(), contextoRequisicaoPort.capturar());
+        if (!running || !pedidos.offer(pedido)) {
+            return clienteService.criarCliente(cliente);
+        }
+        // A thread de gravação pode ter parado entre a verificação e o offer, depois de esvaziar a fila.
+        if (!running && pedidos.remove(pedido)) {
+            return clienteService.criarCliente(cliente);
+        }
+        try {
+            return pedido.resultado().get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Tempo esgotado aguardando a gravação do cliente.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando a gravação do cliente.", e);
+        }
+    }
+
+    private void executar() {
+        List<Pedido> lote = new ArrayList<>(maxBatchSize);
+        IllegalStateException motivo = new IllegalStateException("Aplicação em desligamento.");
+        try {
+            while (running) {
+                Pedido primeiro = pedidos.poll(100, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                long prazo = System.nanoTime() + maxWaitNanos;
+                while (lote.size() < maxBatchSize) {
+                    Pedido proximo = pedidos.poll(prazo - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (proximo == null) {
+                        break;
+                    }
+                    lote.add(proximo);
+                }
+                gravar(lote);
+                lote.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error e) {
+            log.error("Thread de gravação em grupo parou; as próximas criações serão gravadas diretamente: {}", e.getMessage(), e);
+            motivo = new IllegalStateException("Falha na gravação em grupo.", e);
+            throw e;
+        } finally {
+            running = false;
+            for (Pedido pedido : lote) {
+                pedido.resultado().completeExceptionally(motivo);
+            }
+            Pedido pendente;
+            while ((pendente = pedidos.poll()) != null) {
+                pendente.resultado().completeExceptionally(motivo);
+            }
+        }
+    }
+
+    private void gravar(List<Pedido> lote) {
+        batchSize.record(lote.size());
+        List<Cliente> salvos;
+        try {
+            salvos = contextoRequisicaoPort.executarCom(lote.stream().map(Pedido::contexto).toList(),
+                    () -> criacaoClientesLoteProcessor.processar(lote.stream().map(Pedido::cliente).toList()));
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar lote de {} clientes; refazendo individualmente: {}", lote.size(), e.getMessage());
+            lote.forEach(this::gravarIndividualmente);
+            return;
+        }
+        for (int i = 0; i < lote.size(); i++) {
+            Cliente salvo = salvos.get(i);
+            if (salvo == null) {
+                lote.get(i).resultado().completeExceptionally(new IllegalArgumentException("Email já cadastrado."));
+            } else {
+                lote.get(i).resultado().complete(salvo);
+            }
+        }
+    }
+
+    private void gravarIndividualmente(Pedido pedido) {
+        try {
+            pedido.resultado().complete(contextoRequisicaoPort.executarCom(List.of(pedido.contexto()),
+                    () -> clienteService.criarCliente(pedido.cliente())));
+        } catch (RuntimeException e) {
+            pedido.resultado().completeExceptionally(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Override
+    public Optional<Cliente> buscarClientePorId(Long id) {
+        return clienteService.buscarClientePorId(id);
+    }
+
+    @Override
+    public List<Cliente> buscarClientesPorIds(Collection<Long> ids) {
+        return clienteService.buscarClientesPorIds(ids);
+    }
+
+    @Override
+    public List<Cliente> buscarTodosClientes() {
+        return clienteService.buscarTodosClientes();
+    }
+
+    @Override
+    public List<Cliente> buscarTodosClientes(Set<ClienteCampo> campos) {
+        return clienteService.buscarTodosClientes(campos);
+    }
+
+    @Override
+    public List<Cliente> pesquisarClientes(ClienteFiltro filtro) {
+        return clienteService.pesquisarClientes(filtro);
+    }
+
+    @Override
+    public Cliente atualizarCliente(Long id, Cliente cliente) {
+        return clienteService.atualizarCliente(id, cliente);
+    }
+
+    @Override
+    public void deletarCliente(Long id) {
+        clienteService.deletarCliente(id);
+    }
+}
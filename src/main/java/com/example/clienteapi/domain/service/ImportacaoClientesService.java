@@ -0,0 +1,75 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.domain.model.Importacao;
+import com.example.clienteapi.domain.model.LinhaImportacao;
+import com.example.clienteapi.domain.port.in.ImportacaoClientesServicePort;
+import com.example.clienteapi.domain.port.out.ImportacaoRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Slf4j
+public class ImportacaoClientesService implements ImportacaoClientesServicePort {
+
+    private final ImportacaoRepositoryPort importacaoRepositoryPort;
+    private final ImportacaoLoteProcessor importacaoLoteProcessor;
+    private final int tamanhoLote;
+
+    public ImportacaoClientesService(ImportacaoRepositoryPort importacaoRepositoryPort, ImportacaoLoteProcessor importacaoLoteProcessor,
+                                     @Value("${api.import.chunk-size:1000}") int tamanhoLote) {
+        this.importacaoRepositoryPort = importacaoRepositoryPort;
+        this.importacaoLoteProcessor = importacaoLoteProcessor;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @Override
+    public Importacao importar(Long importacaoId, Iterator<LinhaImportacao> linhas) {
+        Importacao importacao = importacaoId == null
+                ? importacaoRepositoryPort.save(Importacao.nova())
+                : importacaoRepositoryPort.findById(importacaoId)
+                        .orElseThrow(() -> new IllegalArgumentException("Importação não encontrada com ID: " + importacaoId));
+        if (importacao.getStatus() == Importacao.Status.CONCLUIDA) {
+            return importacao;
+        }
+        importacao.setStatus(Importacao.Status.EM_ANDAMENTO);
+
+        List<LinhaImportacao> lote = new ArrayList<>(tamanhoLote);
+        try {
+            while (linhas.hasNext()) {
+                LinhaImportacao linha = linhas.next();
+                if (linha.getNumero() <= importacao.getLinhasConfirmadas()) {
+                    continue;
+                }
+                lote.add(linha);
+                if (lote.size() == tamanhoLote) {
+                    importacao = importacaoLoteProcessor.processar(importacao, lote);
+                    lote.clear();
+                }
+            }
+            if (!lote.isEmpty()) {
+                importacao = importacaoLoteProcessor.processar(importacao, lote);
+            }
+            importacao.setStatus(Importacao.Status.CONCLUIDA);
+        } catch (RuntimeException e) {
+            log.error("Importação {} interrompida após a linha {}; pode ser retomada: {}",
+                    importacao.getId(), importacao.getLinhasConfirmadas(), e.getMessage(), e);
+            importacao.setStatus(Importacao.Status.FALHOU);
+        } finally {
+            importacao.setAtualizadaEm(Instant.now());
+            importacaoRepositoryPort.save(importacao);
+        }
+        return importacao;
+    }
+
+    @Override
+    public Optional<Importacao> buscarImportacao(Long importacaoId) {
+        return importacaoRepositoryPort.findById(importacaoId);
+    }
+}
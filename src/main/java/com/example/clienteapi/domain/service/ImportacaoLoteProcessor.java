@@ -0,0 +1,72 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.domain.event.ClienteEvent;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.Importacao;
+import com.example.clienteapi.domain.model.LinhaImportacao;
+import com.example.clienteapi.domain.port.out.ClienteEventPublisherPort;
+import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
+import com.example.clienteapi.domain.port.out.EmailServicePort;
+import com.example.clienteapi.domain.port.out.ImportacaoRepositoryPort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class ImportacaoLoteProcessor {
+
+    private final ClienteRepositoryPort clienteRepositoryPort;
+    private final ImportacaoRepositoryPort importacaoRepositoryPort;
+    private final EmailServicePort emailServicePort;
+    private final ClienteEventPublisherPort clienteEventPublisherPort;
+
+    public ImportacaoLoteProcessor(ClienteRepositoryPort clienteRepositoryPort, ImportacaoRepositoryPort importacaoRepositoryPort,
+                                   EmailServicePort emailServicePort, ClienteEventPublisherPort clienteEventPublisherPort) {
+        this.clienteRepositoryPort = clienteRepositoryPort;
+        this.importacaoRepositoryPort = importacaoRepositoryPort;
+        this.emailServicePort = emailServicePort;
+        this.clienteEventPublisherPort = clienteEventPublisherPort;
+    }
+
+    @Transactional
+    public Importacao processar(Importacao importacao, List<LinhaImportacao> lote) {
+        Map<String, Cliente> porEmail = new LinkedHashMap<>();
+        long invalidos = 0;
+        long duplicados = 0;
+        for (LinhaImportacao linha : lote) {
+            if (!linha.isValida()) {
+                invalidos++;
+            } else if (porEmail.putIfAbsent(linha.getCliente().getEmail(), linha.getCliente()) != null) {
+                duplicados++;
+            }
+        }
+
+        Set<String> existentes = clienteRepositoryPort.findExistingEmails(porEmail.keySet());
+        duplicados += existentes.size();
+        porEmail.keySet().removeAll(existentes);
+
+        List<Cliente> salvos = porEmail.isEmpty() ? List.of() : clienteRepositoryPort.saveAll(new ArrayList<>(porEmail.values()));
+
+        Importacao atualizada = importacaoRepositoryPort.save(new Importacao(
+                importacao.getId(),
+                importacao.getStatus(),
+                lote.get(lote.size() - 1).getNumero(),
+                importacao.getImportados() + salvos.size(),
+                importacao.getDuplicados() + duplicados,
+                importacao.getInvalidos() + invalidos,
+                importacao.getIniciadaEm(),
+                Instant.now()));
+
+        if (!salvos.isEmpty()) {
+            emailServicePort.sendWelcomeEmails(salvos);
+            salvos.forEach(cliente -> clienteEventPublisherPort.publish(ClienteEvent.criado(cliente)));
+        }
+        return atualizada;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.domain.model.RefreshToken;
+import com.example.clienteapi.domain.port.out.RefreshTokenRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Emite e rotaciona refresh tokens opacos. Cada token vale uma única renovação: {@link #consumir(String)} o marca
+ * como usado, e quem renova recebe um novo da mesma família ({@link #rotacionar(RefreshToken)}). Um token usado
+ * que volta a ser apresentado indica que foi copiado, então a família inteira é revogada e o login precisa ser
+ * refeito. Renovar custa um hash SHA-256 e uma consulta por chave, em vez da verificação BCrypt do login.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TAMANHO_BYTES = 32;
+    private static final int FAMILIA_BYTES = 16;
+    private static final long INTERVALO_LIMPEZA_MS = Duration.ofMinutes(1).toMillis();
+
+    private final RefreshTokenRepositoryPort refreshTokenRepositoryPort;
+    private final Duration validade;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+    private final AtomicLong ultimaLimpeza = new AtomicLong();
+
+    @Autowired
+    public RefreshTokenService(RefreshTokenRepositoryPort refreshTokenRepositoryPort,
+                               @Value("${api.jwt.refresh-expiration:604800000}") long validadeMs) {
+        this(refreshTokenRepositoryPort, Duration.ofMillis(validadeMs), Clock.systemUTC());
+    }
+
+    RefreshTokenService(RefreshTokenRepositoryPort refreshTokenRepositoryPort, Duration validade, Clock clock) {
+        this.refreshTokenRepositoryPort = refreshTokenRepositoryPort;
+        this.validade = validade;
+        this.clock = clock;
+    }
+
+    /** Emite o primeiro token de um login, em uma família nova. */
+    public String emitir(String username) {
+        return emitir(username, aleatorio(FAMILIA_BYTES));
+    }
+
+    /** Emite o sucessor de um token consumido, na mesma família. */
+    public String rotacionar(RefreshToken consumido) {
+        return emitir(consumido.getUsername(), consumido.getFamilia());
+    }
+
+    /**
+     * Marca o token como usado e o devolve, ou vazio se o token não existe, já foi usado ou expirou. Se já foi usado,
+     * revoga também todos os tokens da família.
+     */
+    public Optional<RefreshToken> consumir(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        Instant agora = clock.instant();
+        String hash = hash(token);
+        Optional<RefreshToken> consumido = refreshTokenRepositoryPort.consumir(hash);
+        if (consumido.isEmpty()) {
+            refreshTokenRepositoryPort.findByHash(hash).ifPresent(reutilizado -> {
+                int revogados = refreshTokenRepositoryPort.revogarFamilia(reutilizado.getFamilia());
+                log.warn("Refresh token já usado reapresentado para o usuário {}; {} tokens da família revogados.",
+                        reutilizado.getUsername(), revogados);
+            });
+            return Optional.empty();
+        }
+        return consumido.filter(refreshToken -> refreshToken.getExpiraEm().isAfter(agora));
+    }
+
+    /** Revoga o token e os demais da sua família, encerrando o login que o emitiu. */
+    public void revogar(String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+        refreshTokenRepositoryPort.findByHash(hash(token))
+                .ifPresent(refreshToken -> refreshTokenRepositoryPort.revogarFamilia(refreshToken.getFamilia()));
+    }
+
+    private String emitir(String username, String familia) {
+        String token = aleatorio(TAMANHO_BYTES);
+        Instant agora = clock.instant();
+        refreshTokenRepositoryPort.save(new RefreshToken(hash(token), username, familia, agora.plus(validade)));
+        limparExpiradosSeNecessario(agora);
+        return token;
+    }
+
+    private String aleatorio(int tamanhoBytes) {
+        byte[] bytes = new byte[tamanhoBytes];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private void limparExpiradosSeNecessario(Instant agora) {
+        long anterior = ultimaLimpeza.get();
+        if (agora.toEpochMilli() - anterior < INTERVALO_LIMPEZA_MS || !ultimaLimpeza.compareAndSet(anterior, agora.toEpochMilli())) {
+            return;
+        }
+        int removidos = refreshTokenRepositoryPort.removerExpirados(agora);
+        if (removidos > 0) {
+            log.debug("{} refresh tokens expirados removidos.", removidos);
+        }
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.domain.model.TokenRevogado;
+import com.example.clienteapi.domain.port.out.TokenRevogadoPublisherPort;
+import com.example.clienteapi.domain.port.out.TokenRevogadoRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lista de access tokens revogados. A verificação feita a cada requisição é só memória ({@link TokensRevogados});
+ * as revogações são gravadas no {@link TokenRevogadoRepositoryPort}, recarregado quando a aplicação fica pronta (e não
+ * durante o refresh do contexto, que roda sem banco no treino do CDS), e enviadas às demais instâncias pelo
+ * {@link TokenRevogadoPublisherPort}.
+ */
+@Service
+@Slf4j
+public class RevogacaoTokenService {
+
+    private static final long INTERVALO_LIMPEZA_MS = Duration.ofHours(1).toMillis();
+
+    private final TokenRevogadoRepositoryPort tokenRevogadoRepositoryPort;
+    private final TokenRevogadoPublisherPort tokenRevogadoPublisherPort;
+    private final Clock clock;
+    private final TokensRevogados revogados = new TokensRevogados();
+    private final AtomicLong ultimaLimpeza = new AtomicLong();
+
+    @Autowired
+    public RevogacaoTokenService(TokenRevogadoRepositoryPort tokenRevogadoRepositoryPort,
+                                 TokenRevogadoPublisherPort tokenRevogadoPublisherPort) {
+        this(tokenRevogadoRepositoryPort, tokenRevogadoPublisherPort, Clock.systemUTC());
+    }
+
+    RevogacaoTokenService(TokenRevogadoRepositoryPort tokenRevogadoRepositoryPort,
+                          TokenRevogadoPublisherPort tokenRevogadoPublisherPort, Clock clock) {
+        this.tokenRevogadoRepositoryPort = tokenRevogadoRepositoryPort;
+        this.tokenRevogadoPublisherPort = tokenRevogadoPublisherPort;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        long agora = clock.instant().getEpochSecond();
+        try {
+            tokenRevogadoRepositoryPort.forEachNaoExpirado(clock.instant(),
+                    token -> revogados.adicionar(token.getJti(), token.getExpiraEm().getEpochSecond(), agora));
+            log.info("{} tokens revogados carregados.", revogados.tamanho());
+        } catch (RuntimeException e) {
+            log.error("Falha ao carregar os tokens revogados; valem apenas as revogações recebidas a partir de agora: {}",
+                    e.getMessage(), e);
+        }
+    }
+
+    public void revogar(long jti, Instant expiraEm) {
+        Instant agora = clock.instant();
+        if (!revogados.adicionar(jti, expiraEm.getEpochSecond(), agora.getEpochSecond())) {
+            return;
+        }
+        TokenRevogado tokenRevogado = new TokenRevogado(jti, expiraEm);
+        tokenRevogadoRepositoryPort.save(tokenRevogado);
+        tokenRevogadoPublisherPort.publicar(tokenRevogado);
+        removerExpiradosSeNecessario(agora);
+    }
+
+    /** Aplica uma revogação feita em outra instância, já gravada por ela. */
+    public void aplicar(TokenRevogado tokenRevogado) {
+        revogados.adicionar(tokenRevogado.getJti(), tokenRevogado.getExpiraEm().getEpochSecond(), clock.instant().getEpochSecond());
+    }
+
+    public boolean isRevogado(long jti, long expiraEmSegundos) {
+        return revogados.contem(jti, expiraEmSegundos, clock.millis() / 1000);
+    }
+
+    private void removerExpiradosSeNecessario(Instant agora) {
+        long anterior = ultimaLimpeza.get();
+        if (agora.toEpochMilli() - anterior < INTERVALO_LIMPEZA_MS || !ultimaLimpeza.compareAndSet(anterior, agora.toEpochMilli())) {
+            return;
+        }
+        int removidos = tokenRevogadoRepositoryPort.removerExpirados(agora);
+        if (removidos > 0) {
+            log.debug("{} tokens revogados expirados removidos.", removidos);
+        }
+    }
+}
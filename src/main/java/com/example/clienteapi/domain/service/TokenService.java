@@ -1,49 +1,89 @@
 package com.example.clienteapi.domain.service;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 public class TokenService {
 
+    /** Claim com as authorities do usuário, para autenticar as requisições sem consultar o cadastro de usuários. */
+    public static final String ROLES_CLAIM = "roles";
+
     @Value("${api.jwt.secret}")
     private String secret;
 
     @Value("${api.jwt.expiration}")
     private long expiration;
 
+    private SecretKey secretKey;
+
+    @PostConstruct
+    void init() {
+        secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
     public String gerarToken(Authentication authentication) {
+        return gerarToken(authentication.getName(), authentication.getAuthorities());
+    }
+
+    public String gerarToken(String username, Collection<? extends GrantedAuthority> authorities) {
         Date now = new Date();
         Date expirationDate = new Date(now.getTime() + expiration);
-        SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
 
         return Jwts.builder()
                 .issuer("Cliente API")
-                .subject(authentication.getName())
+                .id(Long.toHexString(ThreadLocalRandom.current().nextLong()))
+                .subject(username)
+                .claim(ROLES_CLAIM, authorities.stream().map(GrantedAuthority::getAuthority).toList())
                 .issuedAt(now)
                 .expiration(expirationDate)
                 .signWith(secretKey)
                 .compact();
     }
 
+    public long getExpiracaoSegundos() {
+        return expiration / 1000;
+    }
+
     public String getSubject(String token) {
-        SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        Claims claims = getClaims(token);
+        return claims == null ? null : claims.getSubject();
+    }
+
+    /** Claims de um token válido, ou null se a assinatura não confere ou o token expirou. */
+    public Claims getClaims(String token) {
         try {
             return Jwts.parser()
                     .verifyWith(secretKey)
                     .build()
                     .parseSignedClaims(token)
-                    .getPayload()
-                    .getSubject();
+                    .getPayload();
         } catch (Exception e) {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /** Valor numérico do claim {@code jti}, usado como chave na lista de tokens revogados. */
+    public static long getJti(Claims claims) {
+        return Long.parseUnsignedLong(claims.getId(), 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<String> getRoles(Claims claims) {
+        Object roles = claims.get(ROLES_CLAIM);
+        return roles instanceof List<?> lista ? (List<String>) lista : null;
+    }
+}
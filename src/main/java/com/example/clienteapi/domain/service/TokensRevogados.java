@@ -0,0 +1,100 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.common.collection.LongHashSet;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Jtis revogados agrupados em baldes pelo minuto em que o token expira. A consulta recebe a expiração do próprio
+ * token e olha um único balde; baldes cujo minuto já passou são descartados inteiros, porque seus tokens já
+ * seriam recusados pela validação da assinatura. Cada balde é um {@link LongHashSet} lido sob leitura otimista.
+ */
+final class TokensRevogados {
+
+    static final long SEGUNDOS_POR_BALDE = 60;
+
+    private final ConcurrentHashMap<Long, Balde> baldes = new ConcurrentHashMap<>();
+    private volatile long proximaLimpeza;
+
+    boolean adicionar(long jti, long expiraEmSegundos, long agoraSegundos) {
+        if (expiraEmSegundos <= agoraSegundos) {
+            return false;
+        }
+        limparSeNecessario(agoraSegundos);
+        return baldes.computeIfAbsent(expiraEmSegundos / SEGUNDOS_POR_BALDE, minuto -> new Balde()).adicionar(jti);
+    }
+
+    boolean contem(long jti, long expiraEmSegundos, long agoraSegundos) {
+        limparSeNecessario(agoraSegundos);
+        Balde balde = baldes.get(expiraEmSegundos / SEGUNDOS_POR_BALDE);
+        return balde != null && balde.contem(jti);
+    }
+
+    int tamanho() {
+        return baldes.values().stream().mapToInt(Balde::tamanho).sum();
+    }
+
+    int quantidadeBaldes() {
+        return baldes.size();
+    }
+
+    long bytesEstimados() {
+        return baldes.values().stream().mapToLong(Balde::bytes).sum();
+    }
+
+    private void limparSeNecessario(long agoraSegundos) {
+        if (agoraSegundos < proximaLimpeza) {
+            return;
+        }
+        proximaLimpeza = agoraSegundos + SEGUNDOS_POR_BALDE;
+        long minutoAtual = agoraSegundos / SEGUNDOS_POR_BALDE;
+        baldes.keySet().removeIf(minuto -> minuto < minutoAtual);
+    }
+
+    private static final class Balde {
+        private final StampedLock lock = new StampedLock();
+        private final LongHashSet jtis = new LongHashSet();
+
+        boolean adicionar(long jti) {
+            long stamp = lock.writeLock();
+            try {
+                return jtis.add(jti);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        boolean contem(long jti) {
+            long stamp = lock.tryOptimisticRead();
+            boolean contem = jtis.contains(jti);
+            if (lock.validate(stamp)) {
+                return contem;
+            }
+            stamp = lock.readLock();
+            try {
+                return jtis.contains(jti);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        int tamanho() {
+            long stamp = lock.readLock();
+            try {
+                return jtis.size();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        long bytes() {
+            long stamp = lock.readLock();
+            try {
+                return jtis.capacityInBytes();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.domain.model.Usuario;
+import com.example.clienteapi.domain.port.out.UsuarioRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Usuários da API vindos do {@link UsuarioRepositoryPort}. Como {@link UserDetailsPasswordService}, recebe do
+ * Spring Security o novo hash da senha sempre que um login bem-sucedido encontra um hash com custo diferente do
+ * configurado.
+ */
+@Service
+@Slf4j
+public class UsuarioService implements UserDetailsService, UserDetailsPasswordService {
+
+    private final UsuarioRepositoryPort usuarioRepositoryPort;
+
+    public UsuarioService(UsuarioRepositoryPort usuarioRepositoryPort) {
+        this.usuarioRepositoryPort = usuarioRepositoryPort;
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) {
+        Usuario usuario = usuarioRepositoryPort.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + username));
+        return User.withUsername(usuario.getUsername())
+                .password(usuario.getSenha())
+                .roles(usuario.getPapeis().toArray(String[]::new))
+                .build();
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        usuarioRepositoryPort.atualizarSenha(user.getUsername(), newPassword);
+        log.info("Hash de senha do usuário {} recalculado com o custo configurado.", user.getUsername());
+        return User.withUserDetails(user).password(newPassword).build();
+    }
+
+    public boolean existe(String username) {
+        return usuarioRepositoryPort.existsByUsername(username);
+    }
+
+    public Usuario criar(Usuario usuario) {
+        return usuarioRepositoryPort.save(usuario);
+    }
+}
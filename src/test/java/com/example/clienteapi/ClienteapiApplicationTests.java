@@ -1,15 +1,37 @@
 package com.example.clienteapi;
 
+import com.example.clienteapi.domain.model.Cliente;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 @ActiveProfiles("test")
 class ClienteapiApplicationTests {
 
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MappingJackson2HttpMessageConverter jsonConverter;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void formatoDoClienteValeApenasNosConversoresHttp() throws Exception {
+		Cliente cliente = new Cliente(1L, "Ana", "ana@example.com", null, Instant.parse("2024-06-01T10:00:00Z"));
+
+		assertThat(jsonConverter.getObjectMapper().writeValueAsString(cliente)).doesNotContain("criadoEm", "cpf");
+		assertThat(objectMapper.writeValueAsString(cliente)).contains("\"criadoEm\"", "\"cpf\":null");
+	}
+
 }
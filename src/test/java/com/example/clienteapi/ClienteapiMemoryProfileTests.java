@@ -0,0 +1,35 @@
+package com.example.clienteapi;
+
+import com.example.clienteapi.adapter.out.memory.InMemoryClienteRepositoryAdapter;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.port.in.ClienteServicePort;
+import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"test", "memory"})
+@DisplayName("Testes de Integração do perfil memory")
+class ClienteapiMemoryProfileTests {
+
+    @Autowired
+    private ClienteServicePort clienteServicePort;
+
+    @Autowired
+    private ClienteRepositoryPort clienteRepositoryPort;
+
+    @Test
+    @DisplayName("Deve subir sem banco de dados e cadastrar clientes no repositório em memória")
+    void deveCadastrarClienteSemBanco() {
+        Cliente criado = clienteServicePort.criarCliente(new Cliente(null, "Memória", "memoria@example.com", "44444444444"));
+
+        assertThat(clienteRepositoryPort).isInstanceOf(InMemoryClienteRepositoryAdapter.class);
+        assertThat(clienteServicePort.buscarClientePorId(criado.getId())).get()
+                .extracting(Cliente::getEmail).isEqualTo("memoria@example.com");
+    }
+}
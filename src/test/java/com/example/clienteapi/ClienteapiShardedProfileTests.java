@@ -0,0 +1,46 @@
+package com.example.clienteapi;
+
+import com.example.clienteapi.adapter.out.sharding.ShardedClienteRepositoryAdapter;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.port.in.ClienteServicePort;
+import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {
+        "api.sharding.shards[0].url=jdbc:h2:mem:clientedb_shard0;DB_CLOSE_DELAY=-1",
+        "api.sharding.shards[0].username=sa",
+        "api.sharding.shards[0].password=",
+        "api.sharding.shards[1].url=jdbc:h2:mem:clientedb_shard1;DB_CLOSE_DELAY=-1",
+        "api.sharding.shards[1].username=sa",
+        "api.sharding.shards[1].password="
+})
+@ActiveProfiles({"test", "sharded"})
+@DisplayName("Testes de Integração do perfil sharded")
+class ClienteapiShardedProfileTests {
+
+    @Autowired
+    private ClienteServicePort clienteServicePort;
+
+    @Autowired
+    private ClienteRepositoryPort clienteRepositoryPort;
+
+    @Test
+    @DisplayName("Deve cadastrar clientes nos shards configurados e recusar e-mail repetido")
+    void deveCadastrarClienteNosShards() {
+        Cliente criado = clienteServicePort.criarCliente(new Cliente(null, "Shard", "shard@example.com", "77777777777"));
+
+        assertThat(clienteRepositoryPort).isInstanceOf(ShardedClienteRepositoryAdapter.class);
+        assertThat(criado.getId()).isGreaterThan(Integer.MAX_VALUE);
+        assertThat(clienteServicePort.buscarClientePorId(criado.getId())).get()
+                .extracting(Cliente::getEmail).isEqualTo("shard@example.com");
+        assertThrows(IllegalArgumentException.class,
+                () -> clienteServicePort.criarCliente(new Cliente(null, "Outro", "shard@example.com", "88888888888")));
+    }
+}
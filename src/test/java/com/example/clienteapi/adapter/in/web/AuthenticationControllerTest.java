@@ -0,0 +1,81 @@
+package com.example.clienteapi.adapter.in.web;
+
+import com.example.clienteapi.domain.service.TokenService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração para login e renovação de tokens")
+class AuthenticationControllerTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Test
+    @DisplayName("Deve renovar o access token com refresh token de uso único, revogar a família na reutilização e manter os papéis")
+    void deveRenovarTokenComRefreshTokenDeUsoUnico() {
+        ResponseEntity<TokenResponse> login = restTemplate.postForEntity("/login",
+                Map.of("username", "admin", "password", "password"), TokenResponse.class);
+        assertThat(login.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String refreshToken = login.getBody().getRefreshToken();
+
+        ResponseEntity<TokenResponse> renovado = restTemplate.postForEntity("/login/refresh",
+                Map.of("refreshToken", refreshToken), TokenResponse.class);
+        ResponseEntity<TokenResponse> reutilizado = restTemplate.postForEntity("/login/refresh",
+                Map.of("refreshToken", refreshToken), TokenResponse.class);
+
+        assertThat(renovado.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(renovado.getBody().getRefreshToken()).isNotEqualTo(refreshToken);
+        assertThat(renovado.getBody().getExpiresIn()).isEqualTo(tokenService.getExpiracaoSegundos());
+        assertThat(TokenService.getRoles(tokenService.getClaims(renovado.getBody().getToken()))).containsExactly("ROLE_ADMIN");
+        assertThat(reutilizado.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(restTemplate.postForEntity("/login/refresh", Map.of("refreshToken", renovado.getBody().getRefreshToken()),
+                TokenResponse.class).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(renovado.getBody().getToken());
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<String> atualizacao = restTemplate.exchange("/clientes/987654321", HttpMethod.PUT, new HttpEntity<>(
+                Map.of("nome", "Inexistente", "email", "inexistente@example.com", "cpf", "12345678901"), headers), String.class);
+        assertThat(atualizacao.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Deve revogar o access token e o refresh token no logout")
+    void deveRevogarTokensNoLogout() {
+        ResponseEntity<TokenResponse> login = restTemplate.postForEntity("/login",
+                Map.of("username", "admin", "password", "password"), TokenResponse.class);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(login.getBody().getToken());
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<Void> logout = restTemplate.exchange("/logout", HttpMethod.POST,
+                new HttpEntity<>(Map.of("refreshToken", login.getBody().getRefreshToken()), headers), Void.class);
+        ResponseEntity<String> atualizacao = restTemplate.exchange("/clientes/987654321", HttpMethod.PUT, new HttpEntity<>(
+                Map.of("nome", "Inexistente", "email", "inexistente@example.com", "cpf", "12345678901"), headers), String.class);
+        ResponseEntity<TokenResponse> renovacao = restTemplate.postForEntity("/login/refresh",
+                Map.of("refreshToken", login.getBody().getRefreshToken()), TokenResponse.class);
+
+        assertThat(logout.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(atualizacao.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(renovacao.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.clienteapi.adapter.in.web;
+
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.port.in.ClienteAlteracoesServicePort;
+import com.example.clienteapi.domain.port.in.ClienteServicePort;
+import com.example.clienteapi.domain.service.TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração para o feed de alterações de clientes")
+class ClienteAlteracoesControllerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ClienteServicePort clienteServicePort;
+
+    @Autowired
+    private ClienteAlteracoesServicePort clienteAlteracoesServicePort;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = tokenService.gerarToken("admin", List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+    }
+
+    @Test
+    @DisplayName("Deve transmitir as alterações via SSE e permitir retomar a partir de uma sequência")
+    void deveTransmitirERetomarAlteracoes() throws Exception {
+        long inicio = clienteAlteracoesServicePort.ultimaSequencia();
+        Cliente criado = clienteServicePort.criarCliente(new Cliente(null, "Feed Um", "feed.um@example.com", "52998224725"));
+        clienteServicePort.atualizarCliente(criado.getId(),
+                new Cliente(null, "Feed Um Atualizado", "feed.um@example.com", "52998224725"));
+
+        List<String> eventos = lerEventos("/clientes/changes?since=" + inicio, 2, "feed.um@example.com");
+        assertThat(eventos.get(0)).contains("event:CRIADO", "\"nome\":\"Feed Um\"");
+        assertThat(eventos.get(1)).contains("event:ATUALIZADO", "\"nome\":\"Feed Um Atualizado\"");
+        long ultima = sequencia(eventos.get(1));
+        assertThat(ultima).isGreaterThan(sequencia(eventos.get(0)));
+        assertThat(eventos.get(1)).contains("\"sequencia\":" + ultima);
+
+        CompletableFuture<List<String>> novos = CompletableFuture.supplyAsync(
+                () -> lerEventos("/clientes/changes?since=" + ultima, 1, "feed.um@example.com"));
+        Thread.sleep(300);
+        clienteServicePort.deletarCliente(criado.getId());
+        String remocao = novos.get(10, TimeUnit.SECONDS).get(0);
+        assertThat(remocao).contains("event:REMOVIDO");
+        assertThat(sequencia(remocao)).isGreaterThan(ultima);
+    }
+
+    @Test
+    @DisplayName("Deve exigir autenticação para acompanhar as alterações")
+    void deveExigirAutenticacao() throws Exception {
+        HttpResponse<Void> resposta = httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/clientes/changes"))
+                .header("Accept", "text/event-stream")
+                .build(), HttpResponse.BodyHandlers.discarding());
+
+        assertThat(resposta.statusCode()).isEqualTo(403);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar sequência inválida no cabeçalho Last-Event-ID")
+    void deveRejeitarLastEventIdInvalido() throws Exception {
+        HttpResponse<Void> resposta = httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/clientes/changes"))
+                .header("Accept", "text/event-stream")
+                .header("Last-Event-ID", "abc")
+                .header("Authorization", "Bearer " + token)
+                .build(), HttpResponse.BodyHandlers.discarding());
+
+        assertThat(resposta.statusCode()).isEqualTo(400);
+    }
+
+    private static long sequencia(String evento) {
+        int inicio = evento.indexOf("id:") + 3;
+        return Long.parseLong(evento.substring(inicio, evento.indexOf('\n', inicio)).trim());
+    }
+
+    private List<String> lerEventos(String caminho, int quantidade, String filtro) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + caminho))
+                .header("Accept", "text/event-stream")
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(10))
+                .build();
+        try {
+            HttpResponse<Stream<String>> resposta = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+            assertThat(resposta.statusCode()).isEqualTo(200);
+            List<String> eventos = new ArrayList<>();
+            StringBuilder atual = new StringBuilder();
+            try (Stream<String> linhas = resposta.body()) {
+                Iterator<String> iterator = linhas.iterator();
+                while (eventos.size() < quantidade && iterator.hasNext()) {
+                    String linha = iterator.next();
+                    if (linha.isEmpty()) {
+                        if (atual.indexOf("id:") >= 0 && atual.indexOf(filtro) >= 0) {
+                            eventos.add(atual.toString());
+                        }
+                        atual.setLength(0);
+                    } else {
+                        atual.append(linha).append('\n');
+                    }
+                }
+            }
+            return eventos;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
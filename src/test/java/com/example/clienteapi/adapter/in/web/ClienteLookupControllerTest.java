@@ -0,0 +1,62 @@
+package com.example.clienteapi.adapter.in.web;
+
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.port.in.ClienteServicePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração para a busca de vários clientes por ID")
+class ClienteLookupControllerTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ClienteServicePort clienteServicePort;
+
+    @Test
+    @DisplayName("Deve devolver os clientes na ordem pedida e listar os IDs não encontrados, via GET e POST")
+    void deveBuscarVariosClientesPorId() {
+        Cliente ana = clienteServicePort.criarCliente(new Cliente(null, "Lookup Ana", "lookup.ana@example.com", "39053344705"));
+        Cliente bia = clienteServicePort.criarCliente(new Cliente(null, "Lookup Bia", "lookup.bia@example.com", "11144477735"));
+        long inexistente = bia.getId() + 1_000_000;
+
+        ResponseEntity<ClienteLookupResponse> porGet = restTemplate.getForEntity(
+                "/clientes?ids={ids}", ClienteLookupResponse.class, bia.getId() + "," + inexistente + "," + ana.getId());
+        ResponseEntity<ClienteLookupResponse> porPost = restTemplate.postForEntity(
+                "/clientes/lookup", Map.of("ids", new long[]{bia.getId(), inexistente, ana.getId(), bia.getId()}),
+                ClienteLookupResponse.class);
+
+        for (ResponseEntity<ClienteLookupResponse> resposta : List.of(porGet, porPost)) {
+            assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(resposta.getBody().getClientes()).extracting(ClienteResponse::getEmail)
+                    .containsExactly("lookup.bia@example.com", "lookup.ana@example.com");
+            assertThat(resposta.getBody().getNaoEncontrados()).containsExactly(inexistente);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lista de IDs vazia ou acima do limite")
+    void deveRejeitarListaDeIdsInvalida() {
+        ResponseEntity<String> vazia = restTemplate.postForEntity("/clientes/lookup", Map.of("ids", new long[0]), String.class);
+        ResponseEntity<String> excedente = restTemplate.postForEntity("/clientes/lookup",
+                Map.of("ids", Collections.nCopies(ClienteLookupRequest.MAXIMO_IDS + 1, 1L)), String.class);
+
+        assertThat(vazia.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(excedente.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.clienteapi.adapter.in.web;
+
+import com.example.clienteapi.domain.model.LinhaImportacao;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes Unitários para CsvLinhaImportacaoReader")
+class CsvLinhaImportacaoReaderTest {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    @DisplayName("Deve ler registros com BOM, cabeçalho fora de ordem e campos entre aspas")
+    void deveLerRegistrosComAspasECabecalhoForaDeOrdem() {
+        String csv = "\uFEFFemail,cpf,nome\r\n"
+                + "ana@example.com,11111111111,\"Silva, Ana \"\"Aninha\"\"\"\r\n"
+                + "\n"
+                + "bruno@example.com,22222222222,Bruno\n";
+
+        List<LinhaImportacao> linhas = ler(csv);
+
+        assertThat(linhas).hasSize(2);
+        assertThat(linhas.get(0).getNumero()).isEqualTo(1);
+        assertThat(linhas.get(0).getCliente().getNome()).isEqualTo("Silva, Ana \"Aninha\"");
+        assertThat(linhas.get(1).getNumero()).isEqualTo(2);
+        assertThat(linhas.get(1).getCliente().getEmail()).isEqualTo("bruno@example.com");
+    }
+
+    @Test
+    @DisplayName("Deve marcar como inválidas as linhas que violam as regras do cadastro")
+    void deveMarcarLinhasInvalidas() {
+        List<LinhaImportacao> linhas = ler("nome,email,cpf\nCarla,email-invalido,123\n,dani@example.com,33333333333\n");
+
+        assertThat(linhas).noneMatch(LinhaImportacao::isValida);
+        assertThat(linhas.get(0).getErro()).isEqualTo("CPF deve ter 11 dígitos; Email inválido");
+        assertThat(linhas.get(1).getErro()).isEqualTo("Nome é obrigatório");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cabeçalho sem as colunas obrigatórias")
+    void deveRejeitarCabecalhoIncompleto() {
+        assertThrows(IllegalArgumentException.class, () -> ler("nome,email\nEva,eva@example.com\n"));
+    }
+
+    private List<LinhaImportacao> ler(String csv) {
+        CsvLinhaImportacaoReader reader = new CsvLinhaImportacaoReader(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), validator);
+        List<LinhaImportacao> linhas = new ArrayList<>();
+        reader.forEachRemaining(linhas::add);
+        return linhas;
+    }
+}
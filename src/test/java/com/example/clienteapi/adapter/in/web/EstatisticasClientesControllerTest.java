@@ -0,0 +1,48 @@
+package com.example.clienteapi.adapter.in.web;
+
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.port.in.ClienteServicePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração para as estatísticas de clientes")
+class EstatisticasClientesControllerTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ClienteServicePort clienteServicePort;
+
+    @Test
+    @DisplayName("Deve refletir cadastros e remoções nas estatísticas sem esperar a reconciliação")
+    void deveRefletirCadastrosERemocoes() {
+        EstatisticasClientesResponse antes = restTemplate.getForObject("/clientes/stats?dias=1&dominios=1000",
+                EstatisticasClientesResponse.class);
+        Cliente ana = clienteServicePort.criarCliente(new Cliente(null, "Stats Ana", "ana@stats.example", "39053344705"));
+        clienteServicePort.criarCliente(new Cliente(null, "Stats Bia", "bia@STATS.example", "11144477735"));
+        clienteServicePort.deletarCliente(ana.getId());
+
+        ResponseEntity<EstatisticasClientesResponse> depois = restTemplate.getForEntity("/clientes/stats?dias=1&dominios=1000",
+                EstatisticasClientesResponse.class);
+
+        assertThat(depois.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(depois.getBody().getTotal()).isEqualTo(antes.getTotal() + 1);
+        assertThat(depois.getBody().getClientesPorDominio()).containsEntry("stats.example", 1L);
+        assertThat(depois.getBody().getCadastrosPorDia()).containsOnlyKeys(LocalDate.now());
+        assertThat(restTemplate.getForEntity("/clientes/stats?dias=0", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
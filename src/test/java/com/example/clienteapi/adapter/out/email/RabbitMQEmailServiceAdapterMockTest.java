@@ -1,22 +1,43 @@
 package com.example.clienteapi.adapter.out.email;
 
 import com.example.clienteapi.config.RabbitMQConfig;
+import com.example.clienteapi.config.logging.CorrelationId;
 import com.example.clienteapi.domain.model.Cliente;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.slf4j.MDC;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
-@SpringBootTest(classes = {RabbitMQEmailServiceAdapter.class, ObjectMapper.class})
+@SpringBootTest(classes = {RabbitMQEmailServiceAdapter.class, ObjectMapper.class, SimpleMeterRegistry.class},
+        properties = "api.email.retry.initial-backoff=10ms")
 @DisplayName("Teste de Unidade/Integração para RabbitMQEmailServiceAdapter (com Mock)")
 class RabbitMQEmailServiceAdapterMockTest {
 
@@ -29,6 +50,9 @@ class RabbitMQEmailServiceAdapterMockTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     @DisplayName("Deve chamar o método 'convertAndSend' do RabbitTemplate com os parâmetros corretos")
     void deveChamarConvertAndSendCorretamente() throws Exception {
@@ -37,7 +61,7 @@ class RabbitMQEmailServiceAdapterMockTest {
 
         String payloadJsonEsperado = objectMapper.writeValueAsString(clienteParaEnvio);
 
-        emailServiceAdapter.sendWelcomeEmail(clienteParaEnvio);
+        emailServiceAdapter.sendWelcomeEmail(clienteParaEnvio).get(5, TimeUnit.SECONDS);
 
         ArgumentCaptor<String> payloadArgumentCaptor = ArgumentCaptor.forClass(String.class);
 
@@ -49,4 +73,81 @@ class RabbitMQEmailServiceAdapterMockTest {
 
         assertThat(payloadArgumentCaptor.getValue()).isEqualTo(payloadJsonEsperado);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve tentar novamente quando o envio para o RabbitMQ falhar temporariamente")
+    void deveTentarNovamenteQuandoEnvioFalhar() throws Exception {
+        Cliente cliente = new Cliente(2L, "Cliente Retry", "retry@example.com", "55544433311");
+        doThrow(new AmqpConnectException(new RuntimeException("broker fora do ar")))
+                .doNothing()
+                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), anyString());
+
+        emailServiceAdapter.sendWelcomeEmail(cliente).get(5, TimeUnit.SECONDS);
+
+        verify(rabbitTemplate, times(2)).convertAndSend(anyString(), anyString(), anyString());
+        assertThat(meterRegistry.counter("email.welcome.retried").count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve concluir com erro e registrar métrica quando todas as tentativas falharem")
+    void deveRegistrarFalhaAposEsgotarTentativas() {
+        Cliente cliente = new Cliente(3L, "Cliente Falha", "falha@example.com", "55544433300");
+        doThrow(new AmqpConnectException(new RuntimeException("broker fora do ar")))
+                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), anyString());
+        double falhasAntes = meterRegistry.counter("email.welcome.failed").count();
+
+        CompletableFuture<Void> envio = emailServiceAdapter.sendWelcomeEmail(cliente);
+
+        assertThrows(ExecutionException.class, () -> envio.get(5, TimeUnit.SECONDS));
+        assertThat(meterRegistry.counter("email.welcome.failed").count()).isEqualTo(falhasAntes + 1);
+    }
+
+    @Test
+    @DisplayName("Deve propagar o correlationId do MDC da requisição como cabeçalho da mensagem")
+    void devePropagarCorrelationId() throws Exception {
+        Cliente cliente = new Cliente(4L, "Cliente Correlação", "correlacao@example.com", "55544433399");
+
+        MDC.put(CorrelationId.MDC_KEY, "req-123");
+        CompletableFuture<Void> envio;
+        try {
+            envio = emailServiceAdapter.sendWelcomeEmail(cliente);
+        } finally {
+            MDC.remove(CorrelationId.MDC_KEY);
+        }
+        envio.get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<MessagePostProcessor> postProcessor = ArgumentCaptor.forClass(MessagePostProcessor.class);
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.EXCHANGE_NAME), eq(RabbitMQConfig.ROUTING_KEY),
+                eq(objectMapper.writeValueAsString(cliente)), postProcessor.capture());
+        Message mensagem = postProcessor.getValue().postProcessMessage(new Message(new byte[0], new MessageProperties()));
+        assertThat((String) mensagem.getMessageProperties().getHeader(CorrelationId.HEADER)).isEqualTo("req-123");
+    }
+
+    @Test
+    @DisplayName("Deve esperar por uma vaga na fila ao enviar um lote em vez de descartá-lo")
+    void deveEsperarVagaParaEnviarLote() throws Exception {
+        RabbitTemplate template = mock(RabbitTemplate.class);
+        CountDownLatch liberar = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            liberar.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(template).convertAndSend(anyString(), anyString(), anyString());
+        RabbitMQEmailServiceAdapter adapter = new RabbitMQEmailServiceAdapter(template, objectMapper, new SimpleMeterRegistry(),
+                1, 1, 1, Duration.ofMillis(10), Duration.ofSeconds(5));
+        try {
+            CompletableFuture<Void> ocupado = adapter.sendWelcomeEmails(List.of(new Cliente(10L, "Ana", "ana@example.com", "11111111111")));
+            CompletableFuture<Void> naFila = adapter.sendWelcomeEmails(List.of(new Cliente(11L, "Bia", "bia@example.com", "22222222222")));
+            CompletableFuture<CompletableFuture<Void>> terceiro = CompletableFuture.supplyAsync(() ->
+                    adapter.sendWelcomeEmails(List.of(new Cliente(12L, "Caio", "caio@example.com", "33333333333"))));
+
+            Thread.sleep(100);
+            assertThat(terceiro).isNotDone();
+            liberar.countDown();
+
+            CompletableFuture.allOf(ocupado, naFila, terceiro.get(5, TimeUnit.SECONDS)).get(5, TimeUnit.SECONDS);
+            verify(template, times(3)).convertAndSend(anyString(), anyString(), anyString());
+        } finally {
+            adapter.shutdown();
+        }
+    }
+}
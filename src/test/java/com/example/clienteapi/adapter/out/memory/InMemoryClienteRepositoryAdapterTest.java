@@ -0,0 +1,148 @@
+package com.example.clienteapi.adapter.out.memory;
+
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.ClienteFiltro;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes Unitários para InMemoryClienteRepositoryAdapter")
+class InMemoryClienteRepositoryAdapterTest {
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    @DisplayName("Deve salvar, atualizar, buscar e remover clientes mantendo os índices")
+    void deveManterIndicesNasOperacoes() {
+        InMemoryClienteRepositoryAdapter repositorio = emMemoria();
+        Cliente ana = repositorio.save(new Cliente(null, "Ana", "ana@example.com", "11111111111"));
+        repositorio.save(new Cliente(null, "Bia", "bia@example.com", "11111111111"));
+
+        repositorio.save(new Cliente(ana.getId(), "Ana Maria", "ana.maria@example.com", "22222222222"));
+
+        assertThat(repositorio.existsByEmail("ana@example.com")).isFalse();
+        assertThat(repositorio.findExistingEmails(List.of("ana.maria@example.com", "ana@example.com")))
+                .containsExactly("ana.maria@example.com");
+        assertThat(repositorio.search(ClienteFiltro.builder().cpf("11111111111").build()))
+                .extracting(Cliente::getNome).containsExactly("Bia");
+        assertThat(repositorio.search(ClienteFiltro.builder().nome("ana").build()))
+                .extracting(Cliente::getEmail).containsExactly("ana.maria@example.com");
+
+        repositorio.deleteById(ana.getId());
+
+        assertThat(repositorio.findById(ana.getId())).isEmpty();
+        assertThat(repositorio.existsByEmail("ana.maria@example.com")).isFalse();
+        assertThat(repositorio.findAll()).extracting(Cliente::getNome).containsExactly("Bia");
+    }
+
+    @Test
+    @DisplayName("Deve permitir apenas um cadastro por e-mail mesmo com gravações simultâneas")
+    void deveGarantirUnicidadeDoEmailComConcorrencia() throws Exception {
+        InMemoryClienteRepositoryAdapter repositorio = emMemoria();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Cliente>> tentativas = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            tentativas.add(executor.submit(() -> repositorio.save(new Cliente(null, "Disputa", "disputa@example.com", "33333333333"))));
+        }
+        int sucessos = 0;
+        for (Future<Cliente> tentativa : tentativas) {
+            try {
+                tentativa.get();
+                sucessos++;
+            } catch (Exception e) {
+                assertThat(e).hasCauseInstanceOf(DuplicateKeyException.class);
+            }
+        }
+        executor.shutdown();
+
+        assertThat(sucessos).isEqualTo(1);
+        assertThat(repositorio.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar, como o adapter JPA, a troca para um e-mail de outro cliente")
+    void deveAceitarEmailDeOutroClienteNaAtualizacao() {
+        InMemoryClienteRepositoryAdapter repositorio = emMemoria();
+        Cliente ana = repositorio.save(new Cliente(null, "Ana", "ana@example.com", "11111111111"));
+        Cliente bia = repositorio.save(new Cliente(null, "Bia", "bia@example.com", "22222222222"));
+
+        repositorio.save(new Cliente(bia.getId(), "Bia", "ana@example.com", "22222222222"));
+
+        assertThat(repositorio.search(ClienteFiltro.builder().email("ana@example.com").build()))
+                .extracting(Cliente::getId).containsExactly(ana.getId(), bia.getId());
+        repositorio.deleteById(ana.getId());
+        assertThat(repositorio.search(ClienteFiltro.builder().email("ana@example.com").build()))
+                .extracting(Cliente::getId).containsExactly(bia.getId());
+        assertThat(repositorio.existsByEmail("bia@example.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve desfazer as escritas de uma transação revertida")
+    void deveDesfazerEscritasNoRollback() {
+        InMemoryClienteRepositoryAdapter repositorio = emMemoria();
+        Cliente ana = repositorio.save(new Cliente(null, "Ana", "ana@example.com", "11111111111"));
+        Cliente bia = repositorio.save(new Cliente(null, "Bia", "bia@example.com", "22222222222"));
+        TransactionTemplate transacao = new TransactionTemplate(new InMemoryTransactionManager());
+
+        assertThrows(IllegalStateException.class, () -> transacao.executeWithoutResult(status -> {
+            repositorio.saveAll(List.of(new Cliente(null, "Caio", "caio@example.com", "33333333333")));
+            repositorio.save(new Cliente(ana.getId(), "Ana Maria", "ana.maria@example.com", "11111111111"));
+            repositorio.deleteById(bia.getId());
+            throw new IllegalStateException("falha no lote");
+        }));
+
+        assertThat(repositorio.findAll()).extracting(Cliente::getNome).containsExactly("Ana", "Bia");
+        assertThat(repositorio.findExistingEmails(List.of("ana@example.com", "bia@example.com", "caio@example.com", "ana.maria@example.com")))
+                .containsExactlyInAnyOrder("ana@example.com", "bia@example.com");
+        assertThat(repositorio.save(new Cliente(null, "Caio", "caio@example.com", "33333333333")).getId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Deve manter os ids do índice ao remover um id ausente")
+    void deveManterIdsAoRemoverIdAusente() {
+        assertThat(InMemoryClienteRepositoryAdapter.remover(new long[]{1, 2, 3}, 9)).containsExactly(1, 2, 3);
+        assertThat(InMemoryClienteRepositoryAdapter.remover(new long[]{1, 2, 3}, 2)).containsExactly(1, 3);
+        assertThat(InMemoryClienteRepositoryAdapter.remover(new long[]{1}, 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve restaurar snapshot e journal após um reinício sem desligamento ordenado")
+    void deveRestaurarAposQueda() {
+        InMemoryClienteRepositoryAdapter antes = duravel();
+        Cliente ana = antes.save(new Cliente(null, "Ana", "ana@example.com", "11111111111"));
+        Cliente bia = antes.save(new Cliente(null, "Bia", "bia@example.com", "22222222222"));
+        antes.save(new Cliente(ana.getId(), "Ana Maria", "ana@example.com", "11111111111"));
+        antes.deleteById(bia.getId());
+
+        InMemoryClienteRepositoryAdapter depois = duravel();
+
+        assertThat(depois.findAll()).extracting(Cliente::getNome).containsExactly("Ana Maria");
+        assertThat(depois.existsByEmail("bia@example.com")).isFalse();
+        assertThat(depois.save(new Cliente(null, "Caio", "caio@example.com", "33333333333")).getId()).isGreaterThan(bia.getId());
+        depois.shutdown();
+
+        assertThat(duravel().findAll()).extracting(Cliente::getNome).containsExactly("Ana Maria", "Caio");
+    }
+
+    private InMemoryClienteRepositoryAdapter emMemoria() {
+        return new InMemoryClienteRepositoryAdapter("", false, DataSize.ofMegabytes(64));
+    }
+
+    private InMemoryClienteRepositoryAdapter duravel() {
+        return new InMemoryClienteRepositoryAdapter(dataDir.toString(), false, DataSize.ofMegabytes(64));
+    }
+}
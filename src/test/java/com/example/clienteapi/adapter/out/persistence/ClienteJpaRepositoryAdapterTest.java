@@ -1,6 +1,13 @@
 package com.example.clienteapi.adapter.out.persistence;
 
+import java.util.Map;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.ClienteCampo;
+import com.example.clienteapi.domain.model.ClienteFiltro;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,10 +16,13 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -89,6 +99,34 @@ class ClienteJpaRepositoryAdapterTest {
         assertThat(clientes).extracting(Cliente::getEmail).contains("a@example.com", "b@example.com");
     }
 
+    @Test
+    @DisplayName("Deve atualizar um cliente existente mantendo a data de cadastro")
+    void deveAtualizarClienteMantendoDataDeCadastro() {
+        Cliente salvo = clienteJpaRepositoryAdapter.save(new Cliente(null, "Antes", "antes@example.com", "10101010101"));
+        Cliente lido = clienteJpaRepositoryAdapter.findById(salvo.getId()).orElseThrow();
+        lido.setNome("Depois");
+        lido.setEmail("depois@example.com");
+
+        clienteJpaRepositoryAdapter.save(lido);
+
+        Cliente atualizado = clienteJpaRepositoryAdapter.findById(salvo.getId()).orElseThrow();
+        assertThat(atualizado.getNome()).isEqualTo("Depois");
+        assertThat(atualizado.getEmail()).isEqualTo("depois@example.com");
+        assertThat(atualizado.getCriadoEm()).isNotNull().isEqualTo(salvo.getCriadoEm());
+        assertThat(clienteJpaRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve falhar ao atualizar um cliente que não existe mais, sem inserir outro")
+    void deveFalharAoAtualizarClienteInexistente() {
+        Cliente removido = new Cliente(999L, "Sumiu", "sumiu@example.com", "12121212121");
+
+        assertThatThrownBy(() -> clienteJpaRepositoryAdapter.save(removido))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("999");
+        assertThat(clienteJpaRepository.count()).isZero();
+    }
+
     @Test
     @DisplayName("Deve deletar um cliente por ID")
     void deveDeletarClientePorId() {
@@ -119,4 +157,168 @@ class ClienteJpaRepositoryAdapterTest {
 
         assertFalse(existe);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve pesquisar clientes por prefixo do nome sem diferenciar maiúsculas e paginar por cursor")
+    void devePesquisarClientesPorPrefixoDoNomeComCursor() {
+        ClienteJpaEntity ana = clienteJpaRepository.save(new ClienteJpaEntity(null, "Ana Souza", "ana@example.com", "77777777771"));
+        ClienteJpaEntity anabela = clienteJpaRepository.save(new ClienteJpaEntity(null, "anabela Lima", "anabela@example.com", "77777777772"));
+        clienteJpaRepository.save(new ClienteJpaEntity(null, "Mariana", "mariana@example.com", "77777777773"));
+
+        List<Cliente> primeiraPagina = clienteJpaRepositoryAdapter.search(
+                ClienteFiltro.builder().nome("ANA").limite(1).build());
+        List<Cliente> segundaPagina = clienteJpaRepositoryAdapter.search(
+                ClienteFiltro.builder().nome("ANA").aposId(ana.getId()).limite(1).build());
+
+        assertThat(primeiraPagina).extracting(Cliente::getId).containsExactly(ana.getId());
+        assertThat(segundaPagina).extracting(Cliente::getId).containsExactly(anabela.getId());
+    }
+
+    @Test
+    @DisplayName("Deve pesquisar clientes por trecho do nome tratando curingas como texto literal")
+    void devePesquisarClientesPorTrechoDoNome() {
+        clienteJpaRepository.save(new ClienteJpaEntity(null, "Mariana", "mariana@example.com", "88888888881"));
+        clienteJpaRepository.save(new ClienteJpaEntity(null, "Ana_Paula", "ana.paula@example.com", "88888888882"));
+
+        List<Cliente> porTrecho = clienteJpaRepositoryAdapter.search(
+                ClienteFiltro.builder().nome("ana").tipoBuscaNome(ClienteFiltro.TipoBuscaNome.CONTEM).build());
+        List<Cliente> comCuringa = clienteJpaRepositoryAdapter.search(
+                ClienteFiltro.builder().nome("a_p").tipoBuscaNome(ClienteFiltro.TipoBuscaNome.CONTEM).build());
+
+        assertThat(porTrecho).extracting(Cliente::getEmail).containsExactly("mariana@example.com", "ana.paula@example.com");
+        assertThat(comCuringa).extracting(Cliente::getEmail).containsExactly("ana.paula@example.com");
+    }
+
+    @Test
+    @DisplayName("Deve pesquisar clientes por e-mail e CPF exatos")
+    void devePesquisarClientesPorEmailECpf() {
+        clienteJpaRepository.save(new ClienteJpaEntity(null, "Exato", "exato@example.com", "99999999991"));
+        clienteJpaRepository.save(new ClienteJpaEntity(null, "Outro", "outro@example.com", "99999999992"));
+
+        List<Cliente> porEmail = clienteJpaRepositoryAdapter.search(ClienteFiltro.builder().email("exato@example.com").build());
+        List<Cliente> porCpf = clienteJpaRepositoryAdapter.search(ClienteFiltro.builder().cpf("99999999992").build());
+
+        assertThat(porEmail).extracting(Cliente::getNome).containsExactly("Exato");
+        assertThat(porCpf).extracting(Cliente::getNome).containsExactly("Outro");
+    }
+
+    @Test
+    @DisplayName("Deve aplicar CPF e nome juntos antes do limite, devolvendo a página cheia")
+    void deveAplicarCpfENomeAntesDoLimite() {
+        clienteJpaRepository.save(new ClienteJpaEntity(null, "Bruno", "bruno1@example.com", "12312312312"));
+        clienteJpaRepository.save(new ClienteJpaEntity(null, "Bruna", "bruna@example.com", "12312312312"));
+        clienteJpaRepository.save(new ClienteJpaEntity(null, "Ana Clara", "ana.clara@example.com", "12312312312"));
+        clienteJpaRepository.save(new ClienteJpaEntity(null, "Ana Lúcia", "ana.lucia@example.com", "12312312312"));
+        clienteJpaRepository.save(new ClienteJpaEntity(null, "Ana Maria", "ana.maria@example.com", "45645645645"));
+
+        List<Cliente> pagina = clienteJpaRepositoryAdapter.search(
+                ClienteFiltro.builder().cpf("12312312312").nome("ana").limite(2).build());
+
+        assertThat(pagina).extracting(Cliente::getNome).containsExactly("Ana Clara", "Ana Lúcia");
+    }
+
+    @Test
+    @DisplayName("Deve paginar a busca por e-mail quando vários clientes compartilham o endereço")
+    void devePaginarBuscaPorEmailRepetido() {
+        Long primeiro = clienteJpaRepository.save(new ClienteJpaEntity(null, "Repetido 1", "repetido@example.com", "88888888881")).getId();
+        clienteJpaRepository.save(new ClienteJpaEntity(null, "Repetido 2", "repetido@example.com", "88888888882"));
+        clienteJpaRepository.save(new ClienteJpaEntity(null, "Repetido 3", "repetido@example.com", "88888888883"));
+
+        List<Cliente> pagina = clienteJpaRepositoryAdapter.search(
+                ClienteFiltro.builder().email("repetido@example.com").aposId(primeiro).limite(1).build());
+
+        assertThat(pagina).extracting(Cliente::getNome).containsExactly("Repetido 2");
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todos os clientes em streaming")
+    void devePercorrerTodosClientesEmStreaming() {
+        clienteJpaRepository.save(new ClienteJpaEntity(null, "Stream A", "stream.a@example.com", "10101010101"));
+        clienteJpaRepository.save(new ClienteJpaEntity(null, "Stream B", "stream.b@example.com", "20202020202"));
+
+        List<Cliente> percorridos = new ArrayList<>();
+        clienteJpaRepositoryAdapter.forEach(percorridos::add);
+
+        assertThat(percorridos).extracting(Cliente::getEmail)
+                .containsExactlyInAnyOrder("stream.a@example.com", "stream.b@example.com");
+    }
+
+    @Test
+    @DisplayName("Deve buscar somente as colunas solicitadas")
+    void deveBuscarSomenteColunasSolicitadas() {
+        clienteJpaRepository.save(new ClienteJpaEntity(null, "Esparso", "esparso@example.com", "30303030303"));
+
+        List<Cliente> clientes = clienteJpaRepositoryAdapter.findAll(EnumSet.of(ClienteCampo.ID, ClienteCampo.EMAIL));
+
+        assertThat(clientes).hasSize(1);
+        assertThat(clientes.get(0).getId()).isNotNull();
+        assertThat(clientes.get(0).getEmail()).isEqualTo("esparso@example.com");
+        assertThat(clientes.get(0).getNome()).isNull();
+        assertThat(clientes.get(0).getCpf()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve inserir clientes em lote retornando os IDs gerados na mesma ordem")
+    void deveInserirClientesEmLote() {
+        List<Cliente> salvos = clienteJpaRepositoryAdapter.saveAll(List.of(
+                new Cliente(null, "Lote Um", "lote.um@example.com", "55555555501"),
+                new Cliente(null, "Lote Dois", "lote.dois@example.com", "55555555502")));
+
+        assertThat(salvos).extracting(Cliente::getEmail).containsExactly("lote.um@example.com", "lote.dois@example.com");
+        assertThat(salvos).allSatisfy(cliente -> assertThat(cliente.getId()).isNotNull());
+        assertThat(clienteJpaRepositoryAdapter.findById(salvos.get(1).getId()))
+                .get().extracting(Cliente::getNome).isEqualTo("Lote Dois");
+    }
+
+    @Test
+    @DisplayName("Deve retornar apenas os e-mails já cadastrados")
+    void deveRetornarEmailsJaCadastrados() {
+        clienteJpaRepositoryAdapter.save(new Cliente(null, "Existente", "existente@example.com", "66666666601"));
+
+        assertThat(clienteJpaRepositoryAdapter.findExistingEmails(List.of("existente@example.com", "novo@example.com")))
+                .containsExactly("existente@example.com");
+    }
+
+    @Test
+    @DisplayName("Deve buscar vários clientes por ID em lotes, ignorando os inexistentes")
+    void deveBuscarVariosClientesPorIdEmLotes() {
+        ClienteJpaEntity primeiro = clienteJpaRepository.save(new ClienteJpaEntity(null, "Lote Um", "lote.um@example.com", "77777777771"));
+        ClienteJpaEntity segundo = clienteJpaRepository.save(new ClienteJpaEntity(null, "Lote Dois", "lote.dois@example.com", "77777777772"));
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1_000_000; id < 1_002_500; id++) {
+            ids.add(id);
+        }
+        ids.add(segundo.getId());
+        ids.add(0, primeiro.getId());
+
+        List<Cliente> encontrados = clienteJpaRepositoryAdapter.findAllByIds(ids);
+
+        assertThat(encontrados).extracting(Cliente::getEmail)
+                .containsExactlyInAnyOrder("lote.um@example.com", "lote.dois@example.com");
+    }
+
+    @Test
+    @DisplayName("Deve contar clientes por dia de cadastro e por domínio de e-mail com consultas de agregação")
+    void deveContarPorDiaEDominio() {
+        clienteJpaRepositoryAdapter.save(new Cliente(null, "Ana", "ana@Contagem.example", "12121212121"));
+        clienteJpaRepositoryAdapter.saveAll(List.of(new Cliente(null, "Bia", "bia@contagem.example", "13131313131"),
+                new Cliente(null, "Caio", "caio@outro.example", "14141414141")));
+
+        assertThat(clienteJpaRepositoryAdapter.count()).isEqualTo(3);
+        assertThat(clienteJpaRepositoryAdapter.countPorDiaDeCadastro(ZoneId.systemDefault())).isEqualTo(Map.of(LocalDate.now(), 3L));
+        assertThat(clienteJpaRepositoryAdapter.countPorDominioDeEmail())
+                .isEqualTo(Map.of("contagem.example", 2L, "outro.example", 1L));
+    }
+
+    @Test
+    @DisplayName("Deve contar os dias de cadastro no fuso informado, independente do fuso da sessão do banco")
+    void deveContarPorDiaNoFusoInformado() {
+        Instant quaseMeiaNoiteUtc = Instant.parse("2024-06-10T23:30:00Z");
+        clienteJpaRepositoryAdapter.saveAll(List.of(new Cliente(null, "Dora", "dora@fuso.example", "15151515151", quaseMeiaNoiteUtc)));
+
+        assertThat(clienteJpaRepositoryAdapter.countPorDiaDeCadastro(ZoneOffset.UTC)).containsEntry(LocalDate.of(2024, 6, 10), 1L);
+        assertThat(clienteJpaRepositoryAdapter.countPorDiaDeCadastro(ZoneOffset.ofHours(3)))
+                .containsEntry(LocalDate.of(2024, 6, 11), 1L)
+                .doesNotContainKey(LocalDate.of(2024, 6, 10));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.clienteapi.adapter.out.persistence;
+
+import com.example.clienteapi.domain.model.ClienteFiltro;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Executa cada busca pelo adapter, captura o SQL que o Hibernate realmente gerou e pede ao PostgreSQL o plano
+ * desse mesmo comando preparado, com os valores ligados aos parâmetros.
+ */
+@DataJpaTest
+@Import({ClienteSearchIndexInitializer.class, ClienteJpaRepositoryAdapter.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Testes de Plano de Execução das buscas de clientes (PostgreSQL)")
+class ClienteSearchQueryPlanTest {
+
+    @Container
+    public static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"));
+
+    @DynamicPropertySource
+    static void dynamicProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector", CapturaSql.class::getName);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClienteJpaRepositoryAdapter clienteJpaRepositoryAdapter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("INSERT INTO clientes (nome, email, cpf) "
+                + "SELECT 'Cliente ' || md5(i::text), 'cliente' || i || '@example.com', lpad(i::text, 11, '0') "
+                + "FROM generate_series(1, 50000) AS i");
+        jdbcTemplate.execute("ANALYZE clientes");
+    }
+
+    @Test
+    @DisplayName("Buscas por e-mail, CPF e nome não devem cair em varredura sequencial")
+    void buscasNaoDevemUsarVarreduraSequencial() {
+        assertThat(planoDaBusca(ClienteFiltro.builder().email("cliente42@example.com").build(),
+                "'cliente42@example.com'", "0", "20"))
+                .doesNotContain("Seq Scan").contains("idx_clientes_email");
+        assertThat(planoDaBusca(ClienteFiltro.builder().cpf("00000000042").build(),
+                "'00000000042'", "0", "20"))
+                .doesNotContain("Seq Scan").contains("idx_clientes_cpf");
+        assertThat(planoDaBusca(ClienteFiltro.builder().nome("Cliente abc").build(),
+                "'cliente abc%'", "0", "20"))
+                .doesNotContain("Seq Scan").contains("idx_clientes_nome_prefixo");
+        assertThat(planoDaBusca(ClienteFiltro.builder().nome("abcd").tipoBuscaNome(ClienteFiltro.TipoBuscaNome.CONTEM).build(),
+                "'%abcd%'", "0", "20"))
+                .doesNotContain("Seq Scan").contains("idx_clientes_nome_trgm");
+    }
+
+    private String planoDaBusca(ClienteFiltro filtro, String... parametros) {
+        CapturaSql.CAPTURADOS.clear();
+        clienteJpaRepositoryAdapter.search(filtro);
+        assertThat(CapturaSql.CAPTURADOS).hasSize(1);
+        String sql = CapturaSql.CAPTURADOS.get(0);
+        assertThat(sql.chars().filter(c -> c == '?').count()).isEqualTo(parametros.length);
+
+        StringBuilder preparado = new StringBuilder();
+        int indice = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                preparado.append('$').append(++indice);
+            } else {
+                preparado.append(c);
+            }
+        }
+        jdbcTemplate.execute("PREPARE busca AS " + preparado);
+        try {
+            String valores = Stream.of(parametros).collect(Collectors.joining(", "));
+            return String.join("\n", jdbcTemplate.queryForList("EXPLAIN EXECUTE busca(" + valores + ")", String.class));
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE busca");
+        }
+    }
+
+    public static class CapturaSql implements StatementInspector {
+
+        static final List<String> CAPTURADOS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.contains("clientes")) {
+                CAPTURADOS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
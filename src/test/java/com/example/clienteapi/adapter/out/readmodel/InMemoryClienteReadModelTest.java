@@ -0,0 +1,159 @@
+package com.example.clienteapi.adapter.out.readmodel;
+
+import com.example.clienteapi.domain.event.ClienteEvent;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.ClienteFiltro;
+import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para InMemoryClienteReadModel")
+class InMemoryClienteReadModelTest {
+
+    @Mock
+    private ClienteRepositoryPort clienteRepositoryPort;
+
+    @Test
+    @DisplayName("Deve ficar pronto após a carga e atender buscas por id, e-mail, CPF e prefixo do nome")
+    void deveAtenderBuscasAposCarga() {
+        InMemoryClienteReadModel readModel = carregado(
+                new Cliente(1L, "Ana Souza", "ana@example.com", "11111111111"),
+                new Cliente(2L, "Bruno", "bruno@example.com", "22222222222"),
+                new Cliente(3L, "anabela", "anabela@example.com", "11111111111"));
+
+        assertThat(readModel.isReady()).isTrue();
+        assertThat(readModel.findById(2L)).map(Cliente::getNome).contains("Bruno");
+        assertThat(readModel.findAll()).extracting(Cliente::getId).containsExactly(1L, 2L, 3L);
+        assertThat(readModel.search(ClienteFiltro.builder().email("bruno@example.com").build()))
+                .extracting(Cliente::getId).containsExactly(2L);
+        assertThat(readModel.search(ClienteFiltro.builder().cpf("11111111111").build()))
+                .extracting(Cliente::getId).containsExactly(1L, 3L);
+        assertThat(readModel.search(ClienteFiltro.builder().nome("ANA").aposId(1L).build()))
+                .extracting(Cliente::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar eventos de atualização e remoção")
+    void deveAplicarEventos() {
+        InMemoryClienteReadModel readModel = carregado(new Cliente(1L, "Ana", "ana@example.com", "11111111111"));
+
+        readModel.aplicar(ClienteEvent.atualizado(new Cliente(1L, "Ana Maria", "ana.maria@example.com", "11111111111")));
+        readModel.aplicar(ClienteEvent.criado(new Cliente(2L, "Bruno", "bruno@example.com", "22222222222")));
+        ClienteEvent remocao = ClienteEvent.removido(new Cliente(2L, "Bruno", "bruno@example.com", "22222222222"));
+        readModel.aplicar(remocao);
+
+        assertThat(readModel.findById(2L)).isEmpty();
+        assertThat(readModel.search(ClienteFiltro.builder().email("ana@example.com").build())).isEmpty();
+        assertThat(readModel.search(ClienteFiltro.builder().email("ana.maria@example.com").build()))
+                .extracting(Cliente::getNome).containsExactly("Ana Maria");
+    }
+
+    @Test
+    @DisplayName("Deve descartar eventos que chegam depois de uma versão mais nova do mesmo cliente")
+    void deveDescartarEventosForaDeOrdem() {
+        InMemoryClienteReadModel readModel = carregado(new Cliente(1L, "Ana", "ana@example.com", "11111111111"));
+        ClienteEvent antigo = ClienteEvent.atualizado(new Cliente(1L, "Ana Antiga", "ana@example.com", "11111111111"));
+        ClienteEvent novo = ClienteEvent.atualizado(new Cliente(1L, "Ana Nova", "ana@example.com", "11111111111"));
+        ClienteEvent criacaoAntiga = ClienteEvent.criado(new Cliente(2L, "Bruno", "bruno@example.com", "22222222222"));
+        ClienteEvent remocao = ClienteEvent.removido(new Cliente(2L, "Bruno", "bruno@example.com", "22222222222"));
+
+        readModel.aplicar(novo);
+        readModel.aplicar(antigo);
+        readModel.aplicar(remocao);
+        readModel.aplicar(criacaoAntiga);
+
+        assertThat(readModel.findById(1L)).map(Cliente::getNome).contains("Ana Nova");
+        assertThat(readModel.findById(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar por e-mail todos os clientes que o compartilham, inclusive depois de um deles mudar")
+    void deveIndexarEmailsCompartilhados() {
+        InMemoryClienteReadModel readModel = carregado(
+                new Cliente(1L, "Ana", "familia@example.com", "11111111111"),
+                new Cliente(2L, "Bruno", "familia@example.com", "22222222222"),
+                new Cliente(3L, "Carla", "familia@example.com", "33333333333"));
+
+        assertThat(readModel.search(ClienteFiltro.builder().email("familia@example.com").build()))
+                .extracting(Cliente::getId).containsExactly(1L, 2L, 3L);
+
+        readModel.aplicar(ClienteEvent.atualizado(new Cliente(2L, "Bruno", "bruno@example.com", "22222222222")));
+
+        assertThat(readModel.search(ClienteFiltro.builder().email("familia@example.com").build()))
+                .extracting(Cliente::getId).containsExactly(1L, 3L);
+        assertThat(readModel.search(ClienteFiltro.builder().email("bruno@example.com").build()))
+                .extracting(Cliente::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Deve remover as lápides expiradas depois da carga")
+    void deveRemoverLapidesExpiradas() {
+        InMemoryClienteReadModel readModel = new InMemoryClienteReadModel(clienteRepositoryPort, true, Duration.ZERO);
+        doAnswer(invocation -> {
+            Consumer<Cliente> consumer = invocation.getArgument(0);
+            consumer.accept(new Cliente(1L, "Ana", "ana@example.com", "11111111111"));
+            consumer.accept(new Cliente(2L, "Bruno", "bruno@example.com", "22222222222"));
+            return null;
+        }).when(clienteRepositoryPort).forEach(any());
+        readModel.carregar();
+
+        readModel.aplicar(ClienteEvent.removido(new Cliente(2L, "Bruno", "bruno@example.com", "22222222222")));
+
+        assertThat(readModel.linhas()).isEqualTo(1);
+        assertThat(readModel.findById(2L)).isEmpty();
+        assertThat(readModel.findAll()).extracting(Cliente::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Deve devolver cópias que não alteram o índice")
+    void deveDevolverCopias() {
+        InMemoryClienteReadModel readModel = carregado(new Cliente(1L, "Ana", "ana@example.com", "11111111111"));
+
+        readModel.findById(1L).orElseThrow().setEmail("outro@example.com");
+        readModel.findAll().get(0).setNome("Outra");
+
+        assertThat(readModel.findById(1L)).map(Cliente::getNome).contains("Ana");
+        assertThat(readModel.search(ClienteFiltro.builder().email("ana@example.com").build()))
+                .extracting(Cliente::getEmail).containsExactly("ana@example.com");
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever com dados da varredura clientes alterados por eventos durante a carga")
+    void eventosDuranteCargaPrevalecemSobreVarredura() {
+        InMemoryClienteReadModel readModel = new InMemoryClienteReadModel(clienteRepositoryPort, true, Duration.ofMinutes(1));
+        doAnswer(invocation -> {
+            Consumer<Cliente> consumer = invocation.getArgument(0);
+            readModel.aplicar(ClienteEvent.removido(new Cliente(1L, "Ana", "ana@example.com", "11111111111")));
+            consumer.accept(new Cliente(1L, "Ana", "ana@example.com", "11111111111"));
+            return null;
+        }).when(clienteRepositoryPort).forEach(any());
+
+        readModel.carregar();
+
+        assertThat(readModel.isReady()).isTrue();
+        assertThat(readModel.findById(1L)).isEmpty();
+    }
+
+    private InMemoryClienteReadModel carregado(Cliente... clientes) {
+        InMemoryClienteReadModel readModel = new InMemoryClienteReadModel(clienteRepositoryPort, true, Duration.ofMinutes(1));
+        doAnswer(invocation -> {
+            Consumer<Cliente> consumer = invocation.getArgument(0);
+            List.of(clientes).forEach(consumer);
+            return null;
+        }).when(clienteRepositoryPort).forEach(any());
+        readModel.carregar();
+        return readModel;
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.clienteapi.adapter.out.sharding;
+
+import java.util.Map;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import com.example.clienteapi.common.id.SnowflakeIdGenerator;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.ClienteFiltro;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes de Integração para ShardedClienteRepositoryAdapter com três bancos H2")
+class ShardedClienteRepositoryAdapterTest {
+
+    private List<DataSource> dataSources;
+    private ShardMap shardMap;
+    private ShardedClienteRepositoryAdapter adapter;
+    private DataSource principal;
+
+    @BeforeEach
+    void setUp() {
+        String prefixo = "shard-" + UUID.randomUUID();
+        dataSources = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            dataSources.add(new DriverManagerDataSource("jdbc:h2:mem:" + prefixo + "-" + i + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        }
+        principal = new DriverManagerDataSource("jdbc:h2:mem:" + prefixo + "-principal;DB_CLOSE_DELAY=-1", "sa", "");
+        shardMap = new ShardMap(16, List.of(List.of("0-3"), List.of("4-9"), List.of("10-15")));
+        adapter = new ShardedClienteRepositoryAdapter(dataSources, shardMap, new SnowflakeIdGenerator(1));
+        adapter.criarEsquema();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSources.forEach(dataSource -> new JdbcTemplate(dataSource).execute("SHUTDOWN"));
+        new JdbcTemplate(principal).execute("SHUTDOWN");
+        adapter.close();
+    }
+
+    @Test
+    @DisplayName("Deve distribuir os clientes entre os shards e listá-los intercalados por id")
+    void deveDistribuirEListarOrdenado() {
+        List<Cliente> salvos = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            salvos.add(adapter.save(new Cliente(null, "Cliente " + i, "cliente" + i + "@example.com", "1111111111" + (i % 2))));
+        }
+
+        assertThat(dataSources).allSatisfy(dataSource ->
+                assertThat(new JdbcTemplate(dataSource).queryForObject("SELECT count(*) FROM clientes", Long.class)).isPositive());
+        assertThat(adapter.findAll()).extracting(Cliente::getId)
+                .isSorted()
+                .containsExactlyElementsOf(salvos.stream().map(Cliente::getId).toList());
+        List<Cliente> percorridos = new ArrayList<>();
+        adapter.forEach(percorridos::add);
+        assertThat(percorridos).containsExactlyElementsOf(adapter.findAll());
+        assertThat(adapter.findById(salvos.get(17).getId())).contains(salvos.get(17));
+        assertThat(adapter.findAllByIds(List.of(salvos.get(3).getId(), -1L, salvos.get(40).getId(), salvos.get(41).getId())))
+                .containsExactlyInAnyOrder(salvos.get(3), salvos.get(40), salvos.get(41));
+    }
+
+    @Test
+    @DisplayName("Deve paginar buscas por CPF e nome entre os shards respeitando o limite")
+    void devePaginarBuscasEntreShards() {
+        for (int i = 0; i < 30; i++) {
+            adapter.save(new Cliente(null, (i % 3 == 0 ? "Ana " : "Bruno ") + i, "busca" + i + "@example.com", "2222222222" + (i % 2)));
+        }
+        ClienteFiltro primeiraPagina = ClienteFiltro.builder().cpf("22222222220").limite(5).build();
+        List<Cliente> pagina = adapter.search(primeiraPagina);
+        List<Cliente> seguinte = adapter.search(ClienteFiltro.builder().cpf("22222222220").limite(20)
+                .aposId(pagina.get(pagina.size() - 1).getId()).build());
+
+        assertThat(pagina).hasSize(5).extracting(Cliente::getId).isSorted();
+        assertThat(seguinte).hasSize(10).allSatisfy(cliente -> assertThat(cliente.getId()).isGreaterThan(pagina.get(4).getId()));
+        assertThat(adapter.search(ClienteFiltro.builder().nome("ana").limite(100).build())).hasSize(10);
+        assertThat(adapter.search(ClienteFiltro.builder().cpf("22222222220").nome("ana").limite(3).build()))
+                .hasSize(3).allSatisfy(cliente -> assertThat(cliente.getNome()).startsWith("Ana"));
+        assertThat(adapter.search(ClienteFiltro.builder().email("busca7@example.com").build()))
+                .extracting(Cliente::getNome).containsExactly("Bruno 7");
+    }
+
+    @Test
+    @DisplayName("Deve garantir e-mail único pelo índice particionado, inclusive em atualizações e remoções")
+    void deveGarantirEmailUnico() {
+        Cliente ana = adapter.save(new Cliente(null, "Ana", "ana@example.com", "33333333333"));
+        adapter.saveAll(List.of(new Cliente(null, "Bia", "bia@example.com", "44444444444"),
+                new Cliente(null, "Caio", "caio@example.com", "55555555555")));
+
+        assertThrows(DuplicateKeyException.class, () -> adapter.save(new Cliente(null, "Outra Ana", "ana@example.com", "66666666666")));
+        assertThat(adapter.findAll()).hasSize(3);
+        assertThat(adapter.findExistingEmails(List.of("ana@example.com", "bia@example.com", "nova@example.com")))
+                .isEqualTo(Set.of("ana@example.com", "bia@example.com"));
+
+        adapter.save(new Cliente(ana.getId(), "Ana", "ana.nova@example.com", "33333333333"));
+        assertThat(adapter.existsByEmail("ana@example.com")).isFalse();
+        assertThat(adapter.existsByEmail("ana.nova@example.com")).isTrue();
+
+        adapter.deleteById(ana.getId());
+        assertThat(adapter.existsByEmail("ana.nova@example.com")).isFalse();
+        assertThat(adapter.findById(ana.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve desfazer nos shards as escritas de uma transação desfeita")
+    void deveDesfazerEscritasQuandoTransacaoEDesfeita() {
+        Cliente ana = adapter.save(new Cliente(null, "Ana", "ana@example.com", "33333333333"));
+        Cliente bia = adapter.save(new Cliente(null, "Bia", "bia@example.com", "44444444444"));
+        TransactionTemplate transacao = new TransactionTemplate(new DataSourceTransactionManager(principal));
+
+        assertThrows(IllegalStateException.class, () -> transacao.executeWithoutResult(status -> {
+            adapter.save(new Cliente(null, "Caio", "caio@example.com", "55555555555"));
+            adapter.saveAll(List.of(new Cliente(null, "Davi", "davi@example.com", "66666666666"),
+                    new Cliente(null, "Eva", "eva@example.com", "77777777777")));
+            adapter.save(new Cliente(ana.getId(), "Ana Nova", "ana.nova@example.com", "33333333333"));
+            adapter.deleteById(bia.getId());
+            throw new IllegalStateException("falha ao publicar o evento");
+        }));
+
+        assertThat(adapter.findAll()).containsExactly(ana, bia);
+        assertThat(adapter.findExistingEmails(List.of("ana@example.com", "ana.nova@example.com", "bia@example.com",
+                "caio@example.com", "davi@example.com", "eva@example.com")))
+                .isEqualTo(Set.of("ana@example.com", "bia@example.com"));
+    }
+
+    @Test
+    @DisplayName("Deve manter nos shards as escritas de uma transação confirmada")
+    void deveManterEscritasQuandoTransacaoEConfirmada() {
+        TransactionTemplate transacao = new TransactionTemplate(new DataSourceTransactionManager(principal));
+
+        Cliente caio = transacao.execute(status -> adapter.save(new Cliente(null, "Caio", "caio@example.com", "55555555555")));
+
+        assertThat(adapter.findAll()).containsExactly(caio);
+        assertThat(adapter.existsByEmail("caio@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve manter no índice os e-mails dos clientes já gravados quando o lote falha em outro shard")
+    void deveManterEmailsDosShardsGravadosQuandoLoteFalha() {
+        new JdbcTemplate(dataSources.get(2)).execute("ALTER TABLE clientes ADD CONSTRAINT sem_escrita CHECK (id < 0)");
+        List<Cliente> lote = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            lote.add(new Cliente(null, "Lote " + i, "lote" + i + "@example.com", "77777777777"));
+        }
+
+        assertThrows(RuntimeException.class, () -> adapter.saveAll(lote));
+
+        Set<String> emailsGravados = adapter.findAll().stream().map(Cliente::getEmail).collect(Collectors.toSet());
+        assertThat(emailsGravados).isNotEmpty().hasSizeLessThan(30);
+        assertThat(adapter.findExistingEmails(lote.stream().map(Cliente::getEmail).toList())).isEqualTo(emailsGravados);
+    }
+
+    @Test
+    @DisplayName("Deve atualizar cliente gravado sem e-mail")
+    void deveAtualizarClienteSemEmail() {
+        long id = 42L;
+        new JdbcTemplate(dataSources.get(shardMap.shardDoId(id)))
+                .update("INSERT INTO clientes (id, nome, email, cpf) VALUES (?, 'Sem E-mail', NULL, '88888888888')", id);
+
+        adapter.save(new Cliente(id, "Com E-mail", "com.email@example.com", "88888888888"));
+
+        assertThat(adapter.findById(id)).map(Cliente::getEmail).contains("com.email@example.com");
+        assertThat(adapter.existsByEmail("com.email@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve somar as contagens por dia de cadastro e por domínio de todos os shards")
+    void deveAgregarContagensEntreShards() {
+        for (int i = 0; i < 20; i++) {
+            adapter.save(new Cliente(null, "Cliente " + i, "cliente" + i + (i % 4 == 0 ? "@Empresa.com" : "@example.com"), "1111111111" + (i % 2)));
+        }
+
+        assertThat(adapter.count()).isEqualTo(20);
+        assertThat(adapter.countPorDiaDeCadastro(ZoneId.systemDefault())).containsExactly(Map.entry(LocalDate.now(), 20L));
+        assertThat(adapter.countPorDominioDeEmail()).isEqualTo(Map.of("empresa.com", 5L, "example.com", 15L));
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.clienteapi.benchmark;
+
+import com.example.clienteapi.ClienteapiApplication;
+import com.example.clienteapi.adapter.in.web.ClienteResponse;
+import com.example.clienteapi.adapter.out.persistence.ClienteJpaEntity;
+import com.example.clienteapi.adapter.out.persistence.ClienteJpaRepository;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o caminho de leitura anterior (entidade gerenciada em transação de escrita, cópia para {@link Cliente},
+ * cópia para {@link ClienteResponse} e JSON) com o atual (projeção direta em {@link Cliente} em transação
+ * somente leitura, serializado via mix-in) para a busca por id e a listagem completa. Rodar com {@code -prof gc}
+ * para obter os bytes alocados por operação ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClienteLeituraBenchmark {
+
+    @Param({"1000"})
+    private int registros;
+
+    private ConfigurableApplicationContext context;
+    private ClienteRepositoryPort repositorio;
+    private ClienteJpaRepository jpaRepository;
+    private TransactionTemplate transacao;
+    private ObjectMapper objectMapper;
+    private List<Long> ids;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ClienteapiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("logging.level.root=WARN")
+                .run();
+        repositorio = context.getBean(ClienteRepositoryPort.class);
+        jpaRepository = context.getBean(ClienteJpaRepository.class);
+        transacao = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        objectMapper = context.getBean(ObjectMapper.class);
+        ids = new ArrayList<>(registros);
+        for (int i = 1; i <= registros; i++) {
+            ids.add(repositorio.save(new Cliente(null, "Cliente " + i, "cliente" + i + "@example.com",
+                    String.format("%011d", i))).getId());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] findByIdAnterior() throws Exception {
+        long id = aleatorio();
+        Cliente cliente = transacao.execute(status -> paraDominio(jpaRepository.findById(id).orElseThrow()));
+        return objectMapper.writeValueAsBytes(paraResposta(cliente));
+    }
+
+    @Benchmark
+    public byte[] findByIdProjetado() throws Exception {
+        return objectMapper.writeValueAsBytes(repositorio.findById(aleatorio()).orElseThrow());
+    }
+
+    @Benchmark
+    public byte[] findAllAnterior() throws Exception {
+        List<Cliente> clientes = transacao.execute(status ->
+                jpaRepository.findAll().stream().map(ClienteLeituraBenchmark::paraDominio).toList());
+        return objectMapper.writeValueAsBytes(clientes.stream().map(ClienteLeituraBenchmark::paraResposta).toList());
+    }
+
+    @Benchmark
+    public byte[] findAllProjetado() throws Exception {
+        return objectMapper.writeValueAsBytes(repositorio.findAll());
+    }
+
+    private long aleatorio() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static Cliente paraDominio(ClienteJpaEntity entity) {
+        return new Cliente(entity.getId(), entity.getNome(), entity.getEmail(), entity.getCpf(), entity.getCriadoEm());
+    }
+
+    private static ClienteResponse paraResposta(Cliente cliente) {
+        return new ClienteResponse(cliente.getId(), cliente.getNome(), cliente.getEmail(), cliente.getCpf());
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.clienteapi.benchmark;
+
+import com.example.clienteapi.ClienteapiApplication;
+import com.example.clienteapi.adapter.out.memory.InMemoryClienteRepositoryAdapter;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.ClienteFiltro;
+import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compara o repositório em memória com o adapter JPA (H2 em memória, perfil test) em gravações, buscas por id
+ * e buscas exatas por e-mail, com 4 threads concorrentes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ClienteRepositoryBenchmark {
+
+    @Param({"memory", "jpa"})
+    private String adapter;
+
+    @Param({"10000"})
+    private int registros;
+
+    private ConfigurableApplicationContext context;
+    private ClienteRepositoryPort repositorio;
+    private final AtomicLong sequencia = new AtomicLong();
+    private List<Cliente> existentes;
+
+    @Setup
+    public void setUp() {
+        if (adapter.equals("jpa")) {
+            context = new SpringApplicationBuilder(ClienteapiApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .profiles("test")
+                    .properties("logging.level.root=WARN")
+                    .run();
+            repositorio = context.getBean(ClienteRepositoryPort.class);
+        } else {
+            repositorio = new InMemoryClienteRepositoryAdapter("", false, DataSize.ofMegabytes(64));
+        }
+        for (int i = 0; i < registros; i++) {
+            salvarNovo();
+        }
+        existentes = repositorio.findAll();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public Cliente save() {
+        return salvarNovo();
+    }
+
+    @Benchmark
+    public Cliente findById() {
+        return repositorio.findById(aleatorio().getId()).orElseThrow();
+    }
+
+    @Benchmark
+    public List<Cliente> searchByEmail() {
+        return repositorio.search(ClienteFiltro.builder().email(aleatorio().getEmail()).build());
+    }
+
+    private Cliente salvarNovo() {
+        long n = sequencia.incrementAndGet();
+        return repositorio.save(new Cliente(null, "Cliente " + n, "cliente" + n + "@example.com", String.format("%011d", n)));
+    }
+
+    private Cliente aleatorio() {
+        return existentes.get(ThreadLocalRandom.current().nextInt(existentes.size()));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.clienteapi.benchmark;
+
+import com.example.clienteapi.adapter.in.web.ClienteResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Tempo de serialização de uma página de clientes por formato. O tamanho em bytes por registro de cada formato
+ * é impresso no início de cada execução.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClienteSerializationBenchmark {
+
+    @Param({"1000"})
+    private int registros;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory());
+
+    private List<ClienteResponse> clientes;
+    private List<ClienteResponse> clientesEsparsos;
+
+    @Setup
+    public void setUp() throws IOException {
+        clientes = new ArrayList<>(registros);
+        clientesEsparsos = new ArrayList<>(registros);
+        for (long i = 1; i <= registros; i++) {
+            clientes.add(new ClienteResponse(i, "Cliente " + i, "cliente" + i + "@example.com", String.format("%011d", i)));
+            clientesEsparsos.add(new ClienteResponse(i, null, "cliente" + i + "@example.com", null));
+        }
+        System.out.printf("%nBytes por registro: json=%.1f json+gzip=%.1f cbor=%.1f smile=%.1f json?fields=id,email=%.1f%n",
+                porRegistro(json()), porRegistro(jsonGzip()), porRegistro(cbor()), porRegistro(smile()), porRegistro(jsonEsparso()));
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return json.writeValueAsBytes(clientes);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            json.writeValue(gzip, clientes);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cbor.writeValueAsBytes(clientes);
+    }
+
+    @Benchmark
+    public byte[] smile() throws IOException {
+        return smile.writeValueAsBytes(clientes);
+    }
+
+    @Benchmark
+    public byte[] jsonEsparso() throws IOException {
+        return json.writeValueAsBytes(clientesEsparsos);
+    }
+
+    private double porRegistro(byte[] payload) {
+        return (double) payload.length / registros;
+    }
+}
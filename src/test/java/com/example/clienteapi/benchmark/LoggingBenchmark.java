@@ -0,0 +1,123 @@
+package com.example.clienteapi.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.example.clienteapi.config.logging.MaskingJsonEncoder;
+import com.example.clienteapi.config.logging.MaskingPatternLayoutEncoder;
+import com.example.clienteapi.config.logging.RateSamplingTurboFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por mensagem de log no caminho de mensageria em um {@link LoggerContext} isolado que escreve em um
+ * stream nulo: appender síncrono em texto (configuração anterior), assíncrono em JSON e assíncrono em JSON com
+ * amostragem por logger. O total de eventos suprimidos pela amostragem é impresso ao final de cada execução.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class LoggingBenchmark {
+
+    @Param({"sincrono-texto", "assincrono-json", "assincrono-json-amostrado"})
+    private String modo;
+
+    private LoggerContext context;
+    private Logger logger;
+    private RateSamplingTurboFilter amostragem;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        context.start();
+
+        OutputStreamAppender<ILoggingEvent> saida = new OutputStreamAppender<>();
+        saida.setContext(context);
+        saida.setOutputStream(OutputStream.nullOutputStream());
+        saida.setEncoder(modo.startsWith("sincrono") ? encoderTexto() : encoderJson());
+        saida.start();
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        if (modo.startsWith("sincrono")) {
+            root.addAppender(saida);
+        } else {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(819);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(saida);
+            async.start();
+            root.addAppender(async);
+        }
+        if (modo.endsWith("amostrado")) {
+            amostragem = new RateSamplingTurboFilter();
+            amostragem.setContext(context);
+            amostragem.setLoggers("com.example.clienteapi.adapter.in.messagequeue");
+            amostragem.setMaxPerSecond(10);
+            amostragem.start();
+            context.addTurboFilter(amostragem);
+        }
+        logger = context.getLogger("com.example.clienteapi.adapter.in.messagequeue.WelcomeEmailMessageListener");
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (amostragem != null) {
+            System.out.printf("%nEventos suprimidos pela amostragem: %d%n", amostragem.getSuprimidos());
+        }
+        context.stop();
+    }
+
+    @Benchmark
+    public void mensagemProcessada() {
+        logger.info("Mensagem de boas-vindas processada para o cliente {} ({}).", 42L, "cliente42@example.com");
+    }
+
+    private Encoder<ILoggingEvent> encoderTexto() {
+        MaskingPatternLayoutEncoder encoder = new MaskingPatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] %logger{39} [%X{correlationId}] : %m%n");
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> encoderJson() {
+        MaskingJsonEncoder encoder = new MaskingJsonEncoder();
+        encoder.setContext(context);
+        encoder.setWithSequenceNumber(false);
+        encoder.setWithNanoseconds(false);
+        encoder.setWithContext(false);
+        encoder.setWithMessage(false);
+        encoder.setWithArguments(false);
+        encoder.setWithFormattedMessage(true);
+        encoder.start();
+        return encoder;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.clienteapi.benchmark;
+
+import com.example.clienteapi.adapter.out.memory.InMemoryRefreshTokenRepositoryAdapter;
+import com.example.clienteapi.adapter.out.memory.InMemoryUsuarioRepositoryAdapter;
+import com.example.clienteapi.config.TunableBCryptPasswordEncoder;
+import com.example.clienteapi.domain.model.RefreshToken;
+import com.example.clienteapi.domain.model.Usuario;
+import com.example.clienteapi.domain.service.RefreshTokenService;
+import com.example.clienteapi.domain.service.TokenService;
+import com.example.clienteapi.domain.service.UsuarioService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logins por segundo em um único núcleo: autenticação por senha (BCrypt com o custo informado, mais a emissão dos
+ * tokens) contra a renovação por refresh token. Usa os adapters em memória para medir só o custo de CPU.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class LoginBenchmark {
+
+    @Param({"10"})
+    private int custo;
+
+    private DaoAuthenticationProvider provider;
+    private UsuarioService usuarioService;
+    private TokenService tokenService;
+    private RefreshTokenService refreshTokenService;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        TunableBCryptPasswordEncoder encoder = new TunableBCryptPasswordEncoder(custo);
+        usuarioService = new UsuarioService(new InMemoryUsuarioRepositoryAdapter());
+        usuarioService.criar(new Usuario(null, "admin", encoder.encode("password"), List.of("ADMIN")));
+        provider = new DaoAuthenticationProvider(encoder);
+        provider.setUserDetailsService(usuarioService);
+        provider.setUserDetailsPasswordService(usuarioService);
+
+        tokenService = new TokenService();
+        ReflectionTestUtils.setField(tokenService, "secret", "minha-chave-secreta-super-longa-e-segura-para-gerar-tokens");
+        ReflectionTestUtils.setField(tokenService, "expiration", 900_000L);
+        ReflectionTestUtils.invokeMethod(tokenService, "init");
+        refreshTokenService = new RefreshTokenService(new InMemoryRefreshTokenRepositoryAdapter(), 604_800_000L);
+        refreshToken = refreshTokenService.emitir("admin");
+    }
+
+    @Benchmark
+    public String loginComSenha() {
+        Authentication authentication = provider.authenticate(new UsernamePasswordAuthenticationToken("admin", "password"));
+        refreshTokenService.emitir(authentication.getName());
+        return tokenService.gerarToken(authentication);
+    }
+
+    @Benchmark
+    public String renovacaoComRefreshToken() {
+        RefreshToken consumido = refreshTokenService.consumir(refreshToken).orElseThrow();
+        UserDetails usuario = usuarioService.loadUserByUsername(consumido.getUsername());
+        refreshToken = refreshTokenService.rotacionar(consumido);
+        return tokenService.gerarToken(usuario.getUsername(), usuario.getAuthorities());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.clienteapi.common.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para ConcurrentLongObjectHashMap")
+class ConcurrentLongObjectHashMapTest {
+
+    @Test
+    @DisplayName("Deve manter todas as inclusões e remoções feitas por várias threads")
+    void deveSuportarEscritasConcorrentes() throws Exception {
+        ConcurrentLongObjectHashMap<Long> mapa = new ConcurrentLongObjectHashMap<>(16, 16);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            long base = t * 100_000L;
+            tarefas.add(executor.submit(() -> {
+                for (long chave = base; chave < base + 20_000; chave++) {
+                    mapa.put(chave, chave);
+                }
+                for (long chave = base; chave < base + 20_000; chave += 2) {
+                    mapa.remove(chave);
+                }
+            }));
+        }
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get();
+        }
+        executor.shutdown();
+
+        assertThat(mapa.size()).isEqualTo(8 * 10_000);
+        assertThat(mapa.get(1L)).isEqualTo(1L);
+        assertThat(mapa.get(0L)).isNull();
+        AtomicInteger impares = new AtomicInteger();
+        mapa.forEachValue(valor -> {
+            if (valor % 2 == 1) {
+                impares.incrementAndGet();
+            }
+        });
+        assertThat(impares).hasValue(8 * 10_000);
+    }
+
+    @Test
+    @DisplayName("Deve incluir com putIfAbsent apenas quando a chave não existe")
+    void deveIncluirApenasSeAusente() {
+        ConcurrentLongObjectHashMap<String> mapa = new ConcurrentLongObjectHashMap<>();
+
+        assertThat(mapa.putIfAbsent(-5L, "a")).isNull();
+        assertThat(mapa.putIfAbsent(-5L, "b")).isEqualTo("a");
+        assertThat(mapa.get(-5L)).isEqualTo("a");
+        assertThat(mapa.containsKey(-5L)).isTrue();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.clienteapi.common.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para LongHashSet")
+class LongHashSetTest {
+
+    @Test
+    @DisplayName("Deve se comportar como um HashSet em inclusões aleatórias, incluindo a chave zero")
+    void deveSeComportarComoHashSet() {
+        LongHashSet conjunto = new LongHashSet();
+        Set<Long> esperado = new HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long chave = random.nextInt(3) == 0 ? random.nextInt(50) - 25 : random.nextLong();
+            assertThat(conjunto.add(chave)).isEqualTo(esperado.add(chave));
+        }
+
+        assertThat(conjunto.size()).isEqualTo(esperado.size());
+        assertThat(conjunto.contains(0L)).isTrue();
+        esperado.forEach(chave -> assertThat(conjunto.contains(chave)).isTrue());
+        for (int i = 0; i < 10_000; i++) {
+            long chave = random.nextLong();
+            assertThat(conjunto.contains(chave)).isEqualTo(esperado.contains(chave));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.clienteapi.common.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para LongObjectHashMap")
+class LongObjectHashMapTest {
+
+    @Test
+    @DisplayName("Deve se comportar como um HashMap em sequências aleatórias de inclusões e remoções")
+    void deveSeComportarComoHashMap() {
+        LongObjectHashMap<String> mapa = new LongObjectHashMap<>();
+        Map<Long, String> esperado = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long chave = random.nextInt(5_000) - 100;
+            if (random.nextInt(3) == 0) {
+                assertThat(mapa.remove(chave)).isEqualTo(esperado.remove(chave));
+            } else {
+                String valor = "v" + i;
+                assertThat(mapa.put(chave, valor)).isEqualTo(esperado.put(chave, valor));
+            }
+        }
+
+        assertThat(mapa.size()).isEqualTo(esperado.size());
+        esperado.forEach((chave, valor) -> assertThat(mapa.get(chave)).isEqualTo(valor));
+        Map<Long, String> percorrido = new HashMap<>();
+        mapa.forEachKey(chave -> percorrido.put(chave, mapa.get(chave)));
+        assertThat(percorrido).isEqualTo(esperado);
+    }
+}
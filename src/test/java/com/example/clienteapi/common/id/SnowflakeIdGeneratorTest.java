@@ -0,0 +1,69 @@
+package com.example.clienteapi.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes Unitários para SnowflakeIdGenerator")
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("Deve gerar IDs crescentes com o worker codificado, mesmo com o relógio voltando")
+    void deveGerarIdsCrescentes() {
+        AtomicLong relogio = new AtomicLong(SnowflakeIdGenerator.EPOCH + 1000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, relogio::get);
+
+        long primeiro = generator.nextId();
+        long segundo = generator.nextId();
+        relogio.addAndGet(-500);
+        long terceiro = generator.nextId();
+
+        assertThat(segundo).isGreaterThan(primeiro);
+        assertThat(terceiro).isGreaterThan(segundo);
+        assertThat(primeiro >>> (SnowflakeIdGenerator.WORKER_BITS + SnowflakeIdGenerator.SEQUENCE_BITS)).isEqualTo(1000L);
+        assertThat((primeiro >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_WORKER_ID).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Deve avançar para o próximo milissegundo quando a sequência se esgota")
+    void deveAvancarQuandoSequenciaEsgota() {
+        AtomicLong chamadas = new AtomicLong();
+        long inicio = SnowflakeIdGenerator.EPOCH + 10;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, () -> chamadas.incrementAndGet() <= 65 ? inicio : inicio + 1);
+
+        long ultimoDoMilissegundo = -1;
+        for (int i = 0; i < 64; i++) {
+            ultimoDoMilissegundo = generator.nextId();
+        }
+        long proximo = generator.nextId();
+
+        assertThat(ultimoDoMilissegundo & 63).isEqualTo(63L);
+        assertThat(proximo).isGreaterThan(ultimoDoMilissegundo);
+        assertThat(proximo >>> (SnowflakeIdGenerator.WORKER_BITS + SnowflakeIdGenerator.SEQUENCE_BITS)).isEqualTo(11L);
+        assertThat(proximo & 63).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve gerar IDs dentro dos inteiros seguros do JavaScript até o fim do intervalo de tempo")
+    void deveGerarIdsSegurosParaJavaScript() {
+        long ultimoMillis = SnowflakeIdGenerator.EPOCH + (1L << 41) - 1;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_WORKER_ID, () -> ultimoMillis);
+
+        long maior = 0;
+        for (int i = 0; i < 64; i++) {
+            maior = generator.nextId();
+        }
+
+        assertThat(maior).isEqualTo((1L << 53) - 1);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar worker-id fora do intervalo")
+    void deveRejeitarWorkerInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_WORKER_ID + 1));
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.clienteapi.config;
+
+import com.example.clienteapi.domain.model.Cliente;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.util.ClassUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para NativeRuntimeHints")
+class NativeRuntimeHintsTest {
+
+    @Test
+    @DisplayName("Deve registrar as implementações do JJWT existentes no classpath e o Cliente para reflexão")
+    void deveRegistrarDicasDeReflexao() throws Exception {
+        RuntimeHints hints = new RuntimeHints();
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(NativeRuntimeHints.JJWT_IMPL_TYPES)
+                .allSatisfy(type -> assertThat(ClassUtils.isPresent(type, getClass().getClassLoader())).as(type).isTrue())
+                .allSatisfy(type -> assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type))).accepts(hints));
+        assertThat(RuntimeHintsPredicates.reflection().onConstructor(
+                Cliente.class.getConstructor(Long.class, String.class, String.class, String.class))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Serializer")).accepts(hints);
+    }
+}
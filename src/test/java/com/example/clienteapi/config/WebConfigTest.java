@@ -0,0 +1,31 @@
+package com.example.clienteapi.config;
+
+import com.example.clienteapi.adapter.in.web.ClienteResponse;
+import com.example.clienteapi.domain.model.Cliente;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para a serialização JSON do WebConfig")
+class WebConfigTest {
+
+    @Test
+    @DisplayName("Deve serializar o Cliente de domínio no mesmo formato do ClienteResponse")
+    void deveSerializarClienteComoClienteResponse() throws Exception {
+        ObjectMapper objectMapper = new WebConfig().mappingJackson2HttpMessageConverter(new Jackson2ObjectMapperBuilder())
+                .getObjectMapper();
+
+        Cliente completo = new Cliente(1L, "Ana", "ana@example.com", "11111111111", Instant.parse("2024-06-01T10:00:00Z"));
+        Cliente esparso = new Cliente(2L, null, "bia@example.com", null);
+
+        assertThat(objectMapper.writeValueAsString(completo))
+                .isEqualTo(objectMapper.writeValueAsString(new ClienteResponse(1L, "Ana", "ana@example.com", "11111111111")))
+                .isEqualTo("{\"id\":1,\"nome\":\"Ana\",\"email\":\"ana@example.com\",\"cpf\":\"11111111111\"}");
+        assertThat(objectMapper.writeValueAsString(esparso)).isEqualTo("{\"id\":2,\"email\":\"bia@example.com\"}");
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.clienteapi.config.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes do roteamento leitura/escrita entre primário e réplica (H2)")
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replicaDataSource;
+    private ReadWriteRoutingDataSource.Replica replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primario");
+        replicaDataSource = h2("replica");
+        replica = new ReadWriteRoutingDataSource.Replica("replica-0", replicaDataSource);
+
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, List.of(replica)));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.close();
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replicaDataSource).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("Deve enviar transações somente leitura para a réplica e escritas para o primário")
+    void deveRotearLeiturasParaReplicaEEscritasParaPrimario() {
+        assertThat(lerDentroDe(readOnlyTransaction)).isEqualTo("replica");
+        assertThat(lerDentroDe(writeTransaction)).isEqualTo("primario");
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário quando a réplica estiver atrasada ou indisponível")
+    void deveLerDoPrimarioQuandoReplicaIndisponivel() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(List.of(replica), "SELECT 60000", Duration.ofSeconds(5));
+        monitor.checkAll();
+
+        assertThat(replica.isAvailable()).isFalse();
+        assertThat(lerDentroDe(readOnlyTransaction)).isEqualTo("primario");
+        monitor.close();
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário depois que o mesmo cliente confirmou uma escrita")
+    void deveLerDoPrimarioAposEscritaConfirmada() {
+        AtomicBoolean clienteFixado = new AtomicBoolean(false);
+        ReadYourWritesContext.open(false, () -> clienteFixado.set(true));
+
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE origem SET nome = nome"));
+
+        assertThat(clienteFixado).isTrue();
+        assertThat(lerDentroDe(readOnlyTransaction)).isEqualTo("primario");
+    }
+
+    @Test
+    @DisplayName("Deve avisar todas as requisições reunidas quando a escrita em grupo for confirmada")
+    void deveAvisarTodosOsContextosCombinados() {
+        AtomicBoolean primeiroFixado = new AtomicBoolean(false);
+        AtomicBoolean segundoFixado = new AtomicBoolean(false);
+        ReadYourWritesContext.open(false, () -> primeiroFixado.set(true));
+        ReadYourWritesContext primeiro = ReadYourWritesContext.current();
+        ReadYourWritesContext.open(false, () -> segundoFixado.set(true));
+        ReadYourWritesContext segundo = ReadYourWritesContext.current();
+
+        ReadYourWritesContext.restore(ReadYourWritesContext.combinar(List.of(primeiro, segundo)));
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE origem SET nome = nome"));
+
+        assertThat(primeiroFixado).isTrue();
+        assertThat(segundoFixado).isTrue();
+        ReadYourWritesContext.restore(primeiro);
+        assertThat(ReadYourWritesContext.isPinnedToPrimary()).isTrue();
+    }
+
+    private String lerDentroDe(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> origem());
+    }
+
+    private String origem() {
+        return jdbcTemplate.queryForObject("SELECT nome FROM origem", String.class);
+    }
+
+    private static DataSource h2(String nome) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-" + nome + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE origem (nome VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO origem VALUES (?)", nome);
+        return dataSource;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.clienteapi.config.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para LoadSheddingFilter e seus limitadores")
+class LoadSheddingFilterTest {
+
+    private final AtomicLong relogio = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("Deve aceitar a rajada configurada e responder 429 com Retry-After ao excedê-la")
+    void deveResponder429AoExcederTaxa() throws Exception {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 2, 1000, relogio::get);
+        LoadSheddingFilter filter = new LoadSheddingFilter(rateLimiter,
+                new AdaptiveConcurrencyLimiter(10, 1, 10, Duration.ofSeconds(1).toNanos(), 0.5), new SimpleMeterRegistry());
+
+        assertThat(executar(filter).getStatus()).isEqualTo(200);
+        assertThat(executar(filter).getStatus()).isEqualTo(200);
+        MockHttpServletResponse rejeitada = executar(filter);
+
+        assertThat(rejeitada.getStatus()).isEqualTo(429);
+        assertThat(rejeitada.getHeader("Retry-After")).isEqualTo("1");
+
+        relogio.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(executar(filter).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar tokens não validados e separar os buckets por usuário autenticado")
+    void deveUsarUsuarioAutenticadoOuEnderecoComoChave() throws Exception {
+        LoadSheddingFilter filter = new LoadSheddingFilter(new TokenBucketRateLimiter(1, 1, 1000, relogio::get),
+                new AdaptiveConcurrencyLimiter(10, 1, 10, Duration.ofSeconds(1).toNanos(), 0.5), new SimpleMeterRegistry());
+
+        assertThat(executar(filter, "Bearer aleatorio-1").getStatus()).isEqualTo(200);
+        assertThat(executar(filter, "Bearer aleatorio-2").getStatus()).isEqualTo(429);
+
+        try {
+            SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated("ana", null, List.of()));
+            assertThat(executar(filter, null).getStatus()).isEqualTo(200);
+            assertThat(executar(filter, null).getStatus()).isEqualTo(429);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter o número de buckets limitado e agrupar clientes excedentes")
+    void deveLimitarNumeroDeBuckets() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, 2, relogio::get);
+
+        assertThat(rateLimiter.tryAcquire("a")).isZero();
+        assertThat(rateLimiter.tryAcquire("b")).isZero();
+        assertThat(rateLimiter.tryAcquire("c")).isZero();
+        assertThat(rateLimiter.tryAcquire("d")).isPositive();
+        assertThat(rateLimiter.trackedClients()).isEqualTo(2);
+
+        relogio.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(rateLimiter.tryAcquire("e")).isZero();
+        assertThat(rateLimiter.trackedClients()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 quando o limite de concorrência estiver esgotado")
+    void deveResponder503QuandoConcorrenciaEsgotada() throws Exception {
+        AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(1, 1, 10, Duration.ofSeconds(1).toNanos(), 0.5);
+        LoadSheddingFilter filter = new LoadSheddingFilter(new TokenBucketRateLimiter(1000, 1000, 1000, relogio::get),
+                concurrencyLimiter, new SimpleMeterRegistry());
+        assertThat(concurrencyLimiter.tryAcquire()).isTrue();
+
+        MockHttpServletResponse rejeitada = executar(filter);
+
+        assertThat(rejeitada.getStatus()).isEqualTo(503);
+        assertThat(rejeitada.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite de concorrência com respostas lentas e aumentá-lo com respostas rápidas")
+    void deveAjustarLimiteConformeLatencia() {
+        long alvo = Duration.ofMillis(100).toNanos();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 40, alvo, 0.5);
+
+        limiter.tryAcquire();
+        limiter.release(alvo * 2, false);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+
+        for (int i = 0; i < 200; i++) {
+            limiter.tryAcquire();
+            limiter.release(alvo / 2, false);
+        }
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    private MockHttpServletResponse executar(LoadSheddingFilter filter) throws Exception {
+        return executar(filter, null);
+    }
+
+    private MockHttpServletResponse executar(LoadSheddingFilter filter, String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/clientes");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.clienteapi.config.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes Unitários para IdempotentRequestHandler")
+class IdempotentRequestHandlerTest {
+
+    private IdempotentRequestHandler handler;
+    private final AtomicInteger execucoes = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        handler = new IdempotentRequestHandler(new InMemoryIdempotencyStore(100), new ObjectMapper(),
+                new IdempotencyProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a resposta 201 original sem executar a ação novamente")
+    void deveReproduzirRespostaCriada() {
+        ResponseEntity<Corpo> primeira = handler.executar("chave-1", Map.of("email", "a@example.com"), Corpo.class, this::criar);
+        ResponseEntity<Corpo> segunda = handler.executar("chave-1", Map.of("email", "a@example.com"), Corpo.class, this::criar);
+
+        assertThat(execucoes).hasValue(1);
+        assertThat(segunda.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(segunda.getBody()).isEqualTo(primeira.getBody());
+        assertThat(segunda.getHeaders().getFirst(IdempotentRequestHandler.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Não deve reproduzir para outro usuário a resposta guardada com a mesma chave")
+    void deveIsolarChavesPorUsuario() {
+        try {
+            autenticar("ana");
+            ResponseEntity<Corpo> daAna = handler.executar("chave-5", Map.of("email", "a@example.com"), Corpo.class, this::criar);
+            autenticar("bruno");
+            ResponseEntity<Corpo> doBruno = handler.executar("chave-5", Map.of("email", "a@example.com"), Corpo.class, this::criar);
+
+            assertThat(execucoes).hasValue(2);
+            assertThat(doBruno.getBody()).isNotEqualTo(daAna.getBody());
+            assertThat(doBruno.getHeaders().containsKey(IdempotentRequestHandler.REPLAYED_HEADER)).isFalse();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar com 422 a reutilização da chave com outro corpo")
+    void deveRejeitarChaveReutilizadaComOutroCorpo() {
+        handler.executar("chave-2", Map.of("email", "a@example.com"), Corpo.class, this::criar);
+
+        IdempotencyException e = assertThrows(IdempotencyException.class,
+                () -> handler.executar("chave-2", Map.of("email", "b@example.com"), Corpo.class, this::criar));
+        assertThat(e.getStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar respostas diferentes de 201")
+    void naoDeveArmazenarRespostasDeErro() {
+        handler.executar("chave-3", Map.of(), Corpo.class, () -> {
+            execucoes.incrementAndGet();
+            return ResponseEntity.badRequest().build();
+        });
+        handler.executar("chave-3", Map.of(), Corpo.class, this::criar);
+
+        assertThat(execucoes).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve fazer requisições simultâneas com a mesma chave aguardarem a primeira")
+    void deveAgruparRequisicoesSimultaneas() throws Exception {
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<Corpo>> primeira = CompletableFuture.supplyAsync(() ->
+                handler.executar("chave-4", Map.of(), Corpo.class, () -> {
+                    iniciada.countDown();
+                    await(liberar);
+                    return criar();
+                }));
+        assertThat(iniciada.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<ResponseEntity<Corpo>> segunda = CompletableFuture.supplyAsync(() ->
+                handler.executar("chave-4", Map.of(), Corpo.class, this::criar));
+        Thread.sleep(100);
+        liberar.countDown();
+
+        assertThat(primeira.get(5, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(segunda.get(5, TimeUnit.SECONDS).getBody()).isEqualTo(new Corpo(1));
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve descartar a entrada menos usada ao exceder a capacidade do armazenamento em memória")
+    void deveLimitarArmazenamentoEmMemoria() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(2);
+        long expira = System.currentTimeMillis() + 60_000;
+        store.put("a", new RespostaIdempotente("f", 201, null, expira));
+        store.put("b", new RespostaIdempotente("f", 201, null, expira));
+        store.get("a");
+        store.put("c", new RespostaIdempotente("f", 201, null, expira));
+
+        assertThat(store.get("a")).isPresent();
+        assertThat(store.get("b")).isEmpty();
+
+        store.put("d", new RespostaIdempotente("f", 201, null, System.currentTimeMillis() - 1));
+        assertThat(store.get("d")).isEmpty();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    private ResponseEntity<Corpo> criar() {
+        return new ResponseEntity<>(new Corpo(execucoes.incrementAndGet()), HttpStatus.CREATED);
+    }
+
+    private static void autenticar(String usuario) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(usuario, null, List.of()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record Corpo(int id) {
+    }
+}
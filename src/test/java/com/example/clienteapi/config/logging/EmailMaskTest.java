@@ -0,0 +1,23 @@
+package com.example.clienteapi.config.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para EmailMask")
+class EmailMaskTest {
+
+    @Test
+    @DisplayName("Deve mascarar a parte local dos e-mails sem alterar o tamanho nem referências de objetos")
+    void deveMascararEmails() {
+        String linha = "{\"message\":\"Email joao.silva@example.com e ana@sub.example.com.br; lock java.lang.Object@1b6d3586\"}";
+
+        byte[] mascarado = EmailMask.mascarar(linha.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(new String(mascarado, StandardCharsets.UTF_8)).isEqualTo(
+                "{\"message\":\"Email j*********@example.com e a**@sub.example.com.br; lock java.lang.Object@1b6d3586\"}");
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.clienteapi.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para RateSamplingTurboFilter")
+class RateSamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private RateSamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateSamplingTurboFilter();
+        filter.setLoggers("com.example.mensageria");
+        filter.setMaxPerSecond(3);
+        filter.start();
+    }
+
+    @Test
+    @DisplayName("Deve descartar o excedente de INFO por segundo apenas nos loggers configurados, sem amostrar WARN")
+    void deveAmostrarInfoPorLogger() {
+        Logger amostrado = context.getLogger("com.example.mensageria.Listener");
+        Logger livre = context.getLogger("com.example.web.Controller");
+
+        int aceitos = 0;
+        for (int i = 0; i < 10; i++) {
+            if (filter.decide(null, amostrado, Level.INFO, "ok", null, null) != FilterReply.DENY) {
+                aceitos++;
+            }
+        }
+
+        assertThat(aceitos).isBetween(3, 6);
+        assertThat(filter.getSuprimidos()).isEqualTo(10 - aceitos);
+        assertThat(filter.decide(null, amostrado, Level.WARN, "falha", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, livre, Level.INFO, "ok", null, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("Não deve consumir a cota com eventos de nível desabilitado")
+    void naoDeveContarNivelDesabilitado() {
+        Logger amostrado = context.getLogger("com.example.mensageria.Listener");
+        amostrado.setLevel(Level.INFO);
+
+        for (int i = 0; i < 10; i++) {
+            filter.decide(null, amostrado, Level.DEBUG, "detalhe", null, null);
+        }
+
+        assertThat(filter.getSuprimidos()).isZero();
+    }
+}
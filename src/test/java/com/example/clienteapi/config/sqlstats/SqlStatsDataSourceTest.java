@@ -0,0 +1,82 @@
+package com.example.clienteapi.config.sqlstats;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes para SqlStatsDataSource e SqlFingerprint")
+class SqlStatsDataSourceTest {
+
+    private SqlStatsRegistry registry;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SqlStatsRegistry(Duration.ZERO, 3, 10);
+        DriverManagerDataSource h2 = new DriverManagerDataSource("jdbc:h2:mem:sqlstats-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(new SqlStatsDataSource(h2, registry));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        jdbcTemplate.execute("SHUTDOWN");
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("Deve normalizar literais, listas IN, comentários e espaços")
+    void deveNormalizarSql() {
+        assertThat(SqlFingerprint.normalizar("select  *\n from clientes /* busca */ where email = 'a''b@x.com' and id in (1, 2,3)"))
+                .isEqualTo("select * from clientes where email = ? and id in (?)");
+        assertThat(SqlFingerprint.normalizar("select c1_0.id from clientes c1_0 where c1_0.id in (?,?, ?) limit 10"))
+                .isEqualTo("select c1_0.id from clientes c1_0 where c1_0.id in (?) limit ?");
+        assertThat(SqlFingerprint.normalizar("update clientes set nome=?, email=? where id=?"))
+                .isEqualTo("update clientes set nome=?, email=? where id=?");
+        assertThat(SqlFingerprint.normalizar("select \"Coluna 1\" from t2"))
+                .isEqualTo("select \"Coluna 1\" from t2");
+    }
+
+    @Test
+    @DisplayName("Deve agregar comandos com valores diferentes na mesma impressão digital, inclusive em lote")
+    void deveAgregarPorFingerprint() {
+        jdbcTemplate.execute("CREATE TABLE itens (id BIGINT PRIMARY KEY, nome VARCHAR(50))");
+        jdbcTemplate.update("INSERT INTO itens (id, nome) VALUES (?, ?)", 1, "um");
+        jdbcTemplate.batchUpdate("INSERT INTO itens (id, nome) VALUES (?, ?)", List.of(new Object[]{2, "dois"}, new Object[]{3, "três"}));
+        jdbcTemplate.queryForList("SELECT nome FROM itens WHERE id = 1");
+        jdbcTemplate.queryForList("SELECT nome FROM itens WHERE id = 2");
+
+        List<EstatisticaSql> top = registry.top(10, Comparator.comparing(EstatisticaSql::fingerprint));
+
+        assertThat(top).extracting(EstatisticaSql::fingerprint).containsExactly(
+                "CREATE TABLE itens (id BIGINT PRIMARY KEY, nome VARCHAR(?))",
+                "INSERT INTO itens (id, nome) VALUES (?)",
+                "SELECT nome FROM itens WHERE id = ?");
+        assertThat(top.get(1).execucoes()).isEqualTo(2);
+        assertThat(top.get(2).execucoes()).isEqualTo(2);
+        assertThat(top.get(2).lentas()).isEqualTo(2);
+        assertThat(top.get(2).p99Ms()).isGreaterThanOrEqualTo(top.get(2).p50Ms()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Deve limitar a quantidade de impressões digitais, agregando o excedente")
+    void deveLimitarFingerprints() {
+        jdbcTemplate.execute("CREATE TABLE a (id INT)");
+        jdbcTemplate.execute("CREATE TABLE b (id INT)");
+        jdbcTemplate.execute("CREATE TABLE c (id INT)");
+        jdbcTemplate.execute("CREATE TABLE d (id INT)");
+
+        assertThat(registry.top(10, Comparator.comparing(EstatisticaSql::fingerprint)))
+                .extracting(EstatisticaSql::fingerprint)
+                .containsExactly(SqlStatsRegistry.OUTROS, "CREATE TABLE a (id INT)", "CREATE TABLE b (id INT)", "CREATE TABLE c (id INT)");
+    }
+}
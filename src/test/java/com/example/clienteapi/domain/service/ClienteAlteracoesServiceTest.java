@@ -0,0 +1,123 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.adapter.out.memory.InMemoryAlteracaoClienteRepositoryAdapter;
+import com.example.clienteapi.adapter.out.memory.InMemoryTransactionManager;
+import com.example.clienteapi.domain.event.ClienteEvent;
+import com.example.clienteapi.domain.model.AlteracaoCliente;
+import com.example.clienteapi.domain.model.Cliente;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+@DisplayName("Testes Unitários para ClienteAlteracoesService")
+class ClienteAlteracoesServiceTest {
+
+    private InMemoryAlteracaoClienteRepositoryAdapter tabela;
+    private ClienteAlteracoesService clienteAlteracoesService;
+
+    @BeforeEach
+    void setUp() {
+        tabela = spy(new InMemoryAlteracaoClienteRepositoryAdapter());
+        clienteAlteracoesService = new ClienteAlteracoesService(tabela, 4);
+    }
+
+    @Test
+    @DisplayName("Deve gravar as alterações na tabela, que atribui a sequência, e notificar os assinantes")
+    void deveGravarNumerarENotificar() {
+        AtomicInteger notificacoes = new AtomicInteger();
+        clienteAlteracoesService.aoRegistrar(notificacoes::incrementAndGet);
+        Cliente cliente = new Cliente(1L, "Ana", "ana@example.com", "11111111111");
+
+        clienteAlteracoesService.registrar(ClienteEvent.criado(cliente));
+        clienteAlteracoesService.registrar(ClienteEvent.atualizado(cliente));
+        clienteAlteracoesService.registrar(ClienteEvent.removido(cliente));
+
+        List<AlteracaoCliente> alteracoes = clienteAlteracoesService.buscarAlteracoes(0, 10);
+        assertThat(alteracoes).extracting(AlteracaoCliente::getSequencia).containsExactly(1L, 2L, 3L);
+        assertThat(alteracoes).extracting(AlteracaoCliente::getTipo)
+                .containsExactly(ClienteEvent.Tipo.CRIADO, ClienteEvent.Tipo.ATUALIZADO, ClienteEvent.Tipo.REMOVIDO);
+        assertThat(clienteAlteracoesService.buscarAlteracoes(2, 10)).extracting(AlteracaoCliente::getSequencia).containsExactly(3L);
+        assertThat(clienteAlteracoesService.buscarAlteracoes(3, 10)).isEmpty();
+        assertThat(tabela.findMaxSequencia()).isEqualTo(3L);
+        assertThat(notificacoes.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve gravar as alterações da transação antes do commit e só publicá-las depois dele")
+    void deveGravarNaTransacaoDoCliente() {
+        AtomicInteger notificacoes = new AtomicInteger();
+        clienteAlteracoesService.aoRegistrar(notificacoes::incrementAndGet);
+        TransactionTemplate transacao = new TransactionTemplate(new InMemoryTransactionManager());
+
+        transacao.executeWithoutResult(status -> {
+            clienteAlteracoesService.registrar(ClienteEvent.criado(new Cliente(1L, "Ana", "ana@example.com", "11111111111")));
+            clienteAlteracoesService.registrar(ClienteEvent.criado(new Cliente(2L, "Bia", "bia@example.com", "22222222222")));
+            assertThat(tabela.findMaxSequencia()).isZero();
+        });
+
+        assertThat(clienteAlteracoesService.buscarAlteracoes(0, 10)).extracting(alteracao -> alteracao.getCliente().getId())
+                .containsExactly(1L, 2L);
+        assertThat(notificacoes.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve gravar as alterações de uma transação desfeita")
+    void naoDeveGravarTransacaoDesfeita() {
+        TransactionTemplate transacao = new TransactionTemplate(new InMemoryTransactionManager());
+
+        transacao.executeWithoutResult(status -> {
+            clienteAlteracoesService.registrar(ClienteEvent.criado(new Cliente(1L, "Ana", "ana@example.com", "11111111111")));
+            status.setRollbackOnly();
+        });
+        transacao.executeWithoutResult(status ->
+                clienteAlteracoesService.registrar(ClienteEvent.criado(new Cliente(2L, "Bia", "bia@example.com", "22222222222"))));
+
+        assertThat(clienteAlteracoesService.buscarAlteracoes(0, 10)).extracting(AlteracaoCliente::getSequencia).containsExactly(1L);
+        assertThat(clienteAlteracoesService.buscarAlteracoes(0, 10).get(0).getCliente().getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Deve servir as alterações recentes do buffer e recorrer à tabela para as que já saíram dele")
+    void deveRecorrerATabelaForaDoBuffer() {
+        clienteAlteracoesService.buscarAlteracoes(0, 10);
+        for (long id = 1; id <= 10; id++) {
+            clienteAlteracoesService.registrar(ClienteEvent.criado(new Cliente(id, "Cliente " + id, id + "@example.com", "11111111111")));
+        }
+
+        assertThat(clienteAlteracoesService.buscarAlteracoes(7, 10)).extracting(AlteracaoCliente::getSequencia)
+                .containsExactly(8L, 9L, 10L);
+        verify(tabela, never()).findAfter(anyLong(), anyInt());
+
+        assertThat(clienteAlteracoesService.buscarAlteracoes(0, 3)).extracting(AlteracaoCliente::getSequencia)
+                .containsExactly(1L, 2L, 3L);
+        verify(tabela).findAfter(0L, 3);
+    }
+
+    @Test
+    @DisplayName("Deve completar o buffer com as alterações gravadas por outra instância")
+    void deveCompletarComAlteracoesDeOutraInstancia() {
+        Cliente cliente = new Cliente(1L, "Ana", "ana@example.com", "11111111111");
+        clienteAlteracoesService.registrar(ClienteEvent.criado(cliente));
+        ClienteAlteracoesService outraInstancia = new ClienteAlteracoesService(tabela, 4);
+        outraInstancia.registrar(ClienteEvent.atualizado(cliente));
+        outraInstancia.registrar(ClienteEvent.removido(cliente));
+
+        assertThat(clienteAlteracoesService.ultimaSequencia()).isEqualTo(3L);
+        assertThat(clienteAlteracoesService.buscarAlteracoes(0, 10)).extracting(AlteracaoCliente::getSequencia)
+                .containsExactly(1L, 2L, 3L);
+        clienteAlteracoesService.registrar(ClienteEvent.criado(new Cliente(2L, "Bia", "bia@example.com", "22222222222")));
+        assertThat(clienteAlteracoesService.buscarAlteracoes(3, 10)).extracting(AlteracaoCliente::getSequencia)
+                .containsExactly(4L);
+    }
+}
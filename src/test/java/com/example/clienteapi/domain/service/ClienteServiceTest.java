@@ -1,6 +1,9 @@
 package com.example.clienteapi.domain.service;
 
+import com.example.clienteapi.domain.event.ClienteEvent;
 import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.port.out.ClienteEventPublisherPort;
+import com.example.clienteapi.domain.port.out.ClienteReadModelPort;
 import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
 import com.example.clienteapi.domain.port.out.EmailServicePort;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +14,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,6 +32,12 @@ class ClienteServiceTest {
     @Mock
     private EmailServicePort emailServicePort;
 
+    @Mock
+    private ClienteEventPublisherPort clienteEventPublisherPort;
+
+    @Mock
+    private ClienteReadModelPort clienteReadModelPort;
+
     @InjectMocks
     private ClienteService clienteService;
 
@@ -74,6 +84,20 @@ class ClienteServiceTest {
         verifyNoMoreInteractions(clienteRepositoryPort, emailServicePort);
     }
 
+    @Test
+    @DisplayName("Deve lançar exceção ao atualizar cliente para um email de outro cliente")
+    void deveLancarExcecaoAoAtualizarParaEmailDeOutroCliente() {
+        when(clienteRepositoryPort.findById(1L)).thenReturn(Optional.of(new Cliente(1L, "Ana", "ana@example.com", "11122233344")));
+        when(clienteRepositoryPort.existsByEmail("bia@example.com")).thenReturn(true);
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> clienteService.atualizarCliente(1L, new Cliente(null, "Ana", "bia@example.com", "11122233344")));
+        assertThat(thrown.getMessage()).isEqualTo("Email já cadastrado.");
+
+        verify(clienteRepositoryPort, never()).save(any(Cliente.class));
+        verify(clienteEventPublisherPort, never()).publish(any(ClienteEvent.class));
+    }
+
     @Test
     @DisplayName("Deve buscar cliente por ID com sucesso")
     void deveBuscarClientePorIdComSucesso() {
@@ -101,4 +125,70 @@ class ClienteServiceTest {
         verify(clienteRepositoryPort, times(1)).findById(clienteId);
         verifyNoMoreInteractions(clienteRepositoryPort);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve buscar cliente por ID no modelo de leitura quando ele estiver pronto")
+    void deveBuscarClientePorIdNoModeloDeLeituraQuandoPronto() {
+        Long clienteId = 1L;
+        Cliente clienteProjetado = new Cliente(clienteId, "Projetado", "projetado@example.com", "12312312312");
+        when(clienteReadModelPort.isReady()).thenReturn(true);
+        when(clienteReadModelPort.findById(clienteId)).thenReturn(Optional.of(clienteProjetado));
+
+        Optional<Cliente> resultado = clienteService.buscarClientePorId(clienteId);
+
+        assertThat(resultado).contains(clienteProjetado);
+        verifyNoInteractions(clienteRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Deve buscar vários clientes na ordem dos IDs, consultando o banco só pelos ausentes no modelo de leitura")
+    void deveBuscarVariosClientesPorIds() {
+        Cliente um = new Cliente(1L, "Um", "um@example.com", "11111111111");
+        Cliente dois = new Cliente(2L, "Dois", "dois@example.com", "22222222222");
+        Cliente tres = new Cliente(3L, "Tres", "tres@example.com", "33333333333");
+        when(clienteReadModelPort.isReady()).thenReturn(true);
+        when(clienteReadModelPort.findAllByIds(any())).thenReturn(List.of(tres, um));
+        when(clienteRepositoryPort.findAllByIds(List.of(2L, 99L))).thenReturn(List.of(dois));
+
+        List<Cliente> resultado = clienteService.buscarClientesPorIds(List.of(3L, 2L, 99L, 1L, 3L));
+
+        assertThat(resultado).containsExactly(tres, dois, um);
+        verify(clienteRepositoryPort, times(1)).findAllByIds(List.of(2L, 99L));
+        verifyNoMoreInteractions(clienteRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco quando o modelo de leitura tem todos os IDs")
+    void naoDeveConsultarBancoQuandoModeloDeLeituraTemTodosIds() {
+        Cliente um = new Cliente(1L, "Um", "um@example.com", "11111111111");
+        when(clienteReadModelPort.isReady()).thenReturn(true);
+        when(clienteReadModelPort.findAllByIds(any())).thenReturn(List.of(um));
+
+        assertThat(clienteService.buscarClientesPorIds(List.of(1L, 1L))).containsExactly(um);
+        verifyNoInteractions(clienteRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Deve publicar evento de remoção ao deletar cliente existente")
+    void devePublicarEventoAoDeletarCliente() {
+        Cliente existente = new Cliente(5L, "Remover", "remover@example.com", "32132132132");
+        when(clienteRepositoryPort.findById(5L)).thenReturn(Optional.of(existente));
+
+        clienteService.deletarCliente(5L);
+
+        verify(clienteRepositoryPort, times(1)).deleteById(5L);
+        verify(clienteEventPublisherPort, times(1)).publish(argThat(event ->
+                event.getTipo() == ClienteEvent.Tipo.REMOVIDO && event.getCliente().getId().equals(5L)));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao deletar cliente inexistente")
+    void deveLancarExcecaoAoDeletarClienteInexistente() {
+        when(clienteRepositoryPort.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> clienteService.deletarCliente(99L));
+
+        verify(clienteRepositoryPort, never()).deleteById(anyLong());
+        verifyNoInteractions(clienteEventPublisherPort);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.domain.event.ClienteEvent;
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.EstatisticasClientes;
+import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes Unitários para EstatisticasClientesService")
+class EstatisticasClientesServiceTest {
+
+    private static final Instant AGORA = Instant.parse("2024-06-10T12:00:00Z");
+    private static final LocalDate HOJE = LocalDate.of(2024, 6, 10);
+
+    private final ClienteRepositoryPort clienteRepositoryPort = mock(ClienteRepositoryPort.class);
+    private final EstatisticasClientesService service = new EstatisticasClientesService(clienteRepositoryPort,
+            Duration.ofMinutes(10), Clock.fixed(AGORA, ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("Deve carregar os contadores do banco uma vez e ajustá-los a cada cadastro, atualização e remoção")
+    void deveAjustarContadoresPorEvento() {
+        when(clienteRepositoryPort.count()).thenReturn(3L);
+        when(clienteRepositoryPort.countPorDiaDeCadastro(ZoneOffset.UTC)).thenReturn(Map.of(HOJE.minusDays(1), 2L, HOJE.minusDays(40), 1L));
+        when(clienteRepositoryPort.countPorDominioDeEmail()).thenReturn(Map.of("example.com", 2L, "empresa.com", 1L));
+        Cliente novo = new Cliente(10L, "Ana", "ana@Empresa.com", "11111111111", AGORA);
+        Cliente antigo = new Cliente(1L, "Bruno", "bruno@example.com", "22222222222", AGORA.minus(Duration.ofDays(1)));
+
+        service.consultar(7, 10);
+        service.registrar(ClienteEvent.criado(novo));
+        service.registrar(ClienteEvent.removido(antigo));
+        Cliente atualizado = new Cliente(10L, "Ana", "ana@outro.com", "11111111111", AGORA);
+        service.registrar(ClienteEvent.atualizado(atualizado, "ana@Empresa.com"));
+        EstatisticasClientes estatisticas = service.consultar(3, 10);
+
+        verify(clienteRepositoryPort, times(1)).count();
+        assertThat(estatisticas.getTotal()).isEqualTo(3);
+        assertThat(estatisticas.getCadastrosPorDia())
+                .containsExactly(Map.entry(HOJE.minusDays(2), 0L), Map.entry(HOJE.minusDays(1), 1L), Map.entry(HOJE, 1L));
+        assertThat(estatisticas.getClientesPorDominio())
+                .containsExactly(Map.entry("empresa.com", 1L), Map.entry("example.com", 1L), Map.entry("outro.com", 1L));
+        assertThat(service.consultar(3, 1).getClientesPorDominio()).hasSize(1);
+        assertThat(estatisticas.getReconciliadoEm()).isEqualTo(AGORA);
+    }
+
+    @Test
+    @DisplayName("Deve substituir os contadores na reconciliação, preservando os eventos recebidos durante a consulta")
+    void deveReconciliarPreservandoEventosConcorrentes() {
+        when(clienteRepositoryPort.countPorDiaDeCadastro(ZoneOffset.UTC)).thenReturn(Map.of());
+        when(clienteRepositoryPort.countPorDominioDeEmail()).thenReturn(Map.of("example.com", 5L));
+        when(clienteRepositoryPort.count()).thenReturn(5L).thenAnswer(invocacao -> {
+            service.registrar(ClienteEvent.criado(new Cliente(99L, "Caio", "caio@example.com", "33333333333", AGORA)));
+            return 7L;
+        });
+        service.consultar(1, 10);
+        service.registrar(ClienteEvent.criado(new Cliente(98L, "Dora", "dora@example.com", "44444444444", AGORA)));
+
+        service.reconciliar();
+
+        EstatisticasClientes estatisticas = service.consultar(1, 10);
+        assertThat(estatisticas.getTotal()).isEqualTo(8);
+        assertThat(estatisticas.getCadastrosPorDia()).containsExactly(Map.entry(HOJE, 1L));
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar o ranking de domínios até a próxima alteração e ampliá-lo para limites maiores")
+    void deveReaproveitarRankingDeDominios() {
+        when(clienteRepositoryPort.countPorDiaDeCadastro(ZoneOffset.UTC)).thenReturn(Map.of());
+        when(clienteRepositoryPort.countPorDominioDeEmail()).thenReturn(Map.of("a.com", 3L, "b.com", 2L, "c.com", 1L, "d.com", 1L));
+
+        assertThat(service.consultar(1, 1).getClientesPorDominio()).containsExactly(Map.entry("a.com", 3L));
+        assertThat(service.consultar(1, 3).getClientesPorDominio())
+                .containsExactly(Map.entry("a.com", 3L), Map.entry("b.com", 2L), Map.entry("c.com", 1L));
+
+        service.registrar(ClienteEvent.criado(new Cliente(1L, "Ana", "ana@d.com", "11111111111", AGORA)));
+        service.registrar(ClienteEvent.criado(new Cliente(2L, "Bia", "bia@d.com", "22222222222", AGORA)));
+
+        assertThat(service.consultar(1, 2).getClientesPorDominio())
+                .containsExactly(Map.entry("a.com", 3L), Map.entry("d.com", 3L));
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.adapter.out.contexto.ContextoRequisicaoAdapter;
+import com.example.clienteapi.config.logging.CorrelationId;
+import com.example.clienteapi.domain.model.Cliente;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para GroupCommitClienteService")
+class GroupCommitClienteServiceTest {
+
+    @Mock
+    private ClienteService clienteService;
+
+    @Mock
+    private CriacaoClientesLoteProcessor criacaoClientesLoteProcessor;
+
+    private GroupCommitClienteService groupCommitClienteService;
+
+    @BeforeEach
+    void setUp() {
+        groupCommitClienteService = new GroupCommitClienteService(clienteService, criacaoClientesLoteProcessor,
+                new ContextoRequisicaoAdapter(), new SimpleMeterRegistry(), 10, Duration.ofMillis(200), 100, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        groupCommitClienteService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve gravar criações simultâneas em um único lote, devolvendo a cada chamador o próprio resultado")
+    void deveAgruparCriacoesSimultaneas() throws Exception {
+        when(criacaoClientesLoteProcessor.processar(anyList())).thenAnswer(invocation -> {
+            List<Cliente> clientes = invocation.getArgument(0);
+            List<Cliente> resultado = new ArrayList<>();
+            for (int i = 0; i < clientes.size(); i++) {
+                Cliente cliente = clientes.get(i);
+                resultado.add(cliente.getEmail().equals("existe@example.com")
+                        ? null
+                        : new Cliente((long) i + 1, cliente.getNome(), cliente.getEmail(), cliente.getCpf()));
+            }
+            return resultado;
+        });
+
+        CompletableFuture<Cliente> ana = criarAsync("ana@example.com");
+        CompletableFuture<Cliente> bia = criarAsync("bia@example.com");
+        CompletableFuture<Cliente> existente = criarAsync("existe@example.com");
+
+        assertThat(ana.get(5, TimeUnit.SECONDS).getEmail()).isEqualTo("ana@example.com");
+        assertThat(bia.get(5, TimeUnit.SECONDS).getEmail()).isEqualTo("bia@example.com");
+        assertThat(existente).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(Exception.class)
+                .withRootCauseInstanceOf(IllegalArgumentException.class)
+                .withMessageContaining("Email já cadastrado.");
+        verify(criacaoClientesLoteProcessor, times(1)).processar(anyList());
+        verifyNoInteractions(clienteService);
+    }
+
+    @Test
+    @DisplayName("Deve refazer individualmente os itens de um lote que falhou inteiro")
+    void deveRefazerItensIndividualmenteQuandoLoteFalha() {
+        Cliente novo = new Cliente(null, "Nome", "ana@example.com", "12345678901");
+        when(criacaoClientesLoteProcessor.processar(anyList())).thenThrow(new IllegalStateException("violação de unicidade"));
+        when(clienteService.criarCliente(any(Cliente.class))).thenReturn(new Cliente(1L, "Nome", "ana@example.com", "12345678901"));
+
+        Cliente criado = groupCommitClienteService.criarCliente(novo);
+
+        assertThat(criado.getId()).isEqualTo(1L);
+        verify(clienteService).criarCliente(novo);
+    }
+
+    @Test
+    @DisplayName("Deve propagar ao chamador a exceção da criação individual")
+    void devePropagarExcecaoIndividual() {
+        when(criacaoClientesLoteProcessor.processar(anyList())).thenThrow(new IllegalStateException("falha no lote"));
+        when(clienteService.criarCliente(any(Cliente.class))).thenThrow(new IllegalArgumentException("Email já cadastrado."));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> groupCommitClienteService.criarCliente(new Cliente(null, "Nome", "ana@example.com", "12345678901")));
+    }
+
+    @Test
+    @DisplayName("Deve gravar o lote com o identificador de correlação da requisição no MDC")
+    void deveRestaurarCorrelationIdNaGravacao() {
+        List<String> correlacoes = new CopyOnWriteArrayList<>();
+        when(criacaoClientesLoteProcessor.processar(anyList())).thenAnswer(invocation -> {
+            correlacoes.add(MDC.get(CorrelationId.MDC_KEY));
+            List<Cliente> clientes = invocation.getArgument(0);
+            return clientes.stream().map(cliente -> new Cliente(1L, cliente.getNome(), cliente.getEmail(), cliente.getCpf())).toList();
+        });
+
+        MDC.put(CorrelationId.MDC_KEY, "req-42");
+        try {
+            groupCommitClienteService.criarCliente(new Cliente(null, "Nome", "ana@example.com", "12345678901"));
+        } finally {
+            MDC.remove(CorrelationId.MDC_KEY);
+        }
+
+        assertThat(correlacoes).containsExactly("req-42");
+    }
+
+    @Test
+    @DisplayName("Deve falhar os pedidos pendentes e gravar os próximos diretamente quando a thread de gravação parar")
+    void deveFalharPendentesQuandoGravacaoParar() throws Exception {
+        when(criacaoClientesLoteProcessor.processar(anyList())).thenThrow(new OutOfMemoryError("simulado"));
+        when(clienteService.criarCliente(any(Cliente.class))).thenReturn(new Cliente(2L, "Nome", "bia@example.com", "12345678901"));
+
+        assertThatThrownBy(() -> groupCommitClienteService.criarCliente(new Cliente(null, "Nome", "ana@example.com", "12345678901")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseInstanceOf(OutOfMemoryError.class);
+
+        Cliente criado = groupCommitClienteService.criarCliente(new Cliente(null, "Nome", "bia@example.com", "12345678901"));
+        assertThat(criado.getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Deve desistir de esperar pela gravação após o timeout")
+    void deveDesistirAposTimeout() throws InterruptedException {
+        groupCommitClienteService.shutdown();
+        groupCommitClienteService = new GroupCommitClienteService(clienteService, criacaoClientesLoteProcessor,
+                new ContextoRequisicaoAdapter(), new SimpleMeterRegistry(), 10, Duration.ofMillis(1), 100, Duration.ofMillis(100));
+        when(criacaoClientesLoteProcessor.processar(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            List<Cliente> clientes = invocation.getArgument(0);
+            return clientes;
+        });
+
+        assertThatThrownBy(() -> groupCommitClienteService.criarCliente(new Cliente(null, "Nome", "ana@example.com", "12345678901")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Tempo esgotado");
+    }
+
+    private CompletableFuture<Cliente> criarAsync(String email) {
+        return CompletableFuture.supplyAsync(() ->
+                groupCommitClienteService.criarCliente(new Cliente(null, "Nome", email, "12345678901")));
+    }
+}
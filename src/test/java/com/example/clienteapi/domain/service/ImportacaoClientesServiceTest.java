@@ -0,0 +1,134 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.domain.model.Cliente;
+import com.example.clienteapi.domain.model.Importacao;
+import com.example.clienteapi.domain.model.LinhaImportacao;
+import com.example.clienteapi.domain.port.out.ClienteEventPublisherPort;
+import com.example.clienteapi.domain.port.out.ClienteRepositoryPort;
+import com.example.clienteapi.domain.port.out.EmailServicePort;
+import com.example.clienteapi.domain.port.out.ImportacaoRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para ImportacaoClientesService")
+class ImportacaoClientesServiceTest {
+
+    @Mock
+    private ClienteRepositoryPort clienteRepositoryPort;
+
+    @Mock
+    private ImportacaoRepositoryPort importacaoRepositoryPort;
+
+    @Mock
+    private EmailServicePort emailServicePort;
+
+    @Mock
+    private ClienteEventPublisherPort clienteEventPublisherPort;
+
+    private ImportacaoClientesService importacaoClientesService;
+
+    @BeforeEach
+    void setUp() {
+        ImportacaoLoteProcessor processor = new ImportacaoLoteProcessor(
+                clienteRepositoryPort, importacaoRepositoryPort, emailServicePort, clienteEventPublisherPort);
+        importacaoClientesService = new ImportacaoClientesService(importacaoRepositoryPort, processor, 2);
+        when(importacaoRepositoryPort.save(any(Importacao.class))).thenAnswer(invocation -> {
+            Importacao importacao = invocation.getArgument(0);
+            if (importacao.getId() == null) {
+                importacao.setId(10L);
+            }
+            return importacao;
+        });
+    }
+
+    @Test
+    @DisplayName("Deve importar em lotes descartando inválidos e e-mails duplicados no arquivo ou no banco")
+    void deveImportarEmLotes() {
+        AtomicLong ids = new AtomicLong();
+        when(clienteRepositoryPort.findExistingEmails(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Set<String>>getArgument(0).contains("existe@example.com")
+                        ? Set.of("existe@example.com") : Set.of());
+        when(clienteRepositoryPort.saveAll(anyList())).thenAnswer(invocation -> invocation.<List<Cliente>>getArgument(0).stream()
+                .map(c -> new Cliente(ids.incrementAndGet(), c.getNome(), c.getEmail(), c.getCpf()))
+                .toList());
+
+        Importacao resultado = importacaoClientesService.importar(null, List.of(
+                valida(1, "ana@example.com"),
+                valida(2, "ana@example.com"),
+                valida(3, "existe@example.com"),
+                new LinhaImportacao(4, null, "Email inválido"),
+                valida(5, "bia@example.com")).iterator());
+
+        assertThat(resultado.getStatus()).isEqualTo(Importacao.Status.CONCLUIDA);
+        assertThat(resultado.getLinhasConfirmadas()).isEqualTo(5);
+        assertThat(resultado.getImportados()).isEqualTo(2);
+        assertThat(resultado.getDuplicados()).isEqualTo(2);
+        assertThat(resultado.getInvalidos()).isEqualTo(1);
+        verify(clienteRepositoryPort, times(2)).saveAll(anyList());
+        verify(emailServicePort, times(2)).sendWelcomeEmails(anyList());
+        verify(clienteEventPublisherPort, times(2)).publish(any());
+    }
+
+    @Test
+    @DisplayName("Deve retomar a importação a partir da última linha confirmada")
+    void deveRetomarImportacao() {
+        Importacao interrompida = Importacao.nova();
+        interrompida.setId(7L);
+        interrompida.setStatus(Importacao.Status.FALHOU);
+        interrompida.setLinhasConfirmadas(2);
+        interrompida.setImportados(2);
+        when(importacaoRepositoryPort.findById(7L)).thenReturn(Optional.of(interrompida));
+        when(clienteRepositoryPort.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(clienteRepositoryPort.saveAll(anyList())).thenReturn(List.of(new Cliente(3L, "Caio", "caio@example.com", "12345678901")));
+
+        Importacao resultado = importacaoClientesService.importar(7L, List.of(
+                valida(1, "ana@example.com"),
+                valida(2, "bia@example.com"),
+                valida(3, "caio@example.com")).iterator());
+
+        assertThat(resultado.getStatus()).isEqualTo(Importacao.Status.CONCLUIDA);
+        assertThat(resultado.getLinhasConfirmadas()).isEqualTo(3);
+        assertThat(resultado.getImportados()).isEqualTo(3);
+        verify(clienteRepositoryPort).saveAll(List.of(new Cliente(null, "Nome", "caio@example.com", "12345678901")));
+    }
+
+    @Test
+    @DisplayName("Deve marcar a importação como falha mantendo o progresso confirmado")
+    void deveMarcarImportacaoComoFalha() {
+        when(clienteRepositoryPort.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(clienteRepositoryPort.saveAll(anyList()))
+                .thenReturn(List.of(new Cliente(1L, "Nome", "ana@example.com", "12345678901"),
+                        new Cliente(2L, "Nome", "bia@example.com", "12345678901")))
+                .thenThrow(new IllegalStateException("conexão perdida"));
+
+        Importacao resultado = importacaoClientesService.importar(null, List.of(
+                valida(1, "ana@example.com"),
+                valida(2, "bia@example.com"),
+                valida(3, "caio@example.com")).iterator());
+
+        assertThat(resultado.getId()).isEqualTo(10L);
+        assertThat(resultado.getStatus()).isEqualTo(Importacao.Status.FALHOU);
+        assertThat(resultado.getLinhasConfirmadas()).isEqualTo(2);
+        assertThat(resultado.getImportados()).isEqualTo(2);
+    }
+
+    private static LinhaImportacao valida(long numero, String email) {
+        return new LinhaImportacao(numero, new Cliente(null, "Nome", email, "12345678901"), null);
+    }
+}
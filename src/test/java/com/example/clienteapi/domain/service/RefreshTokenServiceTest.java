@@ -0,0 +1,88 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.adapter.out.memory.InMemoryRefreshTokenRepositoryAdapter;
+import com.example.clienteapi.domain.model.RefreshToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para RefreshTokenService")
+class RefreshTokenServiceTest {
+
+    private final AtomicReference<Instant> agora = new AtomicReference<>(Instant.parse("2024-06-01T10:00:00Z"));
+    private final InMemoryRefreshTokenRepositoryAdapter repositorio = new InMemoryRefreshTokenRepositoryAdapter();
+    private final RefreshTokenService service = new RefreshTokenService(repositorio, Duration.ofHours(1), new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora.get();
+        }
+    });
+
+    @Test
+    @DisplayName("Deve aceitar cada refresh token uma única vez, armazenando apenas o hash")
+    void deveAceitarTokenUmaUnicaVez() {
+        String token = service.emitir("admin");
+
+        assertThat(repositorio.consumir(token)).isEmpty();
+        String segundo = service.emitir("admin");
+        assertThat(service.consumir(segundo)).map(RefreshToken::getUsername).contains("admin");
+        assertThat(service.consumir(segundo)).isEmpty();
+        assertThat(service.consumir("desconhecido")).isEmpty();
+        assertThat(service.consumir(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve revogar a família inteira quando um refresh token já usado é reapresentado")
+    void deveRevogarFamiliaNaReutilizacao() {
+        String original = service.emitir("admin");
+        String outroLogin = service.emitir("admin");
+        RefreshToken consumido = service.consumir(original).orElseThrow();
+        String rotacionado = service.rotacionar(consumido);
+
+        assertThat(service.consumir(original)).isEmpty();
+
+        assertThat(service.consumir(rotacionado)).isEmpty();
+        assertThat(service.consumir(outroLogin)).map(RefreshToken::getUsername).contains("admin");
+    }
+
+    @Test
+    @DisplayName("Deve revogar no logout o refresh token e os renovados a partir dele")
+    void deveRevogarFamiliaNoLogout() {
+        String rotacionado = service.rotacionar(service.consumir(service.emitir("admin")).orElseThrow());
+
+        service.revogar(rotacionado);
+
+        assertThat(repositorio.findByHash(RefreshTokenService.hash(rotacionado))).isEmpty();
+        assertThat(service.consumir(rotacionado)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve recusar refresh token expirado e removê-lo na limpeza periódica")
+    void deveRecusarTokenExpirado() {
+        String expirado = service.emitir("admin");
+        String outro = service.emitir("admin");
+
+        agora.set(agora.get().plus(Duration.ofHours(2)));
+        assertThat(service.consumir(expirado)).isEmpty();
+
+        service.emitir("admin");
+        assertThat(repositorio.consumir(RefreshTokenService.hash(outro))).isEmpty();
+    }
+}
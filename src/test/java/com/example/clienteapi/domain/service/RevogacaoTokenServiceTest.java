@@ -0,0 +1,107 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.adapter.out.memory.InMemoryTokenRevogadoRepositoryAdapter;
+import com.example.clienteapi.domain.model.TokenRevogado;
+import com.example.clienteapi.domain.port.out.TokenRevogadoPublisherPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Testes Unitários para RevogacaoTokenService")
+class RevogacaoTokenServiceTest {
+
+    private final AtomicReference<Instant> agora = new AtomicReference<>(Instant.parse("2024-06-01T10:00:00Z"));
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora.get();
+        }
+    };
+    private final InMemoryTokenRevogadoRepositoryAdapter repositorio = new InMemoryTokenRevogadoRepositoryAdapter();
+    private final TokenRevogadoPublisherPort publisher = mock(TokenRevogadoPublisherPort.class);
+    private final RevogacaoTokenService service = new RevogacaoTokenService(repositorio, publisher, clock);
+
+    @Test
+    @DisplayName("Deve revogar, gravar e publicar uma única vez e recarregar as revogações após reinício")
+    void deveRevogarGravarEPublicar() {
+        Instant expiraEm = agora.get().plus(Duration.ofMinutes(15));
+
+        service.revogar(42L, expiraEm);
+        service.revogar(42L, expiraEm);
+
+        assertThat(service.isRevogado(42L, expiraEm.getEpochSecond())).isTrue();
+        assertThat(service.isRevogado(43L, expiraEm.getEpochSecond())).isFalse();
+        verify(publisher, times(1)).publicar(any());
+
+        RevogacaoTokenService reiniciado = new RevogacaoTokenService(repositorio, publisher, clock);
+        reiniciado.carregar();
+        assertThat(reiniciado.isRevogado(42L, expiraEm.getEpochSecond())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar revogações recebidas de outras instâncias e ignorar tokens já expirados")
+    void deveAplicarRevogacaoRemota() {
+        Instant expiraEm = agora.get().plus(Duration.ofMinutes(5));
+
+        service.aplicar(new TokenRevogado(7L, expiraEm));
+        service.revogar(8L, agora.get().minusSeconds(1));
+
+        assertThat(service.isRevogado(7L, expiraEm.getEpochSecond())).isTrue();
+        assertThat(service.isRevogado(8L, agora.get().minusSeconds(1).getEpochSecond())).isFalse();
+        assertThat(repositorio.removerExpirados(agora.get())).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descartar baldes inteiros quando o minuto de expiração passa")
+    void deveDescartarBaldesExpirados() {
+        TokensRevogados revogados = new TokensRevogados();
+        long inicio = agora.get().getEpochSecond();
+        for (int i = 0; i < 300; i++) {
+            revogados.adicionar(i, inicio + 60 + i, inicio);
+        }
+        assertThat(revogados.quantidadeBaldes()).isBetween(5, 6);
+
+        revogados.contem(0L, inicio + 60, inicio + 240);
+
+        assertThat(revogados.tamanho()).isLessThan(300);
+        assertThat(revogados.contem(299L, inicio + 359, inicio + 240)).isTrue();
+        assertThat(revogados.quantidadeBaldes()).isBetween(2, 3);
+    }
+
+    @Test
+    @DisplayName("Deve manter um milhão de tokens revogados em poucos bytes por entrada")
+    void deveManterUmMilhaoDeTokensEmPoucaMemoria() {
+        TokensRevogados revogados = new TokensRevogados();
+        long inicio = agora.get().getEpochSecond();
+        long expiraEm = inicio + 900;
+        for (int i = 0; i < 1_000_000; i++) {
+            revogados.adicionar(ThreadLocalRandom.current().nextLong(), expiraEm + i % 15 * 60, inicio);
+        }
+
+        long bytes = revogados.bytesEstimados();
+        assertThat(revogados.tamanho()).isEqualTo(1_000_000);
+        assertThat(bytes / 1_000_000.0).isLessThan(24.0);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.clienteapi.domain.service;
+
+import com.example.clienteapi.adapter.out.memory.InMemoryUsuarioRepositoryAdapter;
+import com.example.clienteapi.config.TunableBCryptPasswordEncoder;
+import com.example.clienteapi.domain.model.Usuario;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes Unitários para UsuarioService")
+class UsuarioServiceTest {
+
+    private final InMemoryUsuarioRepositoryAdapter usuarioRepository = new InMemoryUsuarioRepositoryAdapter();
+    private final UsuarioService usuarioService = new UsuarioService(usuarioRepository);
+
+    @Test
+    @DisplayName("Deve autenticar e recalcular o hash da senha quando o custo do BCrypt muda, para mais ou para menos")
+    void deveRecalcularHashQuandoCustoMuda() {
+        usuarioService.criar(new Usuario(null, "ana", new TunableBCryptPasswordEncoder(6).encode("segredo"), List.of("ADMIN")));
+
+        Authentication autenticacao = provider(4).authenticate(new UsernamePasswordAuthenticationToken("ana", "segredo"));
+
+        assertThat(autenticacao.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        String novoHash = usuarioRepository.findByUsername("ana").orElseThrow().getSenha();
+        assertThat(novoHash).startsWith("$2a$04$");
+
+        provider(4).authenticate(new UsernamePasswordAuthenticationToken("ana", "segredo"));
+        assertThat(usuarioRepository.findByUsername("ana").orElseThrow().getSenha()).isEqualTo(novoHash);
+    }
+
+    @Test
+    @DisplayName("Não deve recalcular o hash quando a senha está errada")
+    void naoDeveRecalcularHashComSenhaErrada() {
+        String hash = new TunableBCryptPasswordEncoder(6).encode("segredo");
+        usuarioService.criar(new Usuario(null, "bia", hash, List.of("USER")));
+
+        assertThrows(BadCredentialsException.class,
+                () -> provider(4).authenticate(new UsernamePasswordAuthenticationToken("bia", "errada")));
+        assertThat(usuarioRepository.findByUsername("bia").orElseThrow().getSenha()).isEqualTo(hash);
+    }
+
+    private DaoAuthenticationProvider provider(int custo) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(new TunableBCryptPasswordEncoder(custo));
+        provider.setUserDetailsService(usuarioService);
+        provider.setUserDetailsPasswordService(usuarioService);
+        return provider;
+    }
+}